@@ -0,0 +1,82 @@
+package com.example.kaboocampostproject.domain.cascade.document;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/// 연쇄 soft delete 요청 (게시물 삭제 / 회원 탈퇴)
+/// _id = {targetType}:{targetId} 라서 같은 대상은 요청이 하나만 남는다
+/// 워커는 step 순서대로, 각 step 안에서는 _id 오름차순 배치로 진행하고 배치마다 (step, cursor)를 기록 -> 재기동 후 이어서 진행
+/// 끝난 요청은 지운다 (탈퇴 -> 복구 -> 재탈퇴도 새 요청으로 처리)
+/// 실패한 요청은 nextAttemptAt까지 뒤로 미루고(지수 백오프), maxAttempts번 연속 실패하면 parkedAt을 기록해 더 이상 집지 않는다
+/// (원인 해결 후 parkedAt을 지우면 다시 처리)
+@Document(collection = "delete_intents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@FieldNameConstants(innerTypeName = "DeleteIntentFields")
+@CompoundIndex(
+        name = "idx_requestedAt",
+        def = "{'requestedAt': 1}"
+)
+public class DeleteIntentDocument {
+
+    @Id
+    private String id;
+
+    private TargetType targetType;
+    private String targetId;
+
+    private Step step;
+    // 현재 step에서 마지막으로 처리한 _id (없으면 처음부터)
+    private String cursor;
+    private long processed;
+
+    // 하위 문서의 deletedAt으로 그대로 사용
+    private Instant requestedAt;
+    private Instant updatedAt;
+
+    // 진행 없이 연속 실패한 횟수 (진행을 기록하면 0)
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String lastError;
+    private Instant parkedAt;
+
+    public enum Step {
+        POST_COMMENTS,   // 게시물의 댓글
+        MEMBER_LIKES,    // 회원의 좋아요 (LikeStore)
+        MEMBER_POSTS,    // 회원의 게시물 (게시물마다 POST 요청 추가)
+        MEMBER_COMMENTS  // 회원의 댓글 (게시물 댓글 수 차감)
+    }
+
+    public enum TargetType {
+        POST(List.of(Step.POST_COMMENTS)),
+        MEMBER(List.of(Step.MEMBER_LIKES, Step.MEMBER_POSTS, Step.MEMBER_COMMENTS));
+
+        private final List<Step> steps;
+
+        TargetType(List<Step> steps) {
+            this.steps = steps;
+        }
+
+        public Step firstStep() {
+            return steps.get(0);
+        }
+
+        // 마지막 step이면 null
+        public Step nextStep(Step step) {
+            int index = steps.indexOf(step);
+            return index + 1 < steps.size() ? steps.get(index + 1) : null;
+        }
+    }
+
+    public static String idOf(TargetType targetType, String targetId) {
+        return targetType + ":" + targetId;
+    }
+}
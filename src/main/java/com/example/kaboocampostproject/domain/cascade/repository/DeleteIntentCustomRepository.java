@@ -0,0 +1,27 @@
+package com.example.kaboocampostproject.domain.cascade.repository;
+
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument;
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument.Step;
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument.TargetType;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface DeleteIntentCustomRepository {
+
+    // 이미 있으면 그대로 둔다 (진행 중인 요청을 처음으로 되돌리지 않음)
+    void insertIfAbsent(TargetType targetType, Collection<String> targetIds, Instant requestedAt);
+
+    // 지금 처리할 수 있는 가장 오래된 요청 (재시도 대기 중 / 보류된 요청 제외)
+    Optional<DeleteIntentDocument> findOldestReady(Instant now);
+
+    // 진행 위치 기록 (연속 실패 횟수 초기화). 그 사이 취소돼서 요청이 없으면 false
+    boolean saveProgress(String id, Step step, String cursor, long processedDelta);
+
+    // 실패 기록. nextAttemptAt 이후 재시도
+    void recordFailure(String id, int attempts, Instant nextAttemptAt, String error);
+
+    // 재시도 중단 (보류)
+    void park(String id, int attempts, String error);
+}
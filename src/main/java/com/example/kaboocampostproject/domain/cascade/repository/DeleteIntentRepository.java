@@ -0,0 +1,7 @@
+package com.example.kaboocampostproject.domain.cascade.repository;
+
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface DeleteIntentRepository extends MongoRepository<DeleteIntentDocument, String>, DeleteIntentCustomRepository {
+}
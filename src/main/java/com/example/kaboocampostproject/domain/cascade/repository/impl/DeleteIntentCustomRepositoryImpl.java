@@ -0,0 +1,105 @@
+package com.example.kaboocampostproject.domain.cascade.repository.impl;
+
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument;
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument.DeleteIntentFields;
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument.Step;
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument.TargetType;
+import com.example.kaboocampostproject.domain.cascade.repository.DeleteIntentCustomRepository;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class DeleteIntentCustomRepositoryImpl implements DeleteIntentCustomRepository {
+
+    private final MongoTemplate mongo;
+
+    private static final String COLLECTION = "delete_intents";
+
+    @Override
+    public void insertIfAbsent(TargetType targetType, Collection<String> targetIds, Instant requestedAt) {
+        if (targetIds.isEmpty()) return;
+
+        Date now = Date.from(requestedAt);
+        List<UpdateOneModel<Document>> upserts = targetIds.stream()
+                .map(targetId -> new UpdateOneModel<Document>(
+                        Filters.eq("_id", DeleteIntentDocument.idOf(targetType, targetId)),
+                        Updates.combine(
+                                Updates.setOnInsert(DeleteIntentFields.targetType, targetType.name()),
+                                Updates.setOnInsert(DeleteIntentFields.targetId, targetId),
+                                Updates.setOnInsert(DeleteIntentFields.step, targetType.firstStep().name()),
+                                Updates.setOnInsert(DeleteIntentFields.processed, 0L),
+                                Updates.setOnInsert(DeleteIntentFields.requestedAt, now),
+                                Updates.setOnInsert(DeleteIntentFields.updatedAt, now)
+                        ),
+                        new UpdateOptions().upsert(true)))
+                .toList();
+        mongo.getCollection(COLLECTION).bulkWrite(upserts, new BulkWriteOptions().ordered(false));
+    }
+
+    // 요청 수가 적은 컬렉션이라 idx_requestedAt 순서대로 읽으며 조건을 거른다
+    @Override
+    public Optional<DeleteIntentDocument> findOldestReady(Instant now) {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where(DeleteIntentFields.parkedAt).is(null),
+                new Criteria().orOperator(
+                        Criteria.where(DeleteIntentFields.nextAttemptAt).is(null),
+                        Criteria.where(DeleteIntentFields.nextAttemptAt).lte(now))))
+                .with(Sort.by(Sort.Order.asc(DeleteIntentFields.requestedAt)))
+                .limit(1);
+        return Optional.ofNullable(mongo.findOne(query, DeleteIntentDocument.class));
+    }
+
+    @Override
+    public boolean saveProgress(String id, Step step, String cursor, long processedDelta) {
+        Query query = new Query(Criteria.where(DeleteIntentFields.id).is(id));
+        Update update = new Update()
+                .set(DeleteIntentFields.step, step)
+                .set(DeleteIntentFields.cursor, cursor)
+                .inc(DeleteIntentFields.processed, processedDelta)
+                .set(DeleteIntentFields.updatedAt, Instant.now())
+                .set(DeleteIntentFields.attempts, 0)
+                .unset(DeleteIntentFields.nextAttemptAt);
+        return mongo.updateFirst(query, update, DeleteIntentDocument.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public void recordFailure(String id, int attempts, Instant nextAttemptAt, String error) {
+        Query query = new Query(Criteria.where(DeleteIntentFields.id).is(id));
+        Update update = new Update()
+                .set(DeleteIntentFields.attempts, attempts)
+                .set(DeleteIntentFields.nextAttemptAt, nextAttemptAt)
+                .set(DeleteIntentFields.lastError, error)
+                .set(DeleteIntentFields.updatedAt, Instant.now());
+        mongo.updateFirst(query, update, DeleteIntentDocument.class);
+    }
+
+    @Override
+    public void park(String id, int attempts, String error) {
+        Instant now = Instant.now();
+        Query query = new Query(Criteria.where(DeleteIntentFields.id).is(id));
+        Update update = new Update()
+                .set(DeleteIntentFields.attempts, attempts)
+                .set(DeleteIntentFields.lastError, error)
+                .set(DeleteIntentFields.parkedAt, now)
+                .set(DeleteIntentFields.updatedAt, now);
+        mongo.updateFirst(query, update, DeleteIntentDocument.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.kaboocampostproject.domain.cascade.service;
+
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument;
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument.TargetType;
+import com.example.kaboocampostproject.domain.cascade.repository.DeleteIntentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+/// 연쇄 soft delete 요청. 요청 문서 하나만 저장하고 바로 반환 (하위 문서는 CascadeDeleteWorker가 처리)
+/// 요청은 대상 삭제보다 먼저 기록하고 실패하면 예외를 그대로 던진다 -> 대상만 지워지고 하위 문서가 남는 일이 없다
+/// 대상 삭제가 실패/롤백돼서 남은 요청은 워커가 대상이 살아있는 것을 확인하고 버린다
+@Service
+@RequiredArgsConstructor
+public class CascadeDeleteService {
+
+    private final DeleteIntentRepository intentRepository;
+    private final CascadeDeleteWorker worker;
+
+    // 게시물 soft delete 전에 호출 -> 댓글
+    public void requestPostDelete(String postId) {
+        request(TargetType.POST, postId);
+    }
+
+    // 회원 삭제 트랜잭션 안에서 호출 (기록 실패 시 회원 삭제도 롤백) -> 좋아요, 게시물(+ 게시물의 댓글), 회원의 댓글
+    public void requestMemberDelete(Long memberId) {
+        request(TargetType.MEMBER, memberId.toString());
+    }
+
+    // 회원 복구. 아직 처리되지 않은 하위 문서만 남는다
+    public void cancelMemberDelete(Long memberId) {
+        afterCommit(() -> intentRepository.deleteById(DeleteIntentDocument.idOf(TargetType.MEMBER, memberId.toString())));
+    }
+
+    // 기록은 바로, 워커는 커밋된 뒤에 깨운다 (커밋 전에 깨우면 대상이 아직 살아있어 미뤄진다)
+    private void request(TargetType targetType, String targetId) {
+        intentRepository.insertIfAbsent(targetType, List.of(targetId), Instant.now());
+        afterCommit(worker::wakeUp);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
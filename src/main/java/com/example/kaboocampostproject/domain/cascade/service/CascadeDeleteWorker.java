@@ -0,0 +1,260 @@
+package com.example.kaboocampostproject.domain.cascade.service;
+
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument;
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument.Step;
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument.TargetType;
+import com.example.kaboocampostproject.domain.cascade.repository.DeleteIntentRepository;
+import com.example.kaboocampostproject.domain.comment.cache.CommentFirstPageCacheService;
+import com.example.kaboocampostproject.domain.comment.document.CommentDocument;
+import com.example.kaboocampostproject.domain.comment.repository.CommentMongoRepository;
+import com.example.kaboocampostproject.domain.comment.service.CommentBucketService;
+import com.example.kaboocampostproject.domain.like.store.LikeStore;
+import com.example.kaboocampostproject.domain.member.repository.MemberRepository;
+import com.example.kaboocampostproject.domain.post.cache.PostDetailCacheService;
+import com.example.kaboocampostproject.domain.post.cache.PostFirstPageCacheService;
+import com.example.kaboocampostproject.domain.post.cache.PostSummaryCacheService;
+import com.example.kaboocampostproject.domain.post.repository.PostMongoRepository;
+import com.example.kaboocampostproject.domain.post.service.PostHotRankService;
+import com.example.kaboocampostproject.global.config.CascadeDeleteProperties;
+import com.example.kaboocampostproject.global.lock.RedisLease;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/// 연쇄 soft delete 워커 (WAS 하나만 실행, 리더 임대)
+/// - 가장 오래된 요청부터 현재 step의 _id 범위 배치 하나씩 처리하고 (step, cursor)를 기록
+///   -> 요청 처리 중 재기동해도 마지막 배치 다음부터 이어서 진행, 같은 배치를 다시 처리해도 deletedAt이 null인 것만 바뀐다
+/// - 배치 사이 pauseMs 대기, 요청이 없으면 idleMs 동안 대기 (같은 WAS에서 요청이 들어오면 바로 깨어남)
+/// - 요청은 대상 삭제보다 먼저 기록되므로, 대상이 아직 살아있으면 미루고 ABANDON_AFTER가 지나도 살아있으면 버린다 (삭제 실패/롤백/복구)
+/// - 실패한 요청은 지수 백오프로 뒤로 미뤄 다음 요청이 막히지 않게 하고, maxAttempts번 연속 실패하면 보류
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CascadeDeleteWorker {
+
+    private static final Duration LEASE_TTL = Duration.ofSeconds(60);
+    private static final long RETRY_DELAY_MS = 5_000;
+    private static final Duration ABANDON_AFTER = Duration.ofMinutes(10);
+
+    private final DeleteIntentRepository intentRepository;
+    private final CommentMongoRepository commentRepository;
+    private final CommentBucketService commentBucketService;
+    private final PostMongoRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final LikeStore likeStore;
+    private final PostHotRankService postHotRankService;
+    private final PostSummaryCacheService postSummaryCacheService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final PostFirstPageCacheService postFirstPageCacheService;
+    private final CommentFirstPageCacheService commentFirstPageCacheService;
+    private final CascadeDeleteProperties properties;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Object signal = new Object();
+    private volatile boolean stopped;
+
+    // lastId == null 이면 step 완료
+    private record Batch(String lastId, long deleted) {
+        static final Batch END = new Batch(null, 0L);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::run, "cascade-delete");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        wakeUp();
+    }
+
+    public void wakeUp() {
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+    }
+
+    private void run() {
+        RedisLease lease = new RedisLease(redisTemplate, RedisMetadata.CASCADE_DELETE.keyOf("LEASE"), LEASE_TTL);
+        while (!stopped) {
+            try {
+                if (!lease.acquire()) {
+                    sleep(RETRY_DELAY_MS);
+                    continue;
+                }
+                if (!processNext()) {
+                    idle();
+                    continue;
+                }
+                sleep(properties.getPauseMs());
+            } catch (Exception e) {
+                log.warn("연쇄 삭제 배치 실패. 재시도 예정", e);
+                sleep(RETRY_DELAY_MS);
+            }
+        }
+    }
+
+    // 가장 오래된 요청의 배치 하나. 처리할 요청이 없으면 false
+    boolean processNext() {
+        Optional<DeleteIntentDocument> intent = intentRepository.findOldestReady(Instant.now());
+        if (intent.isEmpty()) return false;
+        try {
+            processBatch(intent.get());
+        } catch (Exception e) {
+            recordFailure(intent.get(), e);
+        }
+        return true;
+    }
+
+    private void processBatch(DeleteIntentDocument intent) {
+        if (!isTargetDeleted(intent)) {
+            if (intent.getRequestedAt().isBefore(Instant.now().minus(ABANDON_AFTER))) {
+                intentRepository.deleteById(intent.getId());
+                log.info("대상이 삭제되지 않은 연쇄 삭제 요청 제거. {}: {}", intent.getTargetType(), intent.getTargetId());
+                return;
+            }
+            // 대상 삭제 커밋 전. 실패 횟수는 그대로 두고 미룬다
+            intentRepository.recordFailure(intent.getId(), intent.getAttempts(),
+                    Instant.now().plusMillis(RETRY_DELAY_MS), "대상이 아직 삭제되지 않음");
+            return;
+        }
+
+        Step step = intent.getStep();
+        Batch batch = switch (step) {
+            case POST_COMMENTS -> deletePostComments(intent);
+            case MEMBER_LIKES -> deleteMemberLikes(intent);
+            case MEMBER_POSTS -> deleteMemberPosts(intent);
+            case MEMBER_COMMENTS -> deleteMemberComments(intent);
+        };
+
+        if (batch.lastId() != null) {
+            intentRepository.saveProgress(intent.getId(), step, batch.lastId(), batch.deleted());
+            return;
+        }
+
+        Step next = intent.getTargetType().nextStep(step);
+        if (next != null) {
+            intentRepository.saveProgress(intent.getId(), next, null, batch.deleted());
+            return;
+        }
+        intentRepository.deleteById(intent.getId());
+        log.info("연쇄 삭제 완료. {}: {}, 문서 {}건", intent.getTargetType(), intent.getTargetId(),
+                intent.getProcessed() + batch.deleted());
+    }
+
+    private boolean isTargetDeleted(DeleteIntentDocument intent) {
+        return switch (intent.getTargetType()) {
+            case POST -> postRepository.findByIdAndDeletedAtIsNull(intent.getTargetId()).isEmpty();
+            case MEMBER -> !memberRepository.existsById(Long.valueOf(intent.getTargetId()));
+        };
+    }
+
+    private void recordFailure(DeleteIntentDocument intent, Exception e) {
+        int attempts = intent.getAttempts() + 1;
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (attempts >= properties.getMaxAttempts()) {
+            intentRepository.park(intent.getId(), attempts, error);
+            log.error("연쇄 삭제 보류. {}: {}, step: {}, {}회 연속 실패. 원인 해결 후 parkedAt 제거 시 재처리",
+                    intent.getTargetType(), intent.getTargetId(), intent.getStep(), attempts, e);
+            return;
+        }
+        long delay = Math.min(properties.getRetryBaseMs() << Math.min(attempts - 1, 20), properties.getRetryMaxMs());
+        intentRepository.recordFailure(intent.getId(), attempts, Instant.now().plusMillis(delay), error);
+        log.warn("연쇄 삭제 배치 실패. {}: {}, step: {}, {}회째, {}ms 후 재시도",
+                intent.getTargetType(), intent.getTargetId(), intent.getStep(), attempts, delay, e);
+    }
+
+    // 게시물의 댓글 (게시물이 삭제됐으므로 댓글 수는 그대로). 다 지우면 댓글 버킷도 제거
+    private Batch deletePostComments(DeleteIntentDocument intent) {
+        List<CommentDocument> comments = commentRepository.findActiveIdsByPostIdAfter(
+                intent.getTargetId(), intent.getCursor(), properties.getBatchSize());
+        if (comments.isEmpty()) {
+            commentBucketService.deleteByPost(intent.getTargetId());
+            // 삭제 도중 다시 채워진 첫 페이지 캐시
+            commentFirstPageCacheService.evict(intent.getTargetId());
+            return Batch.END;
+        }
+
+        List<String> ids = comments.stream().map(CommentDocument::getId).toList();
+        long deleted = commentRepository.softDeleteByIds(ids, intent.getRequestedAt());
+        return new Batch(ids.get(ids.size() - 1), deleted);
+    }
+
+    // 좋아요는 저장소(LikeStore)가 회원 단위로 한번에 처리
+    private Batch deleteMemberLikes(DeleteIntentDocument intent) {
+        likeStore.deleteAllByMember(Long.valueOf(intent.getTargetId()));
+        return Batch.END;
+    }
+
+    // 회원의 게시물. 게시물마다 댓글 연쇄 삭제 요청을 먼저 남기고 soft delete
+    private Batch deleteMemberPosts(DeleteIntentDocument intent) {
+        List<String> postIds = postRepository.findActiveIdsByAuthorIdAfter(
+                Long.valueOf(intent.getTargetId()), intent.getCursor(), properties.getBatchSize());
+        if (postIds.isEmpty()) return Batch.END;
+
+        intentRepository.insertIfAbsent(TargetType.POST, postIds, intent.getRequestedAt());
+        long deleted = postRepository.softDeleteByIds(postIds, intent.getRequestedAt());
+
+        postIds.forEach(postId -> {
+            postHotRankService.remove(postId);
+            postSummaryCacheService.evict(postId);
+            postDetailCacheService.evict(postId);
+        });
+        commentFirstPageCacheService.evictAll(postIds);
+        postFirstPageCacheService.evictAll();
+        return new Batch(postIds.get(postIds.size() - 1), deleted);
+    }
+
+    // 회원이 다른 게시물에 쓴 댓글. 게시물별 댓글 수 차감
+    private Batch deleteMemberComments(DeleteIntentDocument intent) {
+        List<CommentDocument> comments = commentRepository.findActiveIdsByAuthorIdAfter(
+                Long.valueOf(intent.getTargetId()), intent.getCursor(), properties.getBatchSize());
+        if (comments.isEmpty()) return Batch.END;
+
+        List<String> ids = comments.stream().map(CommentDocument::getId).toList();
+        long deleted = commentRepository.softDeleteByIds(ids, intent.getRequestedAt());
+        commentBucketService.markDeleted(comments, intent.getRequestedAt());
+
+        Map<String, Long> deltas = new HashMap<>();
+        comments.forEach(comment -> deltas.merge(comment.getPostId(), -1L, Long::sum));
+        postRepository.incrementComments(deltas);
+        postHotRankService.markDirty(deltas.keySet());
+        commentFirstPageCacheService.evictAll(deltas.keySet());
+        return new Batch(ids.get(ids.size() - 1), deleted);
+    }
+
+    private void idle() {
+        synchronized (signal) {
+            try {
+                signal.wait(properties.getIdleMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopped = true;
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+        }
+    }
+}
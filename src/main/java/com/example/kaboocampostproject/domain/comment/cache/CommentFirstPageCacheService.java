@@ -0,0 +1,129 @@
+package com.example.kaboocampostproject.domain.comment.cache;
+
+import com.example.kaboocampostproject.global.async.SingleFlight;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/// 게시물별 댓글 첫 페이지 캐시 (COMMENT_FIRST_PAGE:{postId})
+/// 게시물 상세를 열 때마다 같은 쿼리를 실행하므로 회원과 무관한 부분만 공유한다.
+/// - 댓글 작성/수정/삭제, 게시물 삭제, 탈퇴 회원 댓글 연쇄 삭제 시 해당 게시물만 무효화
+/// - 무효화할 때마다 게시물별 버전(COMMENT_FIRST_PAGE:{postId}:v)을 올리고, 채울 때는 DB 조회 전 버전이 그대로일 때만 저장
+///   -> 조회와 저장 사이에 무효화된 이전 페이지가 TTL 동안 남지 않는다 (그 경우 다음 조회에서 다시 채움)
+/// - 작성자 프로필 변경은 TTL 동안 지연 반영
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentFirstPageCacheService {
+
+    // ARGV[1]: 조회 전 버전, ARGV[2]: 페이지, ARGV[3]: TTL(ms). 버전이 바뀌었으면 저장하지 않음
+    private static final byte[] SET_IF_UNCHANGED = (
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                    + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+                    + "return 1").getBytes(StandardCharsets.UTF_8);
+
+    // 버전을 올리고 페이지 삭제. 버전은 진행 중인 조회보다 오래 남으면 되므로 페이지 TTL과 같게 둔다
+    private static final byte[] EVICT = (
+            "redis.call('incr', KEYS[2]) redis.call('pexpire', KEYS[2], ARGV[1]) "
+                    + "return redis.call('del', KEYS[1])").getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, CommentPageCacheDTO> redisTemplate;
+    private final SingleFlight singleFlight;
+
+    private static byte[] raw(String value) {
+        return RedisSerializer.string().serialize(value);
+    }
+
+    private static byte[] pageKey(String postId) {
+        return raw(RedisMetadata.COMMENT_FIRST_PAGE.keyOf(postId));
+    }
+
+    private static byte[] versionKey(String postId) {
+        return raw(RedisMetadata.COMMENT_FIRST_PAGE.keyOf(postId, "v"));
+    }
+
+    private static byte[] ttlMillis() {
+        return raw(String.valueOf(RedisMetadata.COMMENT_FIRST_PAGE.getTtl().toMillis()));
+    }
+
+    public CommentPageCacheDTO getOrLoad(String postId, Supplier<CommentPageCacheDTO> loader) {
+        RedisMetadata meta = RedisMetadata.COMMENT_FIRST_PAGE;
+        String key = meta.keyOf(postId);
+
+        try {
+            CommentPageCacheDTO cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) return cached;
+        } catch (Exception e) {
+            // 레디스 장애 시 DB에서 바로 조회
+            log.warn("댓글 첫 페이지 캐시 조회 실패. postId: {}", postId, e);
+            return loader.get();
+        }
+
+        // 인기 게시물에 몰린 캐시 미스는 한번만 조회하고 저장
+        return singleFlight.execute("commentFirstPage", postId, () -> {
+            // 조회 전 버전 (없으면 "0"). 버전을 못 읽으면 조회 결과만 돌려주고 저장하지 않는다
+            byte[] version;
+            try {
+                version = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                        connection.stringCommands().get(versionKey(postId)));
+                if (version == null) version = raw("0");
+            } catch (Exception e) {
+                log.warn("댓글 첫 페이지 캐시 버전 조회 실패. postId: {}", postId, e);
+                version = null;
+            }
+            CommentPageCacheDTO page = loader.get();
+            if (version == null) return page;
+
+            byte[] expected = version;
+            try {
+                byte[] value = valueSerializer().serialize(page);
+                Long saved = redisTemplate.execute((RedisCallback<Long>) connection ->
+                        connection.scriptingCommands().eval(SET_IF_UNCHANGED, ReturnType.INTEGER, 2,
+                                pageKey(postId), versionKey(postId), expected, value, ttlMillis()));
+                if (saved == null || saved == 0L) log.debug("댓글 첫 페이지 캐시 저장 생략 (조회 중 무효화됨). postId: {}", postId);
+            } catch (Exception e) {
+                log.warn("댓글 첫 페이지 캐시 저장 실패. postId: {}", postId, e);
+            }
+            return page;
+        });
+    }
+
+    public void evict(String postId) {
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection ->
+                    connection.scriptingCommands().eval(EVICT, ReturnType.INTEGER, 2,
+                            pageKey(postId), versionKey(postId), ttlMillis()));
+        } catch (Exception e) {
+            log.warn("댓글 첫 페이지 캐시 무효화 실패. TTL 만료로 갱신. postId: {}", postId, e);
+        }
+    }
+
+    public void evictAll(Collection<String> postIds) {
+        if (postIds.isEmpty()) return;
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String postId : postIds) {
+                    connection.scriptingCommands().eval(EVICT, ReturnType.INTEGER, 2,
+                            pageKey(postId), versionKey(postId), ttlMillis());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("댓글 첫 페이지 캐시 무효화 실패. TTL 만료로 갱신. 게시물 {}건", postIds.size(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<CommentPageCacheDTO> valueSerializer() {
+        return (RedisSerializer<CommentPageCacheDTO>) redisTemplate.getValueSerializer();
+    }
+}
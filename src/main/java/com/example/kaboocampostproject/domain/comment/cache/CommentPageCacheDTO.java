@@ -0,0 +1,17 @@
+package com.example.kaboocampostproject.domain.comment.cache;
+
+import com.example.kaboocampostproject.domain.comment.dto.CommentSliceItem;
+
+import java.util.List;
+
+/// 회원과 무관한 댓글 페이지 (댓글 + 작성자 프로필 + 다음 커서)
+/// isMine은 요청마다 authorId로 다시 계산한다.
+public record CommentPageCacheDTO(
+        List<CachedComment> comments,
+        String nextCursor,
+        boolean hasNext
+) {
+    // 탈퇴한 작성자는 item.author에 id가 없어서 authorId를 따로 둔다
+    public record CachedComment(Long authorId, CommentSliceItem item) {
+    }
+}
@@ -52,16 +52,36 @@ public class CommentController {
     }
 
 
+    // after(기존 cursor): 더 오래된 댓글, before: 더 최신 댓글
     @GetMapping("/{postId}/comments")
     public ResponseEntity<CustomResponse<CommentSliceResDTO>> getCommentList(
             @PathVariable String postId,
             @RequestParam(required=false) String cursor,
+            @RequestParam(required=false) String after,
+            @RequestParam(required=false) String before,
             @MemberIdInfo Long memberId
     ) {
-        CommentSliceResDTO result = (cursor != null)
-                ? commentService.findNextByPost(memberId, postId, cursor)
-                : commentService.findFirstByPost(memberId, postId);
+        String next = (after != null) ? after : cursor;
+        CommentSliceResDTO result;
+        if (before != null) {
+            result = commentService.findPrevByPost(memberId, postId, before);
+        } else if (next != null) {
+            result = commentService.findNextByPost(memberId, postId, next);
+        } else {
+            result = commentService.findFirstByPost(memberId, postId);
+        }
 
         return ResponseEntity.ok(CustomResponse.onSuccess(HttpStatus.OK, result));
     }
+
+    // 댓글 하나를 가운데 둔 페이지 (알림에서 이동)
+    @GetMapping("/{postId}/comments/around/{commentId}")
+    public ResponseEntity<CustomResponse<CommentSliceResDTO>> getCommentsAround(
+            @PathVariable String postId,
+            @PathVariable String commentId,
+            @MemberIdInfo Long memberId
+    ) {
+        CommentSliceResDTO result = commentService.findAroundComment(memberId, postId, commentId);
+        return ResponseEntity.ok(CustomResponse.onSuccess(HttpStatus.OK, result));
+    }
 }
@@ -0,0 +1,72 @@
+package com.example.kaboocampostproject.domain.comment.document;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/// 게시물별 댓글 버킷 (작성 순으로 최대 N개)
+/// _id = {postId}:{seq} 로 고정, 새 댓글은 가장 큰 seq 버킷 끝에 $push 하고 가득 차면 seq + 1 버킷을 만든다
+/// comments 컬렉션이 원본이고 버킷은 목록 조회용 사본. 삭제된 댓글도 자리(offset)를 유지하도록 deletedAt만 기록
+/// 버킷에 빠진 댓글이 생기면 게시물의 버킷을 전부 지운다 -> 읽기는 comments 컬렉션으로, 다음 댓글부터 새 버킷(startedAt 갱신)
+@Document(collection = "comment_buckets")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@FieldNameConstants(innerTypeName = "CommentBucketFields")
+// 인덱스 자동 생성이 꺼져 있어 기동 시 CommentBucketCustomRepository.createIndexes()로 생성 (여기는 문서용)
+@CompoundIndexes({
+        @CompoundIndex(name = "idx_postId_seq_desc", def = "{'postId': 1, 'seq': -1}"),
+        // 댓글 수정/삭제는 (postId, commentId)로 들어온다
+        @CompoundIndex(name = "idx_postId_comments_commentId", def = "{'postId': 1, 'comments.commentId': 1}")
+})
+public class CommentBucketDocument {
+
+    @Id
+    private String id;
+
+    private String postId;
+    // 0부터 증가
+    private int seq;
+    private int count;
+    // seq 0 버킷이 만들어진 시각. 다음 버킷으로 그대로 이어진다 (app.comment-bucket.trusted-since 비교용)
+    private Instant startedAt;
+    // 작성 순 (최신 댓글이 끝)
+    private List<Entry> comments;
+
+    public static String idOf(String postId, int seq) {
+        return postId + ":" + seq;
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @FieldNameConstants(innerTypeName = "EntryFields")
+    public static class Entry {
+        private String commentId;
+        private Long authorId;
+        private String content;
+        private Instant createdAt;
+        private Instant updatedAt;
+        private Instant deletedAt;
+
+        public static Entry of(CommentDocument comment) {
+            Entry entry = new Entry();
+            entry.commentId = comment.getId();
+            entry.authorId = comment.getAuthorId();
+            entry.content = comment.getContent();
+            entry.createdAt = comment.getCreatedAt();
+            entry.updatedAt = comment.getUpdatedAt();
+            return entry;
+        }
+
+        public boolean isDeleted() {
+            return deletedAt != null;
+        }
+    }
+}
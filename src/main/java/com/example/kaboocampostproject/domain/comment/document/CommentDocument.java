@@ -10,7 +10,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -19,19 +19,24 @@ import java.time.Instant;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @FieldNameConstants(innerTypeName = "CommentFields")
-@CompoundIndex(
-        name = "idx_postId_createdAt_desc",
-        def = "{'postId': 1, 'createdAt': -1}"
-)
+// 인덱스 자동 생성이 꺼져 있어 기동 시 CommentCustomRepository.createIndexes()로 생성 (여기는 문서용)
+@CompoundIndexes({
+        // 목록/앞뒤 페이지/주변 조회: postId, deletedAt(null) 동등 조건 뒤에 (createdAt, _id) 범위 + 정렬
+        @CompoundIndex(
+                name = "idx_postId_deletedAt_createdAt_id_desc",
+                def = "{'postId': 1, 'deletedAt': 1, 'createdAt': -1, '_id': -1}"
+        ),
+        // 연쇄 삭제 _id 범위 배치 (postId / authorId 단독 조회도 prefix로 처리)
+        @CompoundIndex(name = "idx_postId_id", def = "{'postId': 1, '_id': 1}"),
+        @CompoundIndex(name = "idx_authorId_id", def = "{'authorId': 1, '_id': 1}")
+})
 public class CommentDocument {
 
     @Id
     private String id;
 
-    @Indexed(name = "idx_postId")
     private String postId;
 
-    @Indexed(name = "idx_authorId")
     private Long authorId;
 
     private String content;
@@ -51,6 +56,16 @@ public class CommentDocument {
         this.content = content;
     }
 
+    // 버킷에 담긴 댓글을 목록 응답용으로 복원
+    public static CommentDocument restore(String id, String postId, Long authorId, String content,
+                                          Instant createdAt, Instant updatedAt) {
+        CommentDocument comment = new CommentDocument(authorId, postId, content);
+        comment.id = id;
+        comment.createdAt = createdAt;
+        comment.updatedAt = updatedAt;
+        return comment;
+    }
+
     public void setContent(String content) {
         this.content = content;
     }
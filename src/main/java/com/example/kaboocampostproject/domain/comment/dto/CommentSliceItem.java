@@ -14,6 +14,11 @@ public record CommentSliceItem(
         @Nullable AuthorProfile author,
         boolean isMine
 ) {
+    // 캐시된 항목에 요청한 회원 기준 isMine만 다시 채운다
+    public CommentSliceItem withMine(boolean isMine) {
+        return new CommentSliceItem(commentId, content, createdAt, isUpdated, author, isMine);
+    }
+
     // 작성자 프로필
     @Builder
     public record AuthorProfile(Long id, String name, @Nullable String profileImageObjectKey) {}
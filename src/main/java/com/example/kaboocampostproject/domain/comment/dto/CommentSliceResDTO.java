@@ -1,12 +1,16 @@
 package com.example.kaboocampostproject.domain.comment.dto;
 
 import com.example.kaboocampostproject.global.cursor.PageSlice;
+import jakarta.annotation.Nullable;
 import lombok.Builder;
 
 @Builder
 public record CommentSliceResDTO (
         String cdnBaseUrl,
         String parentId, //게시물 id or 부모댓글
-        PageSlice<CommentSliceItem> comments
+        PageSlice<CommentSliceItem> comments,
+        // 더 최신 댓글 페이지 (before 커서). 첫 페이지는 null
+        @Nullable String prevCursor,
+        boolean hasPrev
 ) {
 }
@@ -11,7 +11,8 @@ public enum CommentErrorCode implements BaseErrorCode {
 
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "COMMENT_404_01", "존재하지 않는 댓글입니다."),
     COMMENT_AUTHOR_NOT_MATCH(HttpStatus.FORBIDDEN, "COMMENT_403_01", "댓글 작성자만 삭제할 수 있습니다."),
-    COMMENT_UPDATE_FAIL(HttpStatus.NOT_FOUND, "COMMENT_404_02", "삭제 권한이 있는 게시물 중 일치하는 게시물이 없습니다")
+    COMMENT_UPDATE_FAIL(HttpStatus.NOT_FOUND, "COMMENT_404_02", "삭제 권한이 있는 게시물 중 일치하는 게시물이 없습니다"),
+    COMMENT_CREATE_FAIL(HttpStatus.SERVICE_UNAVAILABLE, "COMMENT_503_01", "댓글을 저장하지 못했습니다. 잠시 후 다시 시도해주세요.")
     ;
     private final HttpStatus httpStatus;
     private final String code;
@@ -0,0 +1,25 @@
+package com.example.kaboocampostproject.domain.comment.repository;
+
+import com.example.kaboocampostproject.domain.comment.document.CommentBucketDocument;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public interface CommentBucketCustomRepository {
+
+    // 기동 시 호출 (이미 있으면 무시됨)
+    void createIndexes();
+
+    // 가장 큰 seq 버킷 끝에 $push. 가득 찼으면 seq + 1 버킷을 만든다 (버킷마다 size를 넘지 않음)
+    // 버킷 안 순서는 $push 순서라 동시에 작성된 댓글은 createdAt 순서와 몇 ms 차이로 뒤바뀔 수 있다
+    void append(String postId, CommentBucketDocument.Entry entry, int bucketSize);
+
+    // seq 이하 버킷을 seq 내림차순으로 limit개 (seq == null 이면 가장 최신 버킷부터)
+    List<CommentBucketDocument> findAtOrBefore(String postId, Integer seq, int limit);
+
+    void updateContent(String postId, String commentId, String content, Instant updatedAt);
+
+    // commentId -> postId. 자리는 그대로 두고 deletedAt만 기록 (unordered bulk)
+    void markDeleted(Map<String, String> postIdByCommentId, Instant deletedAt);
+}
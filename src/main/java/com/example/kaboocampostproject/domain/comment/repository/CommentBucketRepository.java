@@ -0,0 +1,8 @@
+package com.example.kaboocampostproject.domain.comment.repository;
+
+import com.example.kaboocampostproject.domain.comment.document.CommentBucketDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface CommentBucketRepository extends MongoRepository<CommentBucketDocument, String>, CommentBucketCustomRepository {
+    long deleteByPostId(String postId);
+}
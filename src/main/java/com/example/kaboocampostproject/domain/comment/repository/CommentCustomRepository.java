@@ -6,12 +6,23 @@ import java.time.Instant;
 import java.util.List;
 
 public interface CommentCustomRepository {
-    boolean updateCommentContent(String commentId, Long authorId, String newContent);
+    // 기동 시 호출. 새 인덱스를 만든 뒤 대체된 이전 인덱스를 지운다 (이미 있거나 없으면 무시됨)
+    void createIndexes();
+
+    // 수정된 댓글의 게시물 id 반환, 대상이 없으면 null
+    String updateCommentContent(String commentId, Long authorId, String newContent);
 
     List<CommentDocument> findFirstByPostIdOrderByCreatedAtDesc(String postId, int sizePlusOne);
     List<CommentDocument> findNextByPostIdOrderByCreatedAtDesc(String postId, Instant createdAt, String id, int sizePlusOne);
+    // (createdAt, id)보다 최신 댓글을 가까운 순(오래된 것부터)으로
+    List<CommentDocument> findPrevByPostIdOrderByCreatedAtAsc(String postId, Instant createdAt, String id, int sizePlusOne);
+
+    // 삭제된 댓글의 게시물 id 반환, 대상이 없으면 null
+    String softDeleteByCommentId(String commentId, Long authorId);
 
-    boolean softDeleteByCommentId(String commentId, Long authorId);
-    void softDeleteByAuthorId(Long authorId);
-    void softDeleteByPostId(String postId);
+    // 연쇄 삭제용. afterId 다음부터 _id 오름차순 limit개 (_id, postId만)
+    List<CommentDocument> findActiveIdsByPostIdAfter(String postId, String afterId, int limit);
+    List<CommentDocument> findActiveIdsByAuthorIdAfter(Long authorId, String afterId, int limit);
+    // 삭제된 수 반환
+    long softDeleteByIds(List<String> commentIds, Instant deletedAt);
 }
\ No newline at end of file
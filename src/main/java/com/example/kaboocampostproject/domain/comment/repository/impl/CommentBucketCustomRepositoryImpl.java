@@ -0,0 +1,132 @@
+package com.example.kaboocampostproject.domain.comment.repository.impl;
+
+import com.example.kaboocampostproject.domain.comment.document.CommentBucketDocument;
+import com.example.kaboocampostproject.domain.comment.document.CommentBucketDocument.CommentBucketFields;
+import com.example.kaboocampostproject.domain.comment.document.CommentBucketDocument.EntryFields;
+import com.example.kaboocampostproject.domain.comment.repository.CommentBucketCustomRepository;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentBucketCustomRepositoryImpl implements CommentBucketCustomRepository {
+
+    private final MongoTemplate mongo;
+
+    private static final String COLLECTION = "comment_buckets";
+    private static final String ENTRY_PREFIX = CommentBucketFields.comments + ".";
+    private static final String POSITIONAL_PREFIX = CommentBucketFields.comments + ".$.";
+
+    // 가득 찬 버킷을 만나 다음 버킷으로 넘어가는 최대 횟수 (보통 1번, 동시에 여러 버킷이 차는 경우만 더)
+    private static final int MAX_ROLL_OVERS = 8;
+
+    @Override
+    public void createIndexes() {
+        mongo.getCollection(COLLECTION).createIndex(
+                Indexes.compoundIndex(
+                        Indexes.ascending(CommentBucketFields.postId),
+                        Indexes.descending(CommentBucketFields.seq)),
+                new IndexOptions().name("idx_postId_seq_desc"));
+        mongo.getCollection(COLLECTION).createIndex(
+                Indexes.ascending(CommentBucketFields.postId, ENTRY_PREFIX + EntryFields.commentId),
+                new IndexOptions().name("idx_postId_comments_commentId"));
+    }
+
+    // idx_postId_seq_desc
+    @Override
+    public void append(String postId, CommentBucketDocument.Entry entry, int bucketSize) {
+        Query latest = new Query(Criteria.where(CommentBucketFields.postId).is(postId))
+                .with(Sort.by(Sort.Order.desc(CommentBucketFields.seq)))
+                .limit(1);
+        latest.fields()
+                .include(CommentBucketFields.seq)
+                .include(CommentBucketFields.count)
+                .include(CommentBucketFields.startedAt);
+        CommentBucketDocument head = mongo.findOne(latest, CommentBucketDocument.class);
+
+        int seq = head == null ? 0 : head.getSeq();
+        Instant startedAt = head == null || head.getStartedAt() == null ? Instant.now() : head.getStartedAt();
+        for (int rollOver = 0; ; rollOver++) {
+            // _id + count < size 조건으로 upsert: 없으면 만들고, 있으면 자리가 있을 때만 $push
+            // 가득 찬 버킷이면 조건이 맞지 않아 같은 _id로 insert를 시도하다 중복 키 -> 다음 버킷
+            // 오래된 head를 읽은 쓰기도, 동시에 다음 버킷을 만드는 쓰기도 size를 넘기지 않는다
+            Query notFull = new Query(Criteria.where(CommentBucketFields.id).is(CommentBucketDocument.idOf(postId, seq))
+                    .and(CommentBucketFields.count).lt(bucketSize));
+            Update update = push(entry)
+                    .setOnInsert(CommentBucketFields.postId, postId)
+                    .setOnInsert(CommentBucketFields.seq, seq)
+                    .setOnInsert(CommentBucketFields.startedAt, startedAt);
+            try {
+                mongo.upsert(notFull, update, CommentBucketDocument.class);
+                return;
+            } catch (DuplicateKeyException e) {
+                if (rollOver == MAX_ROLL_OVERS) throw e;
+                seq++;
+            }
+        }
+    }
+
+    private static Update push(CommentBucketDocument.Entry entry) {
+        return new Update()
+                .push(CommentBucketFields.comments, entry)
+                .inc(CommentBucketFields.count, 1);
+    }
+
+    // idx_postId_seq_desc
+    @Override
+    public List<CommentBucketDocument> findAtOrBefore(String postId, Integer seq, int limit) {
+        Criteria criteria = Criteria.where(CommentBucketFields.postId).is(postId);
+        if (seq != null) criteria = criteria.and(CommentBucketFields.seq).lte(seq);
+
+        Query q = new Query(criteria)
+                .with(Sort.by(Sort.Order.desc(CommentBucketFields.seq)))
+                .limit(limit);
+        return mongo.find(q, CommentBucketDocument.class);
+    }
+
+    // idx_postId_comments_commentId
+    @Override
+    public void updateContent(String postId, String commentId, String content, Instant updatedAt) {
+        Query q = new Query(Criteria.where(CommentBucketFields.postId).is(postId)
+                .and(ENTRY_PREFIX + EntryFields.commentId).is(commentId));
+        Update update = new Update()
+                .set(POSITIONAL_PREFIX + EntryFields.content, content)
+                .set(POSITIONAL_PREFIX + EntryFields.updatedAt, updatedAt);
+        mongo.updateFirst(q, update, CommentBucketDocument.class);
+    }
+
+    // idx_postId_comments_commentId
+    @Override
+    public void markDeleted(Map<String, String> postIdByCommentId, Instant deletedAt) {
+        if (postIdByCommentId.isEmpty()) return;
+
+        Date at = Date.from(deletedAt);
+        List<UpdateOneModel<Document>> updates = postIdByCommentId.entrySet().stream()
+                .map(e -> new UpdateOneModel<Document>(
+                        Filters.and(
+                                Filters.eq(CommentBucketFields.postId, e.getValue()),
+                                Filters.eq(ENTRY_PREFIX + EntryFields.commentId, e.getKey())
+                        ),
+                        Updates.set(POSITIONAL_PREFIX + EntryFields.deletedAt, at)))
+                .toList();
+        mongo.getCollection(COLLECTION).bulkWrite(updates, new BulkWriteOptions().ordered(false));
+    }
+}
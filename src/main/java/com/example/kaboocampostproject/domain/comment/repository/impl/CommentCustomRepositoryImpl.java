@@ -2,7 +2,12 @@ package com.example.kaboocampostproject.domain.comment.repository.impl;
 
 import com.example.kaboocampostproject.domain.comment.document.CommentDocument;
 import com.example.kaboocampostproject.domain.comment.repository.CommentCustomRepository;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -11,7 +16,9 @@ import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
@@ -20,21 +27,45 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
     private final MongoTemplate mongo;
 
     private static final String COLLECTION = "comments";
+    // idx_postId_deletedAt_createdAt_id_desc / idx_postId_id / idx_authorId_id로 대체된 이전 배포의 인덱스
+    private static final List<String> REPLACED_INDEXES = List.of("idx_postId_createdAt_desc", "idx_postId", "idx_authorId");
 
     @Override
-    public boolean updateCommentContent(String commentId, Long authorId, String newContent) {
+    public void createIndexes() {
+        MongoCollection<Document> comments = mongo.getCollection(COLLECTION);
+        comments.createIndex(
+                Indexes.compoundIndex(
+                        Indexes.ascending(CommentDocument.CommentFields.postId, CommentDocument.CommentFields.deletedAt),
+                        Indexes.descending(CommentDocument.CommentFields.createdAt, "_id")),
+                new IndexOptions().name("idx_postId_deletedAt_createdAt_id_desc"));
+        comments.createIndex(
+                Indexes.ascending(CommentDocument.CommentFields.postId, "_id"),
+                new IndexOptions().name("idx_postId_id"));
+        comments.createIndex(
+                Indexes.ascending(CommentDocument.CommentFields.authorId, "_id"),
+                new IndexOptions().name("idx_authorId_id"));
+
+        // 새 인덱스가 다 만들어진 뒤에 지워서 조회가 인덱스 없이 도는 순간이 없게 한다
+        Set<String> existing = new HashSet<>();
+        comments.listIndexes().forEach(index -> existing.add(index.getString("name")));
+        REPLACED_INDEXES.stream().filter(existing::contains).forEach(comments::dropIndex);
+    }
+
+    @Override
+    public String updateCommentContent(String commentId, Long authorId, String newContent) {
         Query query = new Query(
                 Criteria.where("_id").is(commentId)
                         .and("authorId").is(authorId)
                         .and("deletedAt").is(null)
         );
+        query.fields().include(CommentDocument.CommentFields.postId);
 
         Update update = new Update()
                 .set("content", newContent)
                 .set("updatedAt", Instant.now());
 
-        var result = mongo.updateFirst(query, update, CommentDocument.class);
-        return result.getModifiedCount() > 0;
+        CommentDocument updated = mongo.findAndModify(query, update, CommentDocument.class);
+        return updated != null ? updated.getPostId() : null;
     }
 
 
@@ -68,7 +99,7 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
         return mongo.find(q, CommentDocument.class, COLLECTION);
     }
 
-    // 최신 순 다음 페이지
+    // 최신 순 다음 페이지 (오래된 쪽)
     @Override
     public List<CommentDocument> findNextByPostIdOrderByCreatedAtDesc(String postId, Instant createdAt, String id, int sizePlusOne) {
         Criteria cursorCut = new Criteria().orOperator(
@@ -78,17 +109,31 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
                         Criteria.where(CommentDocument.CommentFields.id).lt(id)
                 )
         );
+        return findFromCursor(postId, cursorCut, Sort.Direction.DESC, sizePlusOne);
+    }
+
+    // 최신 순 이전 페이지 (최신 쪽). 커서에 가까운 것부터 읽어야 limit이 맞으므로 오름차순
+    @Override
+    public List<CommentDocument> findPrevByPostIdOrderByCreatedAtAsc(String postId, Instant createdAt, String id, int sizePlusOne) {
+        Criteria cursorCut = new Criteria().orOperator(
+                Criteria.where(CommentDocument.CommentFields.createdAt).gt(createdAt),
+                new Criteria().andOperator(
+                        Criteria.where(CommentDocument.CommentFields.createdAt).is(createdAt),
+                        Criteria.where(CommentDocument.CommentFields.id).gt(id)
+                )
+        );
+        return findFromCursor(postId, cursorCut, Sort.Direction.ASC, sizePlusOne);
+    }
 
+    // idx_postId_deletedAt_createdAt_id_desc 한 구간만 읽는다 (방향만 다름)
+    private List<CommentDocument> findFromCursor(String postId, Criteria cursorCut, Sort.Direction direction, int sizePlusOne) {
         Query q = new Query()
                 .addCriteria(new Criteria().andOperator(
                         Criteria.where(CommentDocument.CommentFields.postId).is(postId),
                         Criteria.where(CommentDocument.CommentFields.deletedAt).is(null),
                         cursorCut
                 ))
-                .with(Sort.by(
-                        Sort.Order.desc(CommentDocument.CommentFields.createdAt),
-                        Sort.Order.desc(CommentDocument.CommentFields.id)
-                ))
+                .with(Sort.by(direction, CommentDocument.CommentFields.createdAt, CommentDocument.CommentFields.id))
                 .limit(sizePlusOne);
 
         includeCommentSimpleFields(q);
@@ -101,31 +146,52 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
 
     // 댓글 id 기준
     @Override
-    public boolean softDeleteByCommentId(String commentId, Long authorId) {
+    public String softDeleteByCommentId(String commentId, Long authorId) {
         Query query = new Query(
                 Criteria.where("_id").is(commentId)
                         .and("authorId").is(authorId)
                         .and("deletedAt").is(null)
         );
+        query.fields().include(CommentDocument.CommentFields.postId);
         Update update = new Update().set("deletedAt", Instant.now());
-        var result = mongo.updateFirst(query, update, CommentDocument.class);
-        return result.getModifiedCount() > 0;
+        CommentDocument deleted = mongo.findAndModify(query, update, CommentDocument.class);
+        return deleted != null ? deleted.getPostId() : null;
     }
 
-    // 게시물 작성자 기준
+    //================== 연쇄 삭제 (_id 범위 배치) ====================
+
+    // idx_postId_id
     @Override
-    public void softDeleteByAuthorId(Long authorId) {
-        Query query = Query.query(Criteria.where("authorId").is(authorId));
-        Update update = new Update().set("deletedAt", Instant.now());
-        mongo.updateMulti(query, update, CommentDocument.class);
+    public List<CommentDocument> findActiveIdsByPostIdAfter(String postId, String afterId, int limit) {
+        return findActiveIdsAfter(Criteria.where(CommentDocument.CommentFields.postId).is(postId), afterId, limit);
     }
 
-    // 게시물 아이디 기준
+    // idx_authorId_id
     @Override
-    public void softDeleteByPostId(String postId) {
-        Query query = Query.query(Criteria.where("postId").is(postId));
-        Update update = new Update().set("deletedAt", Instant.now());
-        mongo.updateMulti(query, update, CommentDocument.class);
+    public List<CommentDocument> findActiveIdsByAuthorIdAfter(Long authorId, String afterId, int limit) {
+        return findActiveIdsAfter(Criteria.where(CommentDocument.CommentFields.authorId).is(authorId), afterId, limit);
+    }
+
+    private List<CommentDocument> findActiveIdsAfter(Criteria owner, String afterId, int limit) {
+        Criteria criteria = owner.and(CommentDocument.CommentFields.deletedAt).is(null);
+        if (afterId != null) criteria = criteria.and("_id").gt(new ObjectId(afterId));
+
+        Query q = new Query(criteria)
+                .with(Sort.by(Sort.Order.asc("_id")))
+                .limit(limit);
+        q.fields()
+                .include(CommentDocument.CommentFields.id)
+                .include(CommentDocument.CommentFields.postId);
+        return mongo.find(q, CommentDocument.class);
+    }
+
+    @Override
+    public long softDeleteByIds(List<String> commentIds, Instant deletedAt) {
+        if (commentIds.isEmpty()) return 0L;
+        Query query = new Query(Criteria.where("_id").in(commentIds.stream().map(ObjectId::new).toList())
+                .and(CommentDocument.CommentFields.deletedAt).is(null));
+        Update update = new Update().set(CommentDocument.CommentFields.deletedAt, deletedAt);
+        return mongo.updateMulti(query, update, CommentDocument.class).getModifiedCount();
     }
 
 
@@ -0,0 +1,178 @@
+package com.example.kaboocampostproject.domain.comment.service;
+
+import com.example.kaboocampostproject.domain.comment.document.CommentBucketDocument;
+import com.example.kaboocampostproject.domain.comment.document.CommentDocument;
+import com.example.kaboocampostproject.domain.comment.repository.CommentBucketRepository;
+import com.example.kaboocampostproject.global.config.CommentBucketProperties;
+import com.example.kaboocampostproject.global.cursor.Cursor;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/// 댓글 버킷 (app.comment-bucket.enabled)
+/// 1. 쓰기: comments 컬렉션(원본)에 저장한 뒤 버킷에 $push, 수정/삭제도 버킷의 같은 자리에 반영
+/// 2. 읽기: 최신 버킷 끝에서부터 앞으로 읽어 페이지 하나를 버킷 1~2개로 응답. 커서는 (seq, offset)
+/// 3. 버킷을 켜기 전 댓글은 가장 오래된 버킷 댓글(경계)보다 오래된 것이므로 comments 컬렉션 createdAt 커서로 이어서 읽는다
+/// 4. 복구: $push가 재시도 후에도 실패하거나 trusted-since 전에 시작된 버킷을 읽으면 게시물의 버킷을 지운다
+///    -> 읽기는 comments 컬렉션으로 넘어가고, 다음 댓글부터 새 버킷이 시작돼 빠진 댓글은 경계 이전(comments 컬렉션)에 들어간다
+/// 주의: 버킷 순서는 작성 순(원본 저장 후 $push 순)이라 동시에 달린 댓글끼리는 createdAt 순서와 다를 수 있다
+///    -> 목록은 $push 순서로 보이고, 경계는 seq 0 버킷에서 (createdAt, id)가 가장 작은 댓글로 잡아 comments 컬렉션과 겹치지 않게 한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentBucketService {
+
+    // 페이지 하나를 채우는데 보통 버킷 1~2개면 충분하다 (삭제된 댓글이 많으면 더 읽음)
+    private static final int READ_AHEAD = 2;
+    private static final int APPEND_ATTEMPTS = 2;
+
+    private final CommentBucketRepository bucketRepository;
+    private final CommentBucketProperties properties;
+
+    // comments: 최신순 댓글 (최대 size개)
+    // next: 버킷에 남은 다음 페이지 위치. null이면 버킷을 끝까지 읽음
+    // boundary: 가장 오래된 버킷 댓글. 버킷을 끝까지 읽었으면 이보다 오래된 댓글은 comments 컬렉션에서 읽는다
+    public record BucketRead(List<CommentDocument> comments, Cursor.BucketPos next, CommentDocument boundary) {
+    }
+
+    // 인덱스 자동 생성이 꺼져 있어 직접 생성. 버킷을 쓸 때만
+    @PostConstruct
+    public void init() {
+        if (properties.isEnabled()) bucketRepository.createIndexes();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // 원본 저장 후 호출. 버킷 반영이 실패하면 버킷을 지워 복구하고, 복구도 실패하면 예외 (댓글 작성 실패로 처리)
+    public void append(CommentDocument saved) {
+        if (!properties.isEnabled()) return;
+        CommentBucketDocument.Entry entry = CommentBucketDocument.Entry.of(saved);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                bucketRepository.append(saved.getPostId(), entry, properties.getSize());
+                return;
+            } catch (Exception e) {
+                if (attempt < APPEND_ATTEMPTS) continue;
+                log.warn("댓글 버킷 추가 실패. 버킷을 지우고 comments 컬렉션에서 읽도록 복구. postId: {}, commentId: {}",
+                        saved.getPostId(), saved.getId(), e);
+                bucketRepository.deleteByPostId(saved.getPostId());
+                return;
+            }
+        }
+    }
+
+    // 원본 수정 후 호출. 실패해도 예외를 던지지 않고 버킷을 지워 복구한다 (원본은 이미 바뀜)
+    public void updateContent(String postId, String commentId, String content) {
+        if (!properties.isEnabled()) return;
+        try {
+            bucketRepository.updateContent(postId, commentId, content, Instant.now());
+        } catch (Exception e) {
+            repair(postId, commentId, e);
+        }
+    }
+
+    // 원본 삭제 후 호출. 실패해도 예외를 던지지 않고 버킷을 지워 복구한다 (원본은 이미 바뀜)
+    public void markDeleted(String postId, String commentId) {
+        if (!properties.isEnabled()) return;
+        try {
+            bucketRepository.markDeleted(Map.of(commentId, postId), Instant.now());
+        } catch (Exception e) {
+            repair(postId, commentId, e);
+        }
+    }
+
+    private void repair(String postId, String commentId, Exception cause) {
+        log.warn("댓글 버킷 반영 실패. 버킷을 지우고 comments 컬렉션에서 읽도록 복구. postId: {}, commentId: {}",
+                postId, commentId, cause);
+        try {
+            bucketRepository.deleteByPostId(postId);
+        } catch (Exception e) {
+            log.error("댓글 버킷 복구 실패. 버킷에 이전 내용이 남음. postId: {}", postId, e);
+        }
+    }
+
+    // 연쇄 삭제 배치 (id, postId만 채워진 문서). 실패하면 관련 게시물 버킷을 지워 복구
+    public void markDeleted(List<CommentDocument> comments, Instant deletedAt) {
+        if (!properties.isEnabled() || comments.isEmpty()) return;
+        Map<String, String> postIdByCommentId = new HashMap<>();
+        comments.forEach(comment -> postIdByCommentId.put(comment.getId(), comment.getPostId()));
+        try {
+            bucketRepository.markDeleted(postIdByCommentId, deletedAt);
+        } catch (Exception e) {
+            new HashSet<>(postIdByCommentId.values()).forEach(postId -> repair(postId, null, e));
+        }
+    }
+
+    // 게시물이 삭제되면 버킷은 다시 읽을 일이 없다 (원본은 comments 컬렉션에 soft delete로 남음)
+    public void deleteByPost(String postId) {
+        if (!properties.isEnabled()) return;
+        bucketRepository.deleteByPostId(postId);
+    }
+
+    // seq/offset이 null이면 가장 최신 댓글부터. 버킷이 하나도 없으면 empty
+    public Optional<BucketRead> read(String postId, Integer seq, Integer offset, int size) {
+        List<CommentBucketDocument> buckets = bucketRepository.findAtOrBefore(postId, seq, READ_AHEAD);
+        if (buckets.isEmpty()) return Optional.empty();
+        if (!isTrusted(buckets.get(0))) {
+            log.info("trusted-since 전에 시작된 댓글 버킷 제거. postId: {}", postId);
+            bucketRepository.deleteByPostId(postId);
+            return Optional.empty();
+        }
+
+        List<CommentDocument> page = new ArrayList<>();
+        CommentDocument boundary = null;
+        while (!buckets.isEmpty()) {
+            for (CommentBucketDocument bucket : buckets) {
+                List<CommentBucketDocument.Entry> entries = bucket.getComments();
+                int start = entries.size() - 1;
+                if (seq != null && offset != null && bucket.getSeq() == seq) start = Math.min(offset, start);
+
+                for (int i = start; i >= 0; i--) {
+                    CommentBucketDocument.Entry entry = entries.get(i);
+                    if (entry.isDeleted()) continue;
+                    // 한 건 더 있으면 거기가 다음 페이지 시작
+                    if (page.size() == size) {
+                        return Optional.of(new BucketRead(page, new Cursor.BucketPos(postId, bucket.getSeq(), i), null));
+                    }
+                    page.add(toDocument(postId, entry));
+                }
+                if (bucket.getSeq() == 0 && !entries.isEmpty()) boundary = toDocument(postId, oldestOf(entries));
+            }
+
+            int oldest = buckets.get(buckets.size() - 1).getSeq();
+            if (oldest == 0) break;
+            buckets = bucketRepository.findAtOrBefore(postId, oldest - 1, READ_AHEAD);
+        }
+        return Optional.of(new BucketRead(page, null, boundary));
+    }
+
+    // $push 순서와 createdAt 순서가 다를 수 있어 첫 칸 대신 (createdAt, id)가 가장 작은 댓글
+    private static CommentBucketDocument.Entry oldestOf(List<CommentBucketDocument.Entry> entries) {
+        return entries.stream()
+                .min(Comparator.comparing(CommentBucketDocument.Entry::getCreatedAt)
+                        .thenComparing(CommentBucketDocument.Entry::getCommentId))
+                .orElseThrow();
+    }
+
+    private boolean isTrusted(CommentBucketDocument bucket) {
+        Instant trustedSince = properties.getTrustedSince();
+        return trustedSince == null || (bucket.getStartedAt() != null && !bucket.getStartedAt().isBefore(trustedSince));
+    }
+
+    private static CommentDocument toDocument(String postId, CommentBucketDocument.Entry entry) {
+        return CommentDocument.restore(entry.getCommentId(), postId, entry.getAuthorId(), entry.getContent(),
+                entry.getCreatedAt(), entry.getUpdatedAt());
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.kaboocampostproject.domain.comment.service;
 
+import com.example.kaboocampostproject.domain.comment.cache.CommentFirstPageCacheService;
+import com.example.kaboocampostproject.domain.comment.cache.CommentPageCacheDTO;
 import com.example.kaboocampostproject.domain.comment.converter.CommentConverter;
 import com.example.kaboocampostproject.domain.comment.document.CommentDocument;
 import com.example.kaboocampostproject.domain.comment.dto.CommentReqDTO;
@@ -10,15 +12,22 @@ import com.example.kaboocampostproject.domain.comment.error.CommentException;
 import com.example.kaboocampostproject.domain.comment.repository.CommentMongoRepository;
 import com.example.kaboocampostproject.domain.member.cache.MemberProfileCacheDTO;
 import com.example.kaboocampostproject.domain.member.cache.MemberProfileCacheService;
+import com.example.kaboocampostproject.domain.post.repository.PostMongoRepository;
+import com.example.kaboocampostproject.domain.post.service.PostHotRankService;
 import com.example.kaboocampostproject.domain.s3.util.CloudFrontUtil;
+import com.example.kaboocampostproject.global.async.EnrichmentFetcher;
 import com.example.kaboocampostproject.global.cursor.Cursor;
 import com.example.kaboocampostproject.global.cursor.CursorCodec;
 import com.example.kaboocampostproject.global.cursor.PageSlice;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -27,37 +36,77 @@ public class CommentMongoService {
     private static final int PAGE_SIZE = 10;
 
     private final CommentMongoRepository commentRepository;
+    private final CommentBucketService commentBucketService;
+    private final CommentFirstPageCacheService commentFirstPageCacheService;
+    private final PostMongoRepository postRepository;
+    private final PostHotRankService postHotRankService;
 
     private final MemberProfileCacheService memberProfileCacheService;
     private final CursorCodec cursorCodec;
     private final CloudFrontUtil cloudFrontUtil;
+    private final EnrichmentFetcher enrichmentFetcher;
+
+    // 인덱스 자동 생성이 꺼져 있어 직접 생성하고, 대체된 이전 인덱스를 정리
+    @PostConstruct
+    public void init() {
+        commentRepository.createIndexes();
+    }
 
     public void createComment(Long memberId, String postId, CommentReqDTO dto) {
-        commentRepository.save(CommentConverter.toEntity(memberId, postId, dto));
+        CommentDocument saved = commentRepository.save(CommentConverter.toEntity(memberId, postId, dto));
+        try {
+            commentBucketService.append(saved);
+        } catch (Exception e) {
+            // 버킷에도 없고 복구도 못 했으면 목록에서 빠지므로 작성 자체를 되돌린다
+            commentRepository.deleteById(saved.getId());
+            throw new CommentException(CommentErrorCode.COMMENT_CREATE_FAIL);
+        }
+        postRepository.incrementComments(postId, 1L);
+        postHotRankService.markDirty(postId);
+        commentFirstPageCacheService.evict(postId);
     }
 
     public void updateComment(Long memberId, String commentId, CommentReqDTO dto) {
-        boolean update = commentRepository.updateCommentContent(commentId, memberId, dto.content());
-        if (!update) {
+        String postId = commentRepository.updateCommentContent(commentId, memberId, dto.content());
+        if (postId == null) {
             throw new CommentException(CommentErrorCode.COMMENT_UPDATE_FAIL);
         }
+        commentBucketService.updateContent(postId, commentId, dto.content());
+        commentFirstPageCacheService.evict(postId);
     }
 
     public void deleteComment(Long memberId, String commentId) {
-        boolean update = commentRepository.softDeleteByCommentId(commentId, memberId);
-        if (update) {
+        String postId = commentRepository.softDeleteByCommentId(commentId, memberId);
+        if (postId == null) {
             throw new CommentException(CommentErrorCode.COMMENT_UPDATE_FAIL);
         }
+        // 원본이 바뀌었으므로 카운터부터. 버킷 반영은 실패해도 예외 없이 복구
+        postRepository.incrementComments(postId, -1L);
+        postHotRankService.markDirty(postId);
+        commentBucketService.markDeleted(postId, commentId);
+        commentFirstPageCacheService.evict(postId);
     }
 
     // =====================커서로 조회하는 메서드=====================
 
-    // 최신 순 첫페이지
+    // 최신 순 첫페이지. 회원과 무관한 부분은 게시물별로 캐싱
     public CommentSliceResDTO findFirstByPost(Long memberId, String postId) {
+        CommentPageCacheDTO page = commentFirstPageCacheService.getOrLoad(postId, () -> loadFirstPage(postId));
+        return assembleSlice(memberId, postId, page, null);
+    }
+
+    private CommentPageCacheDTO loadFirstPage(String postId) {
+        if (commentBucketService.isEnabled()) {
+            Optional<CommentBucketService.BucketRead> read =
+                    commentBucketService.read(postId, null, null, PAGE_SIZE);
+            // 버킷이 아직 없는 게시물은 comments 컬렉션에서
+            if (read.isPresent()) return toBucketPage(postId, read.get());
+        }
+
         List<CommentDocument> docs =
                 commentRepository.findFirstByPostIdOrderByCreatedAtDesc(postId, PAGE_SIZE + 1);
 
-        return buildSlice(memberId, postId, docs);
+        return toPage(docs);
     }
 
     // 최신 순 다음 페이지
@@ -67,25 +116,105 @@ public class CommentMongoService {
             throw new IllegalArgumentException("지원하지 않는 커서 전략입니다: " + cursor.strategy());
         }
 
+        if (cursor.pos() instanceof Cursor.BucketPos bucketPos) {
+            if (!postId.equals(bucketPos.id())) {
+                throw new IllegalArgumentException("다른 게시물의 커서입니다.");
+            }
+            // 게시물 삭제로 버킷이 지워졌으면 빈 페이지
+            CommentPageCacheDTO page = commentBucketService.read(postId, bucketPos.seq(), bucketPos.offset(), PAGE_SIZE)
+                    .map(read -> toBucketPage(postId, read))
+                    .orElseGet(() -> toPage(List.of()));
+            return assembleSlice(memberId, postId, page, null);
+        }
+
         Cursor.CreatedAtPos pos = (Cursor.CreatedAtPos) cursor.pos();
         List<CommentDocument> docs =
                 commentRepository.findNextByPostIdOrderByCreatedAtDesc(
                         postId, pos.createdAt(), pos.id(), PAGE_SIZE + 1);
 
-        return buildSlice(memberId, postId, docs);
+        return assembleSlice(memberId, postId, toPage(docs), null);
+    }
+
+    // 최신 쪽 이전 페이지 (before 커서보다 최신 댓글). 앞뒤 커서는 항상 createdAt 커서
+    public CommentSliceResDTO findPrevByPost(Long memberId, String postId, String cursorToken) {
+        Cursor cursor = cursorCodec.decode(cursorToken);
+        if (cursor.strategy() != Cursor.CursorStrategy.RECENT || !(cursor.pos() instanceof Cursor.CreatedAtPos pos)) {
+            throw new IllegalArgumentException("지원하지 않는 이전 페이지 커서입니다: " + cursor.strategy());
+        }
+
+        List<CommentDocument> newer =
+                commentRepository.findPrevByPostIdOrderByCreatedAtAsc(
+                        postId, pos.createdAt(), pos.id(), PAGE_SIZE + 1);
+        boolean hasPrev = newer.size() > PAGE_SIZE;
+        List<CommentDocument> content = new ArrayList<>(hasPrev ? newer.subList(0, PAGE_SIZE) : newer);
+        Collections.reverse(content);
+        if (content.isEmpty()) return assembleSlice(memberId, postId, toPage(content), null);
+
+        // 커서 기준 댓글이 더 오래된 쪽에 있으므로 다음 페이지는 마지막 댓글부터
+        String nextCursor = createdAtCursorOf(content.get(content.size() - 1));
+        String prevCursor = hasPrev ? createdAtCursorOf(content.get(0)) : null;
+        return assembleSlice(memberId, postId, toPage(content, nextCursor), prevCursor);
+    }
+
+    // 알림 등에서 댓글 하나로 바로 이동. 기준 댓글을 가운데 두고 양쪽을 인덱스 구간 2번으로 읽는다
+    public CommentSliceResDTO findAroundComment(Long memberId, String postId, String commentId) {
+        CommentDocument anchor = commentRepository.findByIdAndDeletedAtIsNull(commentId)
+                .filter(comment -> postId.equals(comment.getPostId()))
+                .orElseThrow(() -> new CommentException(CommentErrorCode.COMMENT_NOT_FOUND));
+
+        int newerSize = PAGE_SIZE / 2;
+        List<CommentDocument> newer =
+                commentRepository.findPrevByPostIdOrderByCreatedAtAsc(
+                        postId, anchor.getCreatedAt(), anchor.getId(), newerSize + 1);
+        boolean hasPrev = newer.size() > newerSize;
+
+        List<CommentDocument> window = new ArrayList<>(hasPrev ? newer.subList(0, newerSize) : newer);
+        Collections.reverse(window);
+        window.add(anchor);
+        // 최신 쪽이 모자라면 그만큼 오래된 쪽을 더 채운다
+        int olderSize = PAGE_SIZE - window.size();
+        window.addAll(commentRepository.findNextByPostIdOrderByCreatedAtDesc(
+                postId, anchor.getCreatedAt(), anchor.getId(), olderSize + 1));
+
+        String prevCursor = hasPrev ? createdAtCursorOf(window.get(0)) : null;
+        return assembleSlice(memberId, postId, toPage(window), prevCursor);
     }
 
-    // 멤버프로필 가져와서 PageSlice 생성하기
-    private CommentSliceResDTO buildSlice(Long memberId, String postId, List<CommentDocument> docsPlusOne) {
+    // 버킷에 다음 페이지가 남았으면 (seq, offset) 커서,
+    // 버킷을 다 읽었으면 남은 자리를 경계 이전 댓글로 채우고 createdAt 커서로 넘어간다
+    private CommentPageCacheDTO toBucketPage(String postId, CommentBucketService.BucketRead read) {
+        if (read.next() != null) {
+            String nextCursor = cursorCodec.encode(new Cursor(Cursor.CursorStrategy.RECENT, read.next()));
+            return toPage(read.comments(), nextCursor);
+        }
+
+        List<CommentDocument> docs = new ArrayList<>(read.comments());
+        CommentDocument boundary = read.boundary();
+        if (boundary != null) {
+            docs.addAll(commentRepository.findNextByPostIdOrderByCreatedAtDesc(
+                    postId, boundary.getCreatedAt(), boundary.getId(), PAGE_SIZE + 1 - docs.size()));
+        }
+        return toPage(docs);
+    }
+
+    private CommentPageCacheDTO toPage(List<CommentDocument> docsPlusOne) {
         boolean hasNext = docsPlusOne.size() > PAGE_SIZE;
         List<CommentDocument> content = hasNext ? docsPlusOne.subList(0, PAGE_SIZE) : docsPlusOne;
 
+        // nextCursor 생성
+        String nextCursor = hasNext ? createdAtCursorOf(content.get(content.size() - 1)) : null;
+        return toPage(content, nextCursor);
+    }
+
+    private String createdAtCursorOf(CommentDocument comment) {
+        Cursor.Pos pos = new Cursor.CreatedAtPos(comment.getId(), comment.getCreatedAt());
+        return cursorCodec.encode(new Cursor(Cursor.CursorStrategy.RECENT, pos));
+    }
+
+    // 멤버프로필 가져와서 회원과 무관한 페이지 생성하기
+    private CommentPageCacheDTO toPage(List<CommentDocument> content, String nextCursor) {
         if (content.isEmpty()) {
-            return CommentSliceResDTO.builder()
-                    .cdnBaseUrl(cloudFrontUtil.getDomain())
-                    .parentId(postId)
-                    .comments(PageSlice.empty())
-                    .build();
+            return new CommentPageCacheDTO(List.of(), null, false);
         }
 
         // 작성자 프로필 일괄 조회 (redis -> mysql)
@@ -93,31 +222,46 @@ public class CommentMongoService {
                 .map(CommentDocument::getAuthorId)
                 .distinct()
                 .toList();
-        Map<Long, MemberProfileCacheDTO> profiles = memberProfileCacheService.getProfiles(authorIds);
-
-        // 매핑
-        List<CommentSliceItem> items = content.stream()
-                .map(doc -> {
-                    MemberProfileCacheDTO p = profiles.get(doc.getAuthorId());
-                    boolean isMine = memberId.equals(doc.getAuthorId());
-                    return CommentConverter.toSliceItem(doc, p, isMine);
-                })
+        // 지연 시 프로필 없이 응답 (게시물 목록과 동일한 timeout/fallback 정책)
+        Map<Long, MemberProfileCacheDTO> profiles = enrichmentFetcher.join(
+                enrichmentFetcher.fetch(() -> memberProfileCacheService.getProfiles(authorIds)),
+                Collections.emptyMap(),
+                "commentAuthorProfiles");
+
+        // 매핑 (isMine은 assembleSlice에서)
+        List<CommentPageCacheDTO.CachedComment> comments = content.stream()
+                .map(doc -> new CommentPageCacheDTO.CachedComment(
+                        doc.getAuthorId(),
+                        CommentConverter.toSliceItem(doc, profiles.get(doc.getAuthorId()), false)))
                 .toList();
 
-        // nextCursor 생성
-        String nextCursor = null;
-        if (hasNext) {
-            CommentDocument last = content.get(content.size() - 1);
-            Cursor.Pos pos = new Cursor.CreatedAtPos(last.getId(), last.getCreatedAt());
-            nextCursor = cursorCodec.encode(new Cursor(Cursor.CursorStrategy.RECENT, pos));
+        return new CommentPageCacheDTO(comments, nextCursor, nextCursor != null);
+    }
+
+    // 요청한 회원 기준 isMine을 채워서 PageSlice 생성하기
+    private CommentSliceResDTO assembleSlice(Long memberId, String postId, CommentPageCacheDTO page, String prevCursor) {
+        if (page.comments().isEmpty()) {
+            return CommentSliceResDTO.builder()
+                    .cdnBaseUrl(cloudFrontUtil.getDomain())
+                    .parentId(postId)
+                    .comments(PageSlice.empty())
+                    .prevCursor(prevCursor)
+                    .hasPrev(prevCursor != null)
+                    .build();
         }
 
-        PageSlice<CommentSliceItem> pageSlice = new PageSlice<>( items, nextCursor, hasNext);
+        List<CommentSliceItem> items = page.comments().stream()
+                .map(comment -> comment.item().withMine(memberId.equals(comment.authorId())))
+                .toList();
+
+        PageSlice<CommentSliceItem> pageSlice = new PageSlice<>( items, page.nextCursor(), page.hasNext());
         // 레퍼로 감싸서 반환 (cdn 도메인 반환 위해서.)
         return CommentSliceResDTO.builder()
                 .cdnBaseUrl(cloudFrontUtil.getDomain())
                 .parentId(postId)
                 .comments(pageSlice)
+                .prevCursor(prevCursor)
+                .hasPrev(prevCursor != null)
                 .build();
 
     }
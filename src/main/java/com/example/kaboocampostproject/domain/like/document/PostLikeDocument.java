@@ -0,0 +1,40 @@
+package com.example.kaboocampostproject.domain.like.document;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.time.Instant;
+
+/// 좋아요 (app.like-store.type=mongo 일 때만 사용)
+/// 취소는 soft delete 없이 문서를 지운다. (postId, memberId) unique라 중복 좋아요는 upsert 한번으로 걸러진다
+@Document(collection = "post_likes")
+@CompoundIndexes({
+        // 페이지 단위 좋아요 수 / amILike: postId IN + memberId
+        @CompoundIndex(name = "uk_postId_memberId", def = "{'postId': 1, 'memberId': 1}", unique = true),
+        // 회원 탈퇴 시 회원의 좋아요 전체 조회
+        @CompoundIndex(name = "idx_memberId_postId", def = "{'memberId': 1, 'postId': 1}")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@FieldNameConstants(innerTypeName = "PostLikeFields")
+public class PostLikeDocument {
+
+    @Id
+    private String id;
+
+    // posts._id와 같은 ObjectId로 저장 (12바이트)
+    @Field(targetType = FieldType.OBJECT_ID)
+    private String postId;
+
+    private Long memberId;
+
+    private Instant createdAt;
+}
@@ -0,0 +1,8 @@
+package com.example.kaboocampostproject.domain.like.dto;
+
+// 버퍼에 쌓인 (게시물, 회원)의 최종 좋아요 상태
+public record PostLikeChange(
+        String postId,
+        Long memberId,
+        boolean liked
+) {}
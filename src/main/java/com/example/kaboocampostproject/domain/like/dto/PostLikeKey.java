@@ -0,0 +1,17 @@
+package com.example.kaboocampostproject.domain.like.dto;
+
+// post_likes PK (post_id, member_id). 마이그레이션 진행 위치로도 사용
+public record PostLikeKey(
+        String postId,
+        Long memberId
+) {
+    public static PostLikeKey parse(String value) {
+        int separator = value.lastIndexOf(':');
+        return new PostLikeKey(value.substring(0, separator), Long.parseLong(value.substring(separator + 1)));
+    }
+
+    @Override
+    public String toString() {
+        return postId + ":" + memberId;
+    }
+}
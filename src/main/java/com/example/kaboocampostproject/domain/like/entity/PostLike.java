@@ -1,46 +1,32 @@
 package com.example.kaboocampostproject.domain.like.entity;
 
-import com.example.kaboocampostproject.global.mongo.StringIdBinaryConverter;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/// 복합 PK(post_id, member_id) - docs/reports/post-likes-schema-benchmark-2026-02-17.md 의 A_bin
+/// - (회원, 게시물)당 한 행. 취소는 deleted_at만 채우고, 다시 좋아요하면 같은 행의 deleted_at을 비운다
+/// - 보조 인덱스는 회원 탈퇴 시 좋아요 일괄 취소용 member_id 하나만 유지
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(
         name = "post_likes",
         indexes = {
-                @Index(name = "idx_post_likes_composite", columnList = "post_id, member_id, deleted_at"),
                 @Index(name = "idx_post_likes_member", columnList = "member_id")
-        },
-        uniqueConstraints = {
-                @UniqueConstraint(
-                        name = "uk_member_post_active",// member가 게시물에 좋아요를 한번만 추가할 수 있음을 명시.
-                        columnNames = {"member_id", "post_id", "deleted_at"}
-                )
         }
 )
-@SQLDelete(sql = "UPDATE post_likes SET deleted_at = NOW() WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
 @EntityListeners(AuditingEntityListener.class)
-public class PostLike {
+public class PostLike implements Persistable<PostLikeId> {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(name = "post_id", columnDefinition = "BINARY(12)", nullable = false)
-    @Convert(converter = StringIdBinaryConverter.class)
-    private String postId;
-
-    @Column(name = "member_id", nullable = false)
-    private Long memberId;
+    @EmbeddedId
+    private PostLikeId id;
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -50,11 +36,16 @@ public class PostLike {
     private LocalDateTime deletedAt;
 
     private PostLike(Long memberId, String postId) {
-        this.memberId = memberId;
-        this.postId = postId;
+        this.id = new PostLikeId(postId, memberId);
     }
 
     public static PostLike of(Long memberId, String postId) {
         return new PostLike(memberId, postId);
     }
+
+    // id를 직접 지정하므로 save() 시 merge(SELECT) 대신 persist 되도록 생성 전 여부로 판단
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
 }
@@ -0,0 +1,32 @@
+package com.example.kaboocampostproject.domain.like.entity;
+
+import com.example.kaboocampostproject.global.mongo.StringIdBinaryConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// PK(post_id, member_id). 게시물별 좋아요 집계/IN 조회가 PK 범위 스캔으로 끝난다
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Embeddable
+public class PostLikeId implements Serializable {
+
+    @Column(name = "post_id", columnDefinition = "BINARY(12)", nullable = false)
+    @Convert(converter = StringIdBinaryConverter.class)
+    private String postId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    public PostLikeId(String postId, Long memberId) {
+        this.postId = postId;
+        this.memberId = memberId;
+    }
+}
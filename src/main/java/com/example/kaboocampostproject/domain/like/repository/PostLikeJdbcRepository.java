@@ -0,0 +1,90 @@
+package com.example.kaboocampostproject.domain.like.repository;
+
+import com.example.kaboocampostproject.domain.like.dto.PostLikeChange;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/// post_likes 일괄 반영용 (JPA IDENTITY는 insert를 배치로 묶지 못하므로 JDBC 배치 사용)
+@Repository
+@RequiredArgsConstructor
+public class PostLikeJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 활성 좋아요가 있는 (postId:memberId) 목록
+    public Set<String> findActiveKeys(List<PostLikeChange> changes) {
+        if (changes.isEmpty()) return Set.of();
+
+        String tuples = String.join(",", Collections.nCopies(changes.size(), "(?, ?)"));
+        List<Object> args = new ArrayList<>(changes.size() * 2);
+        for (PostLikeChange change : changes) {
+            args.add(new ObjectId(change.postId()).toByteArray());
+            args.add(change.memberId());
+        }
+
+        Set<String> keys = new HashSet<>();
+        jdbcTemplate.query(
+                "SELECT post_id, member_id FROM post_likes WHERE deleted_at IS NULL AND (post_id, member_id) IN (" + tuples + ")",
+                rs -> {
+                    keys.add(keyOf(new ObjectId(rs.getBytes("post_id")).toHexString(), rs.getLong("member_id")));
+                },
+                args.toArray());
+        return keys;
+    }
+
+    // 탈퇴(soft delete)한 회원 id. 트랜잭션 안에서 호출
+    // 회원 행을 공유 잠금으로 읽어서, 탈퇴 처리는 이 트랜잭션이 끝날 때까지 기다린다
+    // -> 탈퇴 전으로 읽은 반영은 항상 탈퇴(와 그 뒤의 연쇄 삭제)보다 먼저 커밋된다
+    public Set<Long> findDeletedMemberIds(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) return Set.of();
+
+        String placeholders = String.join(",", Collections.nCopies(memberIds.size(), "?"));
+        Set<Long> deleted = new HashSet<>();
+        jdbcTemplate.query(
+                "SELECT id, deleted_at FROM members WHERE id IN (" + placeholders + ") LOCK IN SHARE MODE",
+                rs -> {
+                    if (rs.getTimestamp("deleted_at") != null) deleted.add(rs.getLong("id"));
+                },
+                memberIds.toArray());
+        return deleted;
+    }
+
+    // PK(post_id, member_id)라 취소했던 좋아요는 같은 행을 되살린다
+    public void batchInsert(List<PostLikeChange> likes) {
+        if (likes.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO post_likes (post_id, member_id, created_at) VALUES (?, ?, NOW()) "
+                        + "ON DUPLICATE KEY UPDATE created_at = NOW(), deleted_at = NULL",
+                likes, likes.size(),
+                (ps, like) -> {
+                    ps.setBytes(1, new ObjectId(like.postId()).toByteArray());
+                    ps.setLong(2, like.memberId());
+                });
+    }
+
+    // 행이 없어도 취소 상태로 남겨서, 아직 복사되지 않은 기존 좋아요가 마이그레이션 때 되살아나지 않게 한다
+    public void batchSoftDelete(List<PostLikeChange> unlikes) {
+        if (unlikes.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO post_likes (post_id, member_id, created_at, deleted_at) VALUES (?, ?, NOW(), NOW()) "
+                        + "ON DUPLICATE KEY UPDATE deleted_at = COALESCE(deleted_at, NOW())",
+                unlikes, unlikes.size(),
+                (ps, unlike) -> {
+                    ps.setBytes(1, new ObjectId(unlike.postId()).toByteArray());
+                    ps.setLong(2, unlike.memberId());
+                });
+    }
+
+    public static String keyOf(String postId, Long memberId) {
+        return postId + ":" + memberId;
+    }
+}
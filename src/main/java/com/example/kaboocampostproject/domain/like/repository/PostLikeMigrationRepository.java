@@ -0,0 +1,105 @@
+package com.example.kaboocampostproject.domain.like.repository;
+
+import com.example.kaboocampostproject.domain.like.dto.PostLikeKey;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/// 기존 post_likes(IDENTITY id, (member_id, post_id, deleted_at) 유니크) -> 복합키 post_likes 복사
+/// 기존 테이블은 같은 (게시물, 회원)에 취소된 행이 여러 개 있을 수 있어 쌍 단위로 묶어서 한 행으로 만든다
+/// - 활성 행이 하나라도 있으면 활성(deleted_at NULL), 없으면 가장 마지막 취소 시각
+/// - 이미 새 테이블에 있는 쌍은 운영 중 새로 기록된 값이므로 덮어쓰지 않는다 (INSERT IGNORE)
+@Repository
+@RequiredArgsConstructor
+public class PostLikeMigrationRepository {
+
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // after 다음부터 limit 개의 (post_id, member_id). 기존 (post_id, member_id, deleted_at) 인덱스 순서
+    public List<PostLikeKey> findNextKeys(String legacyTable, PostLikeKey after, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT post_id, member_id FROM " + table(legacyTable)
+                + where(after, null, args)
+                + " GROUP BY post_id, member_id ORDER BY post_id, member_id LIMIT ?";
+        args.add(limit);
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new PostLikeKey(new ObjectId(rs.getBytes("post_id")).toHexString(), rs.getLong("member_id")),
+                args.toArray());
+    }
+
+    // (after, last] 구간 복사. 새로 들어간 행 수 반환
+    public int copyRange(String legacyTable, PostLikeKey after, PostLikeKey last) {
+        List<Object> args = new ArrayList<>();
+        String sql = "INSERT IGNORE INTO post_likes (post_id, member_id, created_at, deleted_at) "
+                + "SELECT post_id, member_id, "
+                + "COALESCE(MIN(CASE WHEN deleted_at IS NULL THEN created_at END), MIN(created_at)), "
+                + "CASE WHEN SUM(deleted_at IS NULL) > 0 THEN NULL ELSE MAX(deleted_at) END "
+                + "FROM " + table(legacyTable)
+                + where(after, last, args)
+                + " GROUP BY post_id, member_id";
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    // 새 테이블에 있는 쌍의 수 (취소 포함)
+    public int countExisting(List<PostLikeKey> keys) {
+        if (keys.isEmpty()) return 0;
+        String tuples = String.join(",", Collections.nCopies(keys.size(), "(?, ?)"));
+        List<Object> args = new ArrayList<>(keys.size() * 2);
+        for (PostLikeKey key : keys) {
+            args.add(new ObjectId(key.postId()).toByteArray());
+            args.add(key.memberId());
+        }
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_likes WHERE (post_id, member_id) IN (" + tuples + ")",
+                Integer.class, args.toArray());
+        return count == null ? 0 : count;
+    }
+
+    // 전체 검증: 기존 테이블의 쌍 수
+    public long countLegacyKeys(String legacyTable) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT DISTINCT post_id, member_id FROM " + table(legacyTable) + ") l",
+                Long.class);
+        return count == null ? 0L : count;
+    }
+
+    // 전체 검증: 기존 테이블의 쌍 중 새 테이블에 있는 수
+    public long countMigratedKeys(String legacyTable) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT DISTINCT post_id, member_id FROM " + table(legacyTable) + ") l "
+                        + "JOIN post_likes p ON p.post_id = l.post_id AND p.member_id = l.member_id",
+                Long.class);
+        return count == null ? 0L : count;
+    }
+
+    private static String where(PostLikeKey after, PostLikeKey last, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (after != null) {
+            conditions.add("(post_id, member_id) > (?, ?)");
+            args.add(new ObjectId(after.postId()).toByteArray());
+            args.add(after.memberId());
+        }
+        if (last != null) {
+            conditions.add("(post_id, member_id) <= (?, ?)");
+            args.add(new ObjectId(last.postId()).toByteArray());
+            args.add(last.memberId());
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    // 설정값이 SQL에 그대로 들어가므로 테이블명 형식 확인
+    private static String table(String name) {
+        if (!TABLE_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("잘못된 테이블명: " + name);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.kaboocampostproject.domain.like.repository;
+
+import com.example.kaboocampostproject.domain.like.document.PostLikeDocument.PostLikeFields;
+import com.example.kaboocampostproject.domain.like.dto.PostLikeStatsDto;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/// post_likes 컬렉션 (MongoLikeStore 전용). postId는 ObjectId로 저장
+@Repository
+@RequiredArgsConstructor
+public class PostLikeMongoRepository {
+
+    private static final String COLLECTION = "post_likes";
+
+    private final MongoTemplate mongo;
+
+    private MongoCollection<Document> collection() {
+        return mongo.getCollection(COLLECTION);
+    }
+
+    // 중복 좋아요 방지가 이 인덱스에 달려 있어서 기동 시 직접 생성 (이미 있으면 무시됨)
+    public void createIndexes() {
+        collection().createIndex(
+                Indexes.ascending(PostLikeFields.postId, PostLikeFields.memberId),
+                new IndexOptions().name("uk_postId_memberId").unique(true));
+        collection().createIndex(
+                Indexes.ascending(PostLikeFields.memberId, PostLikeFields.postId),
+                new IndexOptions().name("idx_memberId_postId"));
+    }
+
+    // 새로 좋아요한 경우만 true
+    public boolean insertIfAbsent(String postId, Long memberId) {
+        try {
+            UpdateResult result = collection().updateOne(
+                    keyFilter(postId, memberId),
+                    Updates.setOnInsert(PostLikeFields.createdAt, Date.from(Instant.now())),
+                    new UpdateOptions().upsert(true));
+            return result.getUpsertedId() != null;
+        } catch (MongoWriteException e) {
+            // 같은 (postId, memberId) 동시 upsert 중 하나는 unique 위반으로 실패
+            if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) return false;
+            throw e;
+        }
+    }
+
+    // 실제로 지운 경우만 true
+    public boolean delete(String postId, Long memberId) {
+        return collection().deleteOne(keyFilter(postId, memberId)).getDeletedCount() > 0;
+    }
+
+    // uk_postId_memberId 인덱스만으로 집계
+    public List<PostLikeStatsDto> findStats(Long memberId, List<String> postIds) {
+        List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.in(PostLikeFields.postId, toObjectIds(postIds))),
+                Aggregates.group("$" + PostLikeFields.postId,
+                        Accumulators.sum("likeCount", 1L),
+                        Accumulators.max("amILike", new Document("$eq", List.of("$" + PostLikeFields.memberId, memberId))))
+        );
+
+        List<PostLikeStatsDto> stats = new ArrayList<>();
+        for (Document doc : collection().aggregate(pipeline)) {
+            stats.add(new PostLikeStatsDto(
+                    doc.getObjectId("_id").toHexString(),
+                    ((Number) doc.get("likeCount")).longValue(),
+                    doc.getBoolean("amILike")));
+        }
+        return stats;
+    }
+
+    // 재집계용 게시물별 좋아요 수 (uk_postId_memberId 인덱스만으로 집계)
+    public Map<String, Long> countByPostIds(List<String> postIds) {
+        List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.in(PostLikeFields.postId, toObjectIds(postIds))),
+                Aggregates.group("$" + PostLikeFields.postId, Accumulators.sum("likeCount", 1L))
+        );
+
+        Map<String, Long> counts = new HashMap<>();
+        for (Document doc : collection().aggregate(pipeline)) {
+            counts.put(doc.getObjectId("_id").toHexString(), ((Number) doc.get("likeCount")).longValue());
+        }
+        return counts;
+    }
+
+    public List<String> findLikedPostIds(Long memberId, List<String> postIds) {
+        List<String> liked = new ArrayList<>();
+        collection().find(Filters.and(
+                        Filters.eq(PostLikeFields.memberId, memberId),
+                        Filters.in(PostLikeFields.postId, toObjectIds(postIds))))
+                .projection(Projections.include(PostLikeFields.postId))
+                .forEach(doc -> liked.add(doc.getObjectId(PostLikeFields.postId).toHexString()));
+        return liked;
+    }
+
+    public List<String> findPostIdsByMemberId(Long memberId) {
+        List<String> postIds = new ArrayList<>();
+        collection().find(Filters.eq(PostLikeFields.memberId, memberId))
+                .projection(Projections.include(PostLikeFields.postId))
+                .forEach(doc -> postIds.add(doc.getObjectId(PostLikeFields.postId).toHexString()));
+        return postIds;
+    }
+
+    public void deleteAllByMemberId(Long memberId) {
+        collection().deleteMany(Filters.eq(PostLikeFields.memberId, memberId));
+    }
+
+    private static Bson keyFilter(String postId, Long memberId) {
+        return Filters.and(
+                Filters.eq(PostLikeFields.postId, new ObjectId(postId)),
+                Filters.eq(PostLikeFields.memberId, memberId));
+    }
+
+    private static List<ObjectId> toObjectIds(List<String> postIds) {
+        return postIds.stream().filter(ObjectId::isValid).map(ObjectId::new).toList();
+    }
+}
@@ -3,57 +3,73 @@ package com.example.kaboocampostproject.domain.like.repository;
 
 import com.example.kaboocampostproject.domain.like.dto.PostLikeStatsDto;
 import com.example.kaboocampostproject.domain.like.entity.PostLike;
+import com.example.kaboocampostproject.domain.like.entity.PostLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 
-public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId> {
 
     @Query("""
         SELECT new com.example.kaboocampostproject.domain.like.dto.PostLikeStatsDto(
-            pl.postId,
+            pl.id.postId,
             COUNT(pl),
-            MAX(CASE WHEN pl.memberId = :memberId THEN true ELSE false END)
+            MAX(CASE WHEN pl.id.memberId = :memberId THEN true ELSE false END)
         )
         FROM PostLike pl
-        WHERE pl.postId IN :postIds
-        GROUP BY pl.postId
+        WHERE pl.id.postId IN :postIds
+        GROUP BY pl.id.postId
     """)
     List<PostLikeStatsDto> findPostLikeStats(
             @Param("postIds") List<String> postIds,
             @Param("memberId") Long memberId
     );
 
+    // 재집계용 게시물별 좋아요 수
     @Query("""
-    SELECT new com.example.kaboocampostproject.domain.like.dto.PostLikeStatsDto(
-        pl.postId,
-        COUNT(pl),
-        MAX(CASE WHEN pl.memberId = :memberId THEN true ELSE false END)
-    )
-    FROM PostLike pl
-    WHERE pl.postId = :postId
-    GROUP BY pl.postId
-""")
-    Optional<PostLikeStatsDto> findPostLikeStatsByPostId(
-            @Param("postId") String postId,
-            @Param("memberId") Long memberId
-    );
+        SELECT new com.example.kaboocampostproject.domain.like.dto.PostLikeStatsDto(
+            pl.id.postId,
+            COUNT(pl),
+            false
+        )
+        FROM PostLike pl
+        WHERE pl.id.postId IN :postIds
+        GROUP BY pl.id.postId
+    """)
+    List<PostLikeStatsDto> countByPostIds(@Param("postIds") List<String> postIds);
 
-    boolean existsByMemberIdAndPostId(Long memberId, String postId); //좋아요 여부
+    //좋아요 여부 (PK 단건 조회)
+    @Query("""
+        SELECT COUNT(pl) > 0
+        FROM PostLike pl
+        WHERE pl.id.postId = :postId
+        AND pl.id.memberId = :memberId
+    """)
+    boolean existsByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") String postId);
 
-    PostLike findByMemberIdAndPostId(Long memberId, String postId);
+    // 페이지 내 게시물 중 내가 좋아요한 게시물 (PK 범위 조회)
+    @Query("""
+        SELECT pl.id.postId
+        FROM PostLike pl
+        WHERE pl.id.memberId = :memberId
+        AND pl.id.postId IN :postIds
+    """)
+    List<String> findLikedPostIds(
+            @Param("memberId") Long memberId,
+            @Param("postIds") List<String> postIds
+    );
 
-    List<PostLike> findAllByMemberId(Long memberId);
+    @Query("SELECT pl.id.postId FROM PostLike pl WHERE pl.id.memberId = :memberId")
+    List<String> findPostIdsByMemberId(@Param("memberId") Long memberId);
 
     @Modifying
     @Query("""
         UPDATE PostLike 
         SET deletedAt = CURRENT_TIMESTAMP 
-        WHERE memberId = :memberId
+        WHERE id.memberId = :memberId
         AND deletedAt is null
         """)
     void softDeleteAllByMemberId(@Param("memberId") Long memberId);
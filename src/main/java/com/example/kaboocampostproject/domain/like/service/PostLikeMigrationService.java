@@ -0,0 +1,132 @@
+package com.example.kaboocampostproject.domain.like.service;
+
+import com.example.kaboocampostproject.domain.like.dto.PostLikeKey;
+import com.example.kaboocampostproject.domain.like.repository.PostLikeMigrationRepository;
+import com.example.kaboocampostproject.global.config.PostLikeMigrationProperties;
+import com.example.kaboocampostproject.global.lock.RedisLease;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/// post_likes 복합키 전환 (app.post-like-migration.enabled=true 일 때만)
+/// 사전 작업: RENAME TABLE post_likes TO post_likes_legacy 후 새 post_likes 생성
+/// - 기동 후 별도 스레드에서 (post_id, member_id) 순으로 청크 복사. WAS 하나만 실행 (리더 임대)
+/// - 청크마다 복사한 쌍이 새 테이블에 모두 있는지 확인 후 진행 위치를 Redis에 기록 -> 중단돼도 이어서 진행
+/// - 마지막에 전체 쌍 수를 다시 비교해서 같을 때만 완료 처리
+/// 복사 중에도 좋아요 요청은 새 테이블에 기록된다. 아직 복사되지 않은 기존 좋아요는 복사 전까지 내 좋아요 여부에서 빠진다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeMigrationService {
+
+    private static final String DONE = "DONE";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(60);
+    private static final long RETRY_DELAY_MS = 30_000;
+
+    private final PostLikeMigrationRepository migrationRepository;
+    private final PostLikeMigrationProperties properties;
+    private final StringRedisTemplate redisTemplate;
+
+    private volatile boolean stopped;
+
+    private static String progressKey() {
+        return RedisMetadata.POST_LIKE.keyOf("MIGRATION");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) return;
+        Thread worker = new Thread(this::run, "post-like-migration");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+    }
+
+    private void run() {
+        RedisLease lease = new RedisLease(redisTemplate, RedisMetadata.POST_LIKE.keyOf("MIGRATION_LEASE"), LEASE_TTL);
+        while (!stopped) {
+            try {
+                if (!lease.acquire()) {
+                    sleep(RETRY_DELAY_MS);
+                    continue;
+                }
+                String progress = redisTemplate.opsForValue().get(progressKey());
+                if (DONE.equals(progress)) break;
+
+                PostLikeKey after = progress == null ? null : PostLikeKey.parse(progress);
+                PostLikeKey last = copyChunk(after);
+                if (last == null) {
+                    if (verifyAll()) {
+                        redisTemplate.opsForValue().set(progressKey(), DONE);
+                        lease.release();
+                    }
+                    break;
+                }
+                redisTemplate.opsForValue().set(progressKey(), last.toString());
+                sleep(properties.getPauseMs());
+            } catch (MigrationMismatchException e) {
+                log.error("좋아요 마이그레이션 중단. 확인 후 재기동하면 마지막 위치부터 이어서 진행", e);
+                break;
+            } catch (Exception e) {
+                log.warn("좋아요 마이그레이션 청크 실패. 재시도 예정", e);
+                sleep(RETRY_DELAY_MS);
+            }
+        }
+    }
+
+    // (after, 다음 chunkSize번째 쌍] 복사 후 검증. 더 없으면 null
+    private PostLikeKey copyChunk(PostLikeKey after) {
+        String legacyTable = properties.getLegacyTable();
+        List<PostLikeKey> keys = migrationRepository.findNextKeys(legacyTable, after, properties.getChunkSize());
+        if (keys.isEmpty()) return null;
+
+        PostLikeKey last = keys.get(keys.size() - 1);
+        int inserted = migrationRepository.copyRange(legacyTable, after, last);
+        int existing = migrationRepository.countExisting(keys);
+        if (existing != keys.size()) {
+            throw new MigrationMismatchException(
+                    "청크 검증 실패. after: " + after + ", last: " + last + ", expected: " + keys.size() + ", actual: " + existing);
+        }
+        log.debug("좋아요 마이그레이션 청크. last: {}, 쌍 {}건, 신규 {}건", last, keys.size(), inserted);
+        return last;
+    }
+
+    private boolean verifyAll() {
+        String legacyTable = properties.getLegacyTable();
+        long legacy = migrationRepository.countLegacyKeys(legacyTable);
+        long migrated = migrationRepository.countMigratedKeys(legacyTable);
+        if (legacy != migrated) {
+            log.error("좋아요 마이그레이션 전체 검증 실패. legacy: {}, migrated: {}", legacy, migrated);
+            return false;
+        }
+        log.info("좋아요 마이그레이션 완료. (post_id, member_id) {}건", legacy);
+        return true;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+        }
+    }
+
+    private static class MigrationMismatchException extends RuntimeException {
+        MigrationMismatchException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.kaboocampostproject.domain.like.store;
+
+import com.example.kaboocampostproject.domain.like.dto.PostLikeStatsDto;
+import com.example.kaboocampostproject.domain.like.repository.PostLikeRepository;
+import com.example.kaboocampostproject.domain.post.cache.MemberLikedPostCacheService;
+import com.example.kaboocampostproject.domain.post.service.PostLikeBufferService;
+import com.example.kaboocampostproject.domain.post.service.PostLikeCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// MySql post_likes (기존 방식)
+/// 좋아요/취소와 amILike는 Redis write-behind 버퍼(PostLikeBufferService)를 거치고, 통계는 JPA로 post_likes를 직접 집계
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.like-store", name = "type", havingValue = "mysql", matchIfMissing = true)
+public class JpaLikeStore implements LikeStore {
+
+    private final PostLikeBufferService postLikeBufferService;
+    private final PostLikeRepository postLikeRepository;
+    private final PostLikeCountService postLikeCountService;
+    private final MemberLikedPostCacheService memberLikedPostCacheService;
+
+    @Override
+    public void like(Long memberId, String postId) {
+        postLikeBufferService.like(memberId, postId);
+    }
+
+    @Override
+    public void unlike(Long memberId, String postId) {
+        postLikeBufferService.unlike(memberId, postId);
+    }
+
+    // 버퍼에 남은 최대 1초치 변경은 반영되지 않은 값
+    @Override
+    public Map<String, PostLikeStatsDto> getStats(Long memberId, List<String> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        Map<String, PostLikeStatsDto> stats = new HashMap<>();
+        postLikeRepository.findPostLikeStats(postIds, memberId)
+                .forEach(stat -> stats.put(stat.postId(), stat));
+        return stats;
+    }
+
+    // 버퍼에서 아직 반영되지 않은 변경은 posts.likes 증감량에도 아직 없으므로 둘이 맞는다
+    @Override
+    public Map<String, Long> countByPostIds(List<String> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        Map<String, Long> counts = new HashMap<>();
+        postLikeRepository.countByPostIds(postIds)
+                .forEach(stat -> counts.put(stat.postId(), stat.likeCount()));
+        return counts;
+    }
+
+    @Override
+    public Set<String> findLikedPostIds(Long memberId, List<String> postIds) {
+        return postLikeBufferService.findLikedPostIds(memberId, postIds);
+    }
+
+    // postLike 벌크수정 (게시물 좋아요 카운터도 차감)
+    @Override
+    @Transactional
+    public void deleteAllByMember(Long memberId) {
+        List<String> likedPostIds = postLikeRepository.findPostIdsByMemberId(memberId);
+        postLikeRepository.softDeleteAllByMemberId(memberId);
+        likedPostIds.forEach(postLikeCountService::decrement);
+        memberLikedPostCacheService.evict(memberId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.kaboocampostproject.domain.like.store;
+
+import com.example.kaboocampostproject.domain.like.dto.PostLikeStatsDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// 좋아요 저장소. app.like-store.type 으로 구현체 하나를 고른다
+/// - mysql(기본): post_likes 테이블 (Redis write-behind 버퍼 + JDBC 배치)
+/// - mongo: post_likes 컬렉션, (postId, memberId) unique 인덱스
+/// - redis: 게시물별 좋아요 회원 SET + 회원별 좋아요 게시물 SET
+/// 어느 구현체든 실제로 상태가 바뀐 좋아요만 posts.likes 카운터에 반영한다 (목록/상세의 좋아요 수는 posts.likes)
+public interface LikeStore {
+
+    void like(Long memberId, String postId);
+
+    void unlike(Long memberId, String postId);
+
+    // 게시물별 좋아요 수 + 내가 좋아요했는지 (저장소 원본 기준). 좋아요가 없는 게시물은 빠진다
+    Map<String, PostLikeStatsDto> getStats(Long memberId, List<String> postIds);
+
+    // 게시물별 좋아요 수 (저장소 원본 기준, posts.likes 재집계용). 좋아요가 없는 게시물은 빠진다
+    Map<String, Long> countByPostIds(List<String> postIds);
+
+    // 페이지 내 게시물 중 내가 좋아요한 게시물
+    Set<String> findLikedPostIds(Long memberId, List<String> postIds);
+
+    default boolean isLiked(Long memberId, String postId) {
+        return findLikedPostIds(memberId, List.of(postId)).contains(postId);
+    }
+
+    // 회원 탈퇴 시 좋아요 전부 취소 (게시물 좋아요 수도 차감)
+    void deleteAllByMember(Long memberId);
+}
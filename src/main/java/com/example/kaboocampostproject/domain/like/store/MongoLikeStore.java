@@ -0,0 +1,85 @@
+package com.example.kaboocampostproject.domain.like.store;
+
+import com.example.kaboocampostproject.domain.like.dto.PostLikeStatsDto;
+import com.example.kaboocampostproject.domain.like.repository.PostLikeMongoRepository;
+import com.example.kaboocampostproject.domain.post.error.PostErrorCode;
+import com.example.kaboocampostproject.domain.post.error.PostException;
+import com.example.kaboocampostproject.domain.post.service.PostLikeCountService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// Mongo post_likes 컬렉션
+/// 게시물과 같은 DB라 피드 한 페이지가 MySql을 거치지 않는다. 좋아요/취소는 버퍼 없이 바로 upsert / delete
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.like-store", name = "type", havingValue = "mongo")
+public class MongoLikeStore implements LikeStore {
+
+    private final PostLikeMongoRepository postLikeMongoRepository;
+    private final PostLikeCountService postLikeCountService;
+
+    @PostConstruct
+    public void init() {
+        postLikeMongoRepository.createIndexes();
+    }
+
+    @Override
+    public void like(Long memberId, String postId) {
+        validatePostId(postId);
+        if (postLikeMongoRepository.insertIfAbsent(postId, memberId)) {
+            postLikeCountService.increment(postId);
+        }
+    }
+
+    @Override
+    public void unlike(Long memberId, String postId) {
+        validatePostId(postId);
+        if (postLikeMongoRepository.delete(postId, memberId)) {
+            postLikeCountService.decrement(postId);
+        }
+    }
+
+    @Override
+    public Map<String, PostLikeStatsDto> getStats(Long memberId, List<String> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        Map<String, PostLikeStatsDto> stats = new HashMap<>();
+        postLikeMongoRepository.findStats(memberId, postIds)
+                .forEach(stat -> stats.put(stat.postId(), stat));
+        return stats;
+    }
+
+    @Override
+    public Map<String, Long> countByPostIds(List<String> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        return postLikeMongoRepository.countByPostIds(postIds);
+    }
+
+    @Override
+    public Set<String> findLikedPostIds(Long memberId, List<String> postIds) {
+        if (postIds.isEmpty()) return Set.of();
+        return new HashSet<>(postLikeMongoRepository.findLikedPostIds(memberId, postIds));
+    }
+
+    @Override
+    public void deleteAllByMember(Long memberId) {
+        List<String> likedPostIds = postLikeMongoRepository.findPostIdsByMemberId(memberId);
+        postLikeMongoRepository.deleteAllByMemberId(memberId);
+        likedPostIds.forEach(postLikeCountService::decrement);
+    }
+
+    // postId를 ObjectId로 저장하므로 형식이 아니면 존재할 수 없는 게시물 (IllegalArgumentException이 500으로 새지 않게)
+    private static void validatePostId(String postId) {
+        if (!ObjectId.isValid(postId)) {
+            throw new PostException(PostErrorCode.POST_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.kaboocampostproject.domain.like.store;
+
+import com.example.kaboocampostproject.domain.like.dto.PostLikeStatsDto;
+import com.example.kaboocampostproject.domain.post.service.PostLikeCountService;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// Redis SET
+/// - POST_LIKERS:{postId}: 좋아요한 회원 (좋아요 수 = SCARD)
+/// - MEMBER_LIKES:{memberId}: 좋아요한 게시물 (amILike = SMISMEMBER 한번)
+/// 두 SET은 Lua로 같이 바꾼다. 원본 저장소라 TTL이 없고, 운영 시 AOF(appendfsync everysec) 이상이 필요
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.like-store", name = "type", havingValue = "redis")
+public class RedisLikeStore implements LikeStore {
+
+    private static final DefaultRedisScript<Long> LIKE = new DefaultRedisScript<>(
+            "local added = redis.call('sadd', KEYS[1], ARGV[1]) "
+                    + "redis.call('sadd', KEYS[2], ARGV[2]) "
+                    + "return added", Long.class);
+
+    private static final DefaultRedisScript<Long> UNLIKE = new DefaultRedisScript<>(
+            "local removed = redis.call('srem', KEYS[1], ARGV[1]) "
+                    + "redis.call('srem', KEYS[2], ARGV[2]) "
+                    + "return removed", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostLikeCountService postLikeCountService;
+
+    private static String likersKey(String postId) {
+        return RedisMetadata.POST_LIKERS.keyOf(postId);
+    }
+
+    private static String memberKey(Long memberId) {
+        return RedisMetadata.MEMBER_LIKES.keyOf(memberId);
+    }
+
+    @Override
+    public void like(Long memberId, String postId) {
+        Long added = redisTemplate.execute(LIKE, List.of(likersKey(postId), memberKey(memberId)),
+                memberId.toString(), postId);
+        if (added != null && added == 1L) postLikeCountService.increment(postId);
+    }
+
+    @Override
+    public void unlike(Long memberId, String postId) {
+        Long removed = redisTemplate.execute(UNLIKE, List.of(likersKey(postId), memberKey(memberId)),
+                memberId.toString(), postId);
+        if (removed != null && removed == 1L) postLikeCountService.decrement(postId);
+    }
+
+    // 게시물마다 SCARD + SISMEMBER, 파이프라인 한번
+    @Override
+    public Map<String, PostLikeStatsDto> getStats(Long memberId, List<String> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        byte[] member = RedisSerializer.string().serialize(memberId.toString());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String postId : postIds) {
+                byte[] key = RedisSerializer.string().serialize(likersKey(postId));
+                connection.setCommands().sCard(key);
+                connection.setCommands().sIsMember(key, member);
+            }
+            return null;
+        });
+
+        Map<String, PostLikeStatsDto> stats = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            long count = ((Number) results.get(i * 2)).longValue();
+            if (count == 0L) continue;
+            String postId = postIds.get(i);
+            stats.put(postId, new PostLikeStatsDto(postId, count, Boolean.TRUE.equals(results.get(i * 2 + 1))));
+        }
+        return stats;
+    }
+
+    // 게시물마다 SCARD, 파이프라인 한번
+    @Override
+    public Map<String, Long> countByPostIds(List<String> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String postId : postIds) {
+                connection.setCommands().sCard(RedisSerializer.string().serialize(likersKey(postId)));
+            }
+            return null;
+        });
+
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            long count = ((Number) results.get(i)).longValue();
+            if (count > 0L) counts.put(postIds.get(i), count);
+        }
+        return counts;
+    }
+
+    @Override
+    public Set<String> findLikedPostIds(Long memberId, List<String> postIds) {
+        if (postIds.isEmpty()) return Set.of();
+        Map<Object, Boolean> membership = redisTemplate.opsForSet().isMember(memberKey(memberId), postIds.toArray());
+        Set<String> liked = new HashSet<>();
+        if (membership == null) return liked;
+        membership.forEach((postId, isMember) -> {
+            if (Boolean.TRUE.equals(isMember)) liked.add(postId.toString());
+        });
+        return liked;
+    }
+
+    @Override
+    public void deleteAllByMember(Long memberId) {
+        Set<String> likedPostIds = redisTemplate.opsForSet().members(memberKey(memberId));
+        if (likedPostIds == null || likedPostIds.isEmpty()) return;
+
+        byte[] member = RedisSerializer.string().serialize(memberId.toString());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String postId : likedPostIds) {
+                connection.setCommands().sRem(RedisSerializer.string().serialize(likersKey(postId)), member);
+            }
+            connection.keyCommands().del(RedisSerializer.string().serialize(memberKey(memberId)));
+            return null;
+        });
+        likedPostIds.forEach(postLikeCountService::decrement);
+    }
+}
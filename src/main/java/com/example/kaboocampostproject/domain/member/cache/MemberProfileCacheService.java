@@ -1,6 +1,7 @@
 package com.example.kaboocampostproject.domain.member.cache;
 
 import com.example.kaboocampostproject.domain.member.repository.MemberRepository;
+import com.example.kaboocampostproject.global.async.SingleFlight;
 import com.example.kaboocampostproject.global.metadata.RedisMetadata;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisCallback;
@@ -15,6 +16,7 @@ import java.util.*;
 public class MemberProfileCacheService {
     private final RedisTemplate<String, MemberProfileCacheDTO> redisTemplate;
     private final MemberRepository memberRepository;
+    private final SingleFlight singleFlight;
 
     public void cacheProfile(MemberProfileCacheDTO profile) {
         String key = RedisMetadata.MEMBER_PROFILE.keyOf(profile.id());
@@ -31,7 +33,8 @@ public class MemberProfileCacheService {
         String key = RedisMetadata.MEMBER_PROFILE.keyOf(memberId);
         MemberProfileCacheDTO profile = redisTemplate.opsForValue().get(key);
         if (profile == null) {
-            profile = memberRepository.getMemberProfile(memberId);
+            // 동시에 미스난 요청은 DB 조회 한번을 공유
+            profile = singleFlight.execute("memberProfile", memberId, () -> memberRepository.getMemberProfile(memberId));
             if (profile != null) {
                 cacheProfile(profile);
             }
@@ -66,8 +69,10 @@ public class MemberProfileCacheService {
         }
 
         if (!missed.isEmpty()) {
-            // 캐시미스 DB 조회
-            List<MemberProfileCacheDTO> profiles = memberRepository.getMemberProfiles(missed);
+            // 캐시미스 DB 조회. 같은 미스 목록(같은 페이지)을 동시에 조회하는 요청은 한번만 실행
+            List<Long> missedKey = missed.stream().sorted().toList();
+            List<MemberProfileCacheDTO> profiles = singleFlight.execute("memberProfiles", missedKey,
+                    () -> memberRepository.getMemberProfiles(missed));
 
             // getValueSerializer()는 반환값이 RedisSerializer<?> 이기 때문에 타입 지정을 해 줘야 serialize(@Nullable T value) 사용가능
             RedisSerializer<MemberProfileCacheDTO> valueSerializer =
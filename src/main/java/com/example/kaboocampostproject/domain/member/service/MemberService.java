@@ -3,8 +3,8 @@ package com.example.kaboocampostproject.domain.member.service;
 import com.example.kaboocampostproject.domain.auth.email.EmailVerifier;
 import com.example.kaboocampostproject.domain.auth.entity.AuthMember;
 import com.example.kaboocampostproject.domain.auth.repository.AuthMemberRepository;
+import com.example.kaboocampostproject.domain.cascade.service.CascadeDeleteService;
 import com.example.kaboocampostproject.domain.like.entity.PostLike;
-import com.example.kaboocampostproject.domain.like.repository.PostLikeRepository;
 import com.example.kaboocampostproject.domain.member.dto.request.RecoverMemberReqDTO;
 import com.example.kaboocampostproject.domain.member.dto.request.UpdateMemberReqDTO;
 import com.example.kaboocampostproject.domain.member.dto.response.MemberProfileAndEmailResDTO;
@@ -24,8 +24,6 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -36,7 +34,7 @@ public class MemberService {
     private final AuthMemberRepository authMemberRepository;
     private final S3Service s3Service;
     private final S3Util s3Util;
-    private final PostLikeRepository postLikeRepository;
+    private final CascadeDeleteService cascadeDeleteService;
     private final EmailVerifier emailVerifier;
 
     public void createMember(MemberRegisterReqDTO memberDTO) {
@@ -74,6 +72,8 @@ public class MemberService {
 
         authMember.recoverAuthMember();
         member.recoverMember();
+        // 아직 처리되지 않은 연쇄 삭제 중단
+        cascadeDeleteService.cancelMemberDelete(member.getId());
     }
 
     @Transactional(readOnly = true)
@@ -105,11 +105,12 @@ public class MemberService {
 
     // 소프트 딜리트
     public void deleteMember(Long memberId) {
-        // postLike 벌크수정
-        postLikeRepository.softDeleteAllByMemberId(memberId);
-
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOND));
+
+        // 좋아요, 게시물, 댓글은 요청만 남기고 워커가 배치로 soft delete. 기록에 실패하면 회원 삭제도 롤백
+        cascadeDeleteService.requestMemberDelete(memberId);
+
         memberRepository.delete(member);
         memberProfileCacheService.removeProfileCached(memberId);
     }
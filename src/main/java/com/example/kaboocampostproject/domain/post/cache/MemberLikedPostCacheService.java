@@ -0,0 +1,125 @@
+package com.example.kaboocampostproject.domain.post.cache;
+
+import com.example.kaboocampostproject.domain.like.dto.PostLikeChange;
+import com.example.kaboocampostproject.domain.like.repository.PostLikeRepository;
+import com.example.kaboocampostproject.global.async.SingleFlight;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/// 회원별 좋아요한 게시물 집합 (Redis SET, MEMBER_LIKED_POSTS:{memberId})
+/// - 처음 조회할 때 idx_post_likes_member로 한번 채우고 TTL 동안 MySql 없이 SMISMEMBER로 확인
+/// - 빈 문자열(SENTINEL)을 항상 넣어서 좋아요가 없는 회원도 "채워진 상태"로 구분
+/// - 좋아요 반영(write-behind) 후 이미 채워진 집합에만 SADD/SREM (만료된 집합을 일부만 만들지 않음)
+/// - 반영할 때마다 회원별 버전(MEMBER_LIKED_POSTS:{memberId}:v)을 올리고, 채울 때는 MySql 조회 전 버전이 그대로일 때만 저장
+///   -> 조회와 저장 사이에 반영된 좋아요를 덮어쓴 오래된 집합이 TTL 동안 남지 않는다 (그 경우 다음 조회에서 다시 채움)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.like-store", name = "type", havingValue = "mysql", matchIfMissing = true)
+public class MemberLikedPostCacheService {
+
+    public static final String SENTINEL = "";
+
+    // 버전을 올리고 채워진 집합에만 반영
+    private static final byte[] APPLY_IF_WARM = (
+            "redis.call('incr', KEYS[2]) redis.call('expire', KEYS[2], ARGV[3]) "
+                    + "if redis.call('sismember', KEYS[1], '') == 1 then "
+                    + "if ARGV[2] == '1' then return redis.call('sadd', KEYS[1], ARGV[1]) "
+                    + "else return redis.call('srem', KEYS[1], ARGV[1]) end "
+                    + "end return 0").getBytes(StandardCharsets.UTF_8);
+
+    // ARGV[1]: 조회 전 버전, ARGV[2]: TTL(초), ARGV[3..]: SENTINEL + 게시물 id. 버전이 바뀌었으면 저장하지 않음
+    private static final DefaultRedisScript<Long> SAVE_IF_UNCHANGED = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                    + "for i = 3, #ARGV do redis.call('sadd', KEYS[1], ARGV[i]) end "
+                    + "redis.call('expire', KEYS[1], ARGV[2]) "
+                    + "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostLikeRepository postLikeRepository;
+    private final SingleFlight singleFlight;
+
+    public static String keyOf(Long memberId) {
+        return RedisMetadata.MEMBER_LIKED_POSTS.keyOf(memberId);
+    }
+
+    private static String versionKey(Long memberId) {
+        return RedisMetadata.MEMBER_LIKED_POSTS.keyOf(memberId, "v");
+    }
+
+    private static String ttlSeconds() {
+        return String.valueOf(RedisMetadata.MEMBER_LIKED_POSTS.getTtl().toSeconds());
+    }
+
+    // MySql에서 채우기. 같은 회원의 동시 요청은 한번만 조회
+    public Set<String> warm(Long memberId) {
+        return singleFlight.execute("memberLikedPosts", memberId, () -> {
+            // 조회 전 버전 (없으면 "0"). 버전을 못 읽으면 조회 결과만 돌려주고 저장하지 않는다
+            String version;
+            try {
+                version = Objects.requireNonNullElse(redisTemplate.opsForValue().get(versionKey(memberId)), "0");
+            } catch (Exception e) {
+                log.warn("좋아요 게시물 캐시 버전 조회 실패. memberId: {}", memberId, e);
+                version = null;
+            }
+            Set<String> postIds = new HashSet<>(postLikeRepository.findPostIdsByMemberId(memberId));
+            if (version == null) return postIds;
+
+            String[] args = new String[postIds.size() + 3];
+            args[0] = version;
+            args[1] = ttlSeconds();
+            args[2] = SENTINEL;
+            int i = 3;
+            for (String postId : postIds) args[i++] = postId;
+            try {
+                Long saved = redisTemplate.execute(SAVE_IF_UNCHANGED, List.of(keyOf(memberId), versionKey(memberId)), (Object[]) args);
+                if (saved == null || saved == 0L) log.debug("좋아요 게시물 캐시 저장 생략 (채우는 중 반영된 좋아요 있음). memberId: {}", memberId);
+            } catch (Exception e) {
+                log.warn("좋아요 게시물 캐시 저장 실패. memberId: {}", memberId, e);
+            }
+            return postIds;
+        });
+    }
+
+    // write-behind 반영 후 호출
+    public void apply(List<PostLikeChange> changes) {
+        if (changes.isEmpty()) return;
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (PostLikeChange change : changes) {
+                    connection.scriptingCommands().eval(APPLY_IF_WARM, ReturnType.INTEGER, 2,
+                            RedisSerializer.string().serialize(keyOf(change.memberId())),
+                            RedisSerializer.string().serialize(versionKey(change.memberId())),
+                            RedisSerializer.string().serialize(change.postId()),
+                            RedisSerializer.string().serialize(change.liked() ? "1" : "0"),
+                            RedisSerializer.string().serialize(ttlSeconds()));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 반영 실패한 회원은 TTL 만료 후 다시 채워진다
+            log.warn("좋아요 게시물 캐시 반영 실패. {}건", changes.size(), e);
+        }
+    }
+
+    // 버전도 올려서 지우기 전에 시작된 warm이 이전 집합을 다시 저장하지 않게 한다
+    public void evict(Long memberId) {
+        redisTemplate.delete(keyOf(memberId));
+        redisTemplate.opsForValue().increment(versionKey(memberId));
+        redisTemplate.expire(versionKey(memberId), RedisMetadata.MEMBER_LIKED_POSTS.getTtl());
+    }
+}
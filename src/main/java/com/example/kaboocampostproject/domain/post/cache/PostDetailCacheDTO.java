@@ -0,0 +1,49 @@
+package com.example.kaboocampostproject.domain.post.cache;
+
+import com.example.kaboocampostproject.domain.post.document.PostDocument;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+
+/// 게시물 상세 캐시 (본문, 이미지 포함)
+@Builder
+public record PostDetailCacheDTO(
+        String postId,
+        Long authorId,
+        String title,
+        String content,
+        List<String> imageObjectKeys,
+        long views,
+        long likes,
+        Instant createdAt,
+        boolean updated
+) {
+    // 캐시된 조회수 + 아직 Mongo에 반영되지 않은 조회수
+    public PostDetailCacheDTO plusViews(long pendingViews) {
+        if (pendingViews == 0) return this;
+        return new PostDetailCacheDTO(postId, authorId, title, content, imageObjectKeys,
+                views + pendingViews, likes, createdAt, updated);
+    }
+
+    // 캐시된 좋아요 수 + 인기 게시물 샤드 카운터에 남은 좋아요 수
+    public PostDetailCacheDTO plusLikes(long unfoldedLikes) {
+        if (unfoldedLikes == 0) return this;
+        return new PostDetailCacheDTO(postId, authorId, title, content, imageObjectKeys,
+                views, likes + unfoldedLikes, createdAt, updated);
+    }
+
+    public static PostDetailCacheDTO from(PostDocument post) {
+        return PostDetailCacheDTO.builder()
+                .postId(post.getId())
+                .authorId(post.getAuthorId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .imageObjectKeys(post.getImageObjectKeys())
+                .views(post.getViews())
+                .likes(post.getLikes())
+                .createdAt(post.getCreatedAt())
+                .updated(post.isUpdated())
+                .build();
+    }
+}
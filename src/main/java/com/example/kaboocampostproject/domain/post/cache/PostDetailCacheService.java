@@ -0,0 +1,148 @@
+package com.example.kaboocampostproject.domain.post.cache;
+
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/// 게시물 상세 2단 캐시
+/// - L1: WAS 로컬 Caffeine (W-TinyLFU, 크기 제한). 인기 게시물만 남는다.
+/// - L2: Redis POST_DETAIL:{postId}
+/// - 수정/삭제 시 L2 삭제 후 채널로 postId 발행 -> 모든 WAS가 L1에서 제거
+/// - 무효화할 때마다 게시물별 버전(POST_DETAIL:{postId}:v)을 올리고, L2를 채울 때는 DB 조회 전 버전이 그대로일 때만 저장
+///   -> 조회와 저장 사이에 수정/삭제된 이전 상세가 TTL 동안 남지 않는다 (그 경우 L1에도 넣지 않고 다음 조회에서 다시 채움)
+/// 조회수/좋아요는 L1 TTL(짧게) 또는 L2 TTL 만큼 지연 반영된다. 조회수 증가는 기존대로 PostViewService가 담당.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostDetailCacheService implements MessageListener {
+
+    private static final int LOCAL_MAX_SIZE = 1_000;
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(5);
+
+    // ARGV[1]: 조회 전 버전, ARGV[2]: 상세, ARGV[3]: TTL(ms). 버전이 바뀌었으면 저장하지 않음
+    private static final byte[] SET_IF_UNCHANGED = (
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                    + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+                    + "return 1").getBytes(StandardCharsets.UTF_8);
+
+    // 버전을 올리고 상세 삭제. 버전은 진행 중인 조회보다 오래 남으면 되므로 상세 TTL과 같게 둔다
+    private static final byte[] EVICT = (
+            "redis.call('incr', KEYS[2]) redis.call('pexpire', KEYS[2], ARGV[1]) "
+                    + "return redis.call('del', KEYS[1])").getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, PostDetailCacheDTO> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<String, PostDetailCacheDTO> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAX_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    private static byte[] raw(String value) {
+        return RedisSerializer.string().serialize(value);
+    }
+
+    private static byte[] detailKey(String postId) {
+        return raw(RedisMetadata.POST_DETAIL.keyOf(postId));
+    }
+
+    private static byte[] versionKey(String postId) {
+        return raw(RedisMetadata.POST_DETAIL.keyOf(postId, "v"));
+    }
+
+    private static byte[] ttlMillis() {
+        return raw(String.valueOf(RedisMetadata.POST_DETAIL.getTtl().toMillis()));
+    }
+
+    // L1 -> L2 -> loader(DB) 순서. loader 예외(게시물 없음 등)는 그대로 전파
+    public PostDetailCacheDTO get(String postId, Supplier<PostDetailCacheDTO> loader) {
+        PostDetailCacheDTO local = localCache.getIfPresent(postId);
+        if (local != null) return local;
+
+        RedisMetadata meta = RedisMetadata.POST_DETAIL;
+        String key = meta.keyOf(postId);
+
+        PostDetailCacheDTO cached = null;
+        try {
+            cached = redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("게시물 상세 캐시 조회 실패. postId: {}", postId, e);
+        }
+
+        if (cached == null) return load(postId, loader);
+
+        localCache.put(postId, cached);
+        return cached;
+    }
+
+    // 조회 전 버전 (없으면 "0")을 읽고 DB 조회 후 버전이 그대로일 때만 L2/L1에 저장
+    private PostDetailCacheDTO load(String postId, Supplier<PostDetailCacheDTO> loader) {
+        byte[] version;
+        try {
+            version = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(versionKey(postId)));
+            if (version == null) version = raw("0");
+        } catch (Exception e) {
+            // 버전을 못 읽으면 L2에는 저장하지 않는다. Redis 장애 중 DB 보호를 위해 L1(짧은 TTL)만 채움
+            log.warn("게시물 상세 캐시 버전 조회 실패. postId: {}", postId, e);
+            version = null;
+        }
+        PostDetailCacheDTO loaded = loader.get();
+        if (version == null) {
+            localCache.put(postId, loaded);
+            return loaded;
+        }
+
+        byte[] expected = version;
+        try {
+            byte[] value = valueSerializer().serialize(loaded);
+            Long saved = redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.scriptingCommands().eval(SET_IF_UNCHANGED, ReturnType.INTEGER, 2,
+                            detailKey(postId), versionKey(postId), expected, value, ttlMillis()));
+            if (saved == null || saved == 0L) {
+                log.debug("게시물 상세 캐시 저장 생략 (조회 중 무효화됨). postId: {}", postId);
+                return loaded;
+            }
+        } catch (Exception e) {
+            log.warn("게시물 상세 캐시 저장 실패. postId: {}", postId, e);
+        }
+        localCache.put(postId, loaded);
+        return loaded;
+    }
+
+    public void evict(String postId) {
+        localCache.invalidate(postId);
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection ->
+                    connection.scriptingCommands().eval(EVICT, ReturnType.INTEGER, 2,
+                            detailKey(postId), versionKey(postId), ttlMillis()));
+            stringRedisTemplate.convertAndSend(RedisMetadata.POST_DETAIL_INVALIDATION.keyOf(), postId);
+        } catch (Exception e) {
+            log.warn("게시물 상세 캐시 무효화 실패. TTL 만료로 갱신. postId: {}", postId, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<PostDetailCacheDTO> valueSerializer() {
+        return (RedisSerializer<PostDetailCacheDTO>) redisTemplate.getValueSerializer();
+    }
+
+    // 다른 WAS(자기 자신 포함)의 무효화 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
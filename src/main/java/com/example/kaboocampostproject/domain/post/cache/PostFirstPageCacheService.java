@@ -0,0 +1,116 @@
+package com.example.kaboocampostproject.domain.post.cache;
+
+import com.example.kaboocampostproject.global.async.SingleFlight;
+import com.example.kaboocampostproject.global.cursor.Cursor;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/// 전략별 피드 첫 페이지 캐시
+/// 커서 없는 목록 요청은 모두 같은 쿼리를 실행하므로 회원과 무관한 부분만 공유한다.
+/// - 게시물 작성/수정/삭제 시 전체 무효화
+/// - 무효화할 때마다 공용 버전(POST_FIRST_PAGE:v)을 올리고, 채울 때는 DB 조회 전 버전이 그대로일 때만 저장
+///   -> 조회와 저장 사이에 무효화된 이전 페이지가 TTL 동안 남지 않는다 (그 경우 다음 조회에서 다시 채움)
+/// - 조회수/좋아요는 TTL 동안 지연 반영 (조회수 flush 주기와 동일)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostFirstPageCacheService {
+
+    // ARGV[1]: 조회 전 버전, ARGV[2]: 페이지, ARGV[3]: TTL(ms). 버전이 바뀌었으면 저장하지 않음
+    private static final byte[] SET_IF_UNCHANGED = (
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                    + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+                    + "return 1").getBytes(StandardCharsets.UTF_8);
+
+    // KEYS[1]: 버전, KEYS[2..]: 전략별 페이지. 버전을 올리고 페이지 삭제 (버전 TTL은 페이지 TTL과 같게)
+    private static final byte[] EVICT_ALL = (
+            "redis.call('incr', KEYS[1]) redis.call('pexpire', KEYS[1], ARGV[1]) "
+                    + "return redis.call('del', unpack(KEYS, 2))").getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, PostPageCacheDTO> redisTemplate;
+    private final SingleFlight singleFlight;
+
+    private static byte[] raw(String value) {
+        return RedisSerializer.string().serialize(value);
+    }
+
+    private static byte[] versionKey() {
+        return raw(RedisMetadata.POST_FIRST_PAGE.keyOf("v"));
+    }
+
+    private static byte[] ttlMillis() {
+        return raw(String.valueOf(RedisMetadata.POST_FIRST_PAGE.getTtl().toMillis()));
+    }
+
+    public PostPageCacheDTO getOrLoad(Cursor.CursorStrategy strategy, Supplier<PostPageCacheDTO> loader) {
+        RedisMetadata meta = RedisMetadata.POST_FIRST_PAGE;
+        String key = meta.keyOf(strategy);
+
+        try {
+            PostPageCacheDTO cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) return cached;
+        } catch (Exception e) {
+            // 레디스 장애 시 DB에서 바로 조회
+            log.warn("첫 페이지 캐시 조회 실패. strategy: {}", strategy, e);
+            return loader.get();
+        }
+
+        // 만료 직후 몰린 요청은 한번만 조회하고 저장
+        return singleFlight.execute("firstPage", strategy, () -> {
+            // 조회 전 버전 (없으면 "0"). 버전을 못 읽으면 조회 결과만 돌려주고 저장하지 않는다
+            byte[] version;
+            try {
+                version = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                        connection.stringCommands().get(versionKey()));
+                if (version == null) version = raw("0");
+            } catch (Exception e) {
+                log.warn("첫 페이지 캐시 버전 조회 실패. strategy: {}", strategy, e);
+                version = null;
+            }
+            PostPageCacheDTO page = loader.get();
+            if (version == null) return page;
+
+            byte[] expected = version;
+            try {
+                byte[] value = valueSerializer().serialize(page);
+                Long saved = redisTemplate.execute((RedisCallback<Long>) connection ->
+                        connection.scriptingCommands().eval(SET_IF_UNCHANGED, ReturnType.INTEGER, 2,
+                                raw(key), versionKey(), expected, value, ttlMillis()));
+                if (saved == null || saved == 0L) log.debug("첫 페이지 캐시 저장 생략 (조회 중 무효화됨). strategy: {}", strategy);
+            } catch (Exception e) {
+                log.warn("첫 페이지 캐시 저장 실패. strategy: {}", strategy, e);
+            }
+            return page;
+        });
+    }
+
+    public void evictAll() {
+        Cursor.CursorStrategy[] strategies = Cursor.CursorStrategy.values();
+        byte[][] keysAndArgs = new byte[strategies.length + 2][];
+        keysAndArgs[0] = versionKey();
+        for (int i = 0; i < strategies.length; i++) {
+            keysAndArgs[i + 1] = raw(RedisMetadata.POST_FIRST_PAGE.keyOf(strategies[i]));
+        }
+        keysAndArgs[strategies.length + 1] = ttlMillis();
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection ->
+                    connection.scriptingCommands().eval(EVICT_ALL, ReturnType.INTEGER, strategies.length + 1, keysAndArgs));
+        } catch (Exception e) {
+            log.warn("첫 페이지 캐시 무효화 실패. TTL 만료로 갱신", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<PostPageCacheDTO> valueSerializer() {
+        return (RedisSerializer<PostPageCacheDTO>) redisTemplate.getValueSerializer();
+    }
+}
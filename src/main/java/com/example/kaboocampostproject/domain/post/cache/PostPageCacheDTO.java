@@ -0,0 +1,12 @@
+package com.example.kaboocampostproject.domain.post.cache;
+
+import java.util.List;
+
+/// 회원과 무관한 피드 페이지 (게시물 목록 + 다음 커서)
+/// 좋아요 여부는 요청마다 덧붙인다.
+public record PostPageCacheDTO(
+        List<PostSummaryCacheDTO> posts,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.kaboocampostproject.domain.post.cache;
+
+import com.example.kaboocampostproject.domain.member.cache.MemberProfileCacheDTO;
+import lombok.Builder;
+
+import java.time.Instant;
+
+/// 피드 아이템 조각 (게시물 요약 + 작성자 프로필)
+/// author가 null이면 탈퇴한 사용자
+@Builder
+public record PostSummaryCacheDTO(
+        String postId,
+        String title,
+        long views,
+        long likes,
+        Instant createdAt,
+        MemberProfileCacheDTO author
+) {
+}
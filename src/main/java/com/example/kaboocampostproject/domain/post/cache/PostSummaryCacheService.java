@@ -0,0 +1,116 @@
+package com.example.kaboocampostproject.domain.post.cache;
+
+import com.example.kaboocampostproject.domain.member.cache.MemberProfileCacheDTO;
+import com.example.kaboocampostproject.domain.member.cache.MemberProfileCacheService;
+import com.example.kaboocampostproject.domain.post.dto.res.PostSimple;
+import com.example.kaboocampostproject.domain.post.repository.PostMongoRepository;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/// 게시물별 피드 아이템 캐시
+/// 피드 쿼리는 인덱스에서 id(정렬 키)만 읽고, 아이템은 MGET 한번으로 조립한다.
+/// - 캐시 미스는 id 목록으로 한번에 조회 후 파이프라인으로 저장
+/// - 조회수/좋아요/작성자 프로필은 TTL 동안 지연 반영, 게시물 수정/삭제 시 즉시 제거
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSummaryCacheService {
+
+    private final RedisTemplate<String, PostSummaryCacheDTO> redisTemplate;
+    private final PostMongoRepository postRepository;
+    private final MemberProfileCacheService memberProfileCacheService;
+
+    // 요청한 id 순서대로 반환. 삭제된 게시물은 제외
+    public List<PostSummaryCacheDTO> getSummaries(List<String> postIds) {
+        if (postIds == null || postIds.isEmpty()) return List.of();
+
+        RedisMetadata redisMeta = RedisMetadata.POST_SUMMARY;
+        List<String> keys = postIds.stream().map(redisMeta::keyOf).toList();
+
+        List<PostSummaryCacheDTO> cached;
+        try {
+            cached = redisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            log.warn("게시물 요약 캐시 조회 실패. DB에서 조회", e);
+            cached = null;
+        }
+
+        Map<String, PostSummaryCacheDTO> byId = new HashMap<>();
+        List<String> missed = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            PostSummaryCacheDTO summary = cached != null ? cached.get(i) : null;
+            if (summary == null) missed.add(postIds.get(i));
+            else byId.put(postIds.get(i), summary);
+        }
+
+        if (!missed.isEmpty()) {
+            List<PostSummaryCacheDTO> loaded = load(missed);
+            loaded.forEach(summary -> byId.put(summary.postId(), summary));
+            if (cached != null) cacheAll(loaded);
+        }
+
+        List<PostSummaryCacheDTO> result = new ArrayList<>(postIds.size());
+        for (String postId : postIds) {
+            PostSummaryCacheDTO summary = byId.get(postId);
+            if (summary != null) result.add(summary);
+        }
+        return result;
+    }
+
+    public void evict(String postId) {
+        try {
+            redisTemplate.delete(RedisMetadata.POST_SUMMARY.keyOf(postId));
+        } catch (Exception e) {
+            log.warn("게시물 요약 캐시 제거 실패. postId: {}", postId, e);
+        }
+    }
+
+    // 캐시 미스: 게시물 한번, 작성자 프로필 한번(MGET)
+    private List<PostSummaryCacheDTO> load(List<String> postIds) {
+        List<PostSimple> posts = postRepository.findSimpleByIds(postIds);
+        List<Long> authorIds = posts.stream()
+                .map(PostSimple::authorId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, MemberProfileCacheDTO> profiles = memberProfileCacheService.getProfiles(authorIds);
+
+        return posts.stream()
+                .map(post -> PostSummaryCacheDTO.builder()
+                        .postId(post.postId())
+                        .title(post.title())
+                        .views(post.views())
+                        .likes(post.likes())
+                        .createdAt(post.createdAt())
+                        .author(post.authorId() != null ? profiles.get(post.authorId()) : null)
+                        .build())
+                .toList();
+    }
+
+    private void cacheAll(List<PostSummaryCacheDTO> summaries) {
+        if (summaries.isEmpty()) return;
+
+        RedisMetadata redisMeta = RedisMetadata.POST_SUMMARY;
+        RedisSerializer<PostSummaryCacheDTO> valueSerializer =
+                (RedisSerializer<PostSummaryCacheDTO>) redisTemplate.getValueSerializer();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (PostSummaryCacheDTO dto : summaries) {
+                    byte[] k = redisTemplate.getStringSerializer().serialize(redisMeta.keyOf(dto.postId()));
+                    byte[] v = valueSerializer.serialize(dto);
+                    connection.stringCommands().setEx(k, redisMeta.getTtl().toSeconds(), v);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("게시물 요약 캐시 저장 실패", e);
+        }
+    }
+}
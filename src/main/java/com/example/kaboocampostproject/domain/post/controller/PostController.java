@@ -14,6 +14,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/posts")
@@ -28,6 +30,14 @@ public class PostController {
         return ResponseEntity.ok(CustomResponse.onSuccess(HttpStatus.CREATED));
     }
 
+    // 게시물 여러 건 조회 (알림 목록, 최근 본 게시물 등). 요청 순서대로, 없는 게시물은 제외
+    @GetMapping("/batch")
+    public ResponseEntity<CustomResponse<List<PostDetailResDTO>>> getPostsByIds(@RequestParam List<String> ids,
+                                                                                @MemberIdInfo Long memberId) {
+        List<PostDetailResDTO> posts = postMongoService.getByIds(ids, memberId);
+        return ResponseEntity.ok(CustomResponse.onSuccess(HttpStatus.OK, posts));
+    }
+
     @GetMapping("/{postId}")
     public ResponseEntity<CustomResponse<PostDetailResDTO>> getPostDetail(@PathVariable String postId,
                                                                           @MemberIdInfo Long memberId) {
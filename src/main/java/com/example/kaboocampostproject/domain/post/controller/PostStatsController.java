@@ -0,0 +1,34 @@
+package com.example.kaboocampostproject.domain.post.controller;
+
+import com.example.kaboocampostproject.domain.member.anotations.MemberIdInfo;
+import com.example.kaboocampostproject.domain.post.dto.res.PostViewStatsResDTO;
+import com.example.kaboocampostproject.domain.post.service.PostViewStatService;
+import com.example.kaboocampostproject.global.response.CustomResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/members/me/posts")
+public class PostStatsController {
+
+    private final PostViewStatService postViewStatService;
+
+    // 내 게시물 일간 조회수와 최근 날짜 순 조회자 추정치 (from, to 포함. 한국시간 기준)
+    @GetMapping("/stats")
+    public ResponseEntity<CustomResponse<PostViewStatsResDTO>> getMyPostStats(
+            @MemberIdInfo Long memberId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        PostViewStatsResDTO stats = postViewStatService.getMyPostStats(memberId, from, to);
+        return ResponseEntity.ok(CustomResponse.onSuccess(HttpStatus.OK, stats));
+    }
+}
@@ -2,10 +2,11 @@ package com.example.kaboocampostproject.domain.post.converter;
 
 import com.example.kaboocampostproject.domain.like.dto.PostLikeStatsDto;
 import com.example.kaboocampostproject.domain.member.cache.MemberProfileCacheDTO;
+import com.example.kaboocampostproject.domain.post.cache.PostDetailCacheDTO;
+import com.example.kaboocampostproject.domain.post.cache.PostSummaryCacheDTO;
 import com.example.kaboocampostproject.domain.post.document.PostDocument;
 import com.example.kaboocampostproject.domain.post.dto.req.PostCreatReqDTO;
 import com.example.kaboocampostproject.domain.post.dto.res.PostDetailResDTO;
-import com.example.kaboocampostproject.domain.post.dto.res.PostSimple;
 import com.example.kaboocampostproject.domain.post.dto.res.PostSliceItem;
 import jakarta.annotation.Nullable;
 
@@ -20,7 +21,7 @@ public class PostConverter {
                 .build();
     }
 
-    public static PostDetailResDTO toPostDetail(String cdnBaseUrl, PostDocument post, PostLikeStatsDto postLike, Long authorId, MemberProfileCacheDTO profile, boolean isMine) {
+    public static PostDetailResDTO toPostDetail(String cdnBaseUrl, PostDetailCacheDTO post, PostLikeStatsDto postLike, Long authorId, MemberProfileCacheDTO profile, boolean isMine) {
         PostDetailResDTO.AuthorProfile authorProfile =  PostDetailResDTO.AuthorProfile.builder()
                                                         .id(profile!=null ? authorId : null)
                                                         .name(profile!=null ? profile.name() : "(탈퇴한 사용자)")
@@ -28,21 +29,22 @@ public class PostConverter {
                                                         .build();
 
         return PostDetailResDTO.builder()
+                .postId(post.postId())
                 .cdnBaseUrl(cdnBaseUrl)
-                .title(post.getTitle())
-                .content(post.getContent())
-                .imageObjectKeys(post.getImageObjectKeys())
+                .title(post.title())
+                .content(post.content())
+                .imageObjectKeys(post.imageObjectKeys())
                 .authorProfile(authorProfile)
-                .views(post.getViews())
+                .views(post.views())
                 .likes(postLike.likeCount())
                 .amILiking(postLike.amILike())
-                .createdAt(post.getCreatedAt())
-                .isUpdated(post.isUpdated())
+                .createdAt(post.createdAt())
+                .isUpdated(post.updated())
                 .isMine(isMine)
                 .build();
     }
 
-    public static PostSliceItem toPostSliceItem(PostSimple post, PostLikeStatsDto postLike, @Nullable MemberProfileCacheDTO memberProfile) {
+    public static PostSliceItem toPostSliceItem(PostSummaryCacheDTO post, PostLikeStatsDto postLike, @Nullable MemberProfileCacheDTO memberProfile) {
         PostSliceItem.LikeInfo likeInfo = PostSliceItem.LikeInfo.builder()
                 .count(postLike.likeCount())
                 .amILike(postLike.amILike())
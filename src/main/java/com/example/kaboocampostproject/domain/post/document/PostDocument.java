@@ -48,6 +48,12 @@ public class PostDocument {
     private long likes = 0L;
     private long comments = 0L;
 
+    // 마지막으로 likes에 더해진 증감량 배치 id (같은 배치 재반영 방지)
+    private String likeBatch;
+
+    // 마지막으로 views에 더해진 조회수 배치 번호 (단조 증가. 이보다 작거나 같은 배치는 다시 더하지 않는다)
+    private Long viewBatch;
+
     @CreatedDate
     private Instant createdAt;
 
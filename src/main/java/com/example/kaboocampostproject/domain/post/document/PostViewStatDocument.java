@@ -0,0 +1,46 @@
+package com.example.kaboocampostproject.domain.post.document;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/// 게시물별 조회수 버킷 (시간 단위 -> 일 단위로 롤업)
+/// _id = {postId}:{granularity}:{bucketAt epoch seconds} 로 고정해서 flush마다 upsert $inc
+@Document(collection = "post_view_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@FieldNameConstants(innerTypeName = "PostViewStatFields")
+// 인덱스 자동 생성이 꺼져 있어 기동 시 PostViewStatCustomRepository.createIndexes()로 생성 (여기는 문서용)
+@CompoundIndexes({
+        // 통계 조회: 게시물별 기간
+        @CompoundIndex(name = "idx_postId_granularity_bucketAt", def = "{'postId': 1, 'granularity': 1, 'bucketAt': 1}"),
+        // 롤업: 게시물과 무관하게 가장 오래된 시간 버킷 / 하루치 시간 버킷
+        @CompoundIndex(name = "idx_granularity_bucketAt", def = "{'granularity': 1, 'bucketAt': 1}")
+})
+public class PostViewStatDocument {
+
+    @Id
+    private String id;
+
+    private String postId;
+    private Granularity granularity;
+    // 버킷 시작 시각 (HOUR: 정시, DAY: 한국시간 자정)
+    private Instant bucketAt;
+    private long views;
+    // DAY 버킷만. 이미 합친 시간 버킷 _id (롤업 재실행 시 중복 합산 방지, 최대 24개)
+    private List<String> rolledFrom;
+
+    public enum Granularity { HOUR, DAY }
+
+    public static String idOf(String postId, Granularity granularity, Instant bucketAt) {
+        return postId + ":" + granularity + ":" + bucketAt.getEpochSecond();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.kaboocampostproject.domain.post.dto.res;
+
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+
+// 피드 인덱스에서 바로 읽는 정렬 키 (최신순은 views 미포함)
+public record PostCursorKey(
+        @Field("_id") String postId,
+        Long views,
+        Instant createdAt
+){}
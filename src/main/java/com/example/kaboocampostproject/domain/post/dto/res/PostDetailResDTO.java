@@ -7,6 +7,7 @@ import java.util.List;
 
 @Builder
 public record PostDetailResDTO (
+        String postId,
         String cdnBaseUrl,
         String title,
         String content,
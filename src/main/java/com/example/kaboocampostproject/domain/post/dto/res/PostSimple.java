@@ -8,6 +8,7 @@ public record PostSimple(
             @Field("_id") String postId,
             String title,
             long views,
+            long likes,
             Long authorId,
             Instant createdAt
 ){}
\ No newline at end of file
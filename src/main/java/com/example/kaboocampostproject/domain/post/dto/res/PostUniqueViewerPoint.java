@@ -0,0 +1,9 @@
+package com.example.kaboocampostproject.domain.post.dto.res;
+
+import java.time.LocalDate;
+
+// 일간 순 조회자 추정치 (HyperLogLog, 오차 약 0.81%)
+public record PostUniqueViewerPoint(
+        LocalDate date,
+        long uniqueViewers
+) {}
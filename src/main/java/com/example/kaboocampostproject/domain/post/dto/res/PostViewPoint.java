@@ -0,0 +1,8 @@
+package com.example.kaboocampostproject.domain.post.dto.res;
+
+import java.time.LocalDate;
+
+public record PostViewPoint(
+        LocalDate date,
+        long views
+) {}
@@ -0,0 +1,22 @@
+package com.example.kaboocampostproject.domain.post.dto.res;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record PostViewStatsResDTO(
+        LocalDate from,
+        LocalDate to,
+        List<PostViewCurve> posts
+) {
+    public record PostViewCurve(
+            String postId,
+            String title,
+            long totalViews,
+            List<PostViewPoint> points,
+            // 순 조회자 집계(app.view-unique.enabled)가 켜져 있을 때 최근 날짜만 (HyperLogLog 보관 기간)
+            List<PostUniqueViewerPoint> uniqueViewers
+    ) {}
+}
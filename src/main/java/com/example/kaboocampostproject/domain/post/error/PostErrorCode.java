@@ -13,7 +13,9 @@ public enum PostErrorCode implements BaseErrorCode {
     POST_AUTHOR_NOT_MATCH(HttpStatus.FORBIDDEN, "POST_403_01", "게시물 작성자만 삭제할 수 있습니다."),
     TOO_MANY_IMAGES(HttpStatus.BAD_REQUEST, "POST_401_01","이미지는 3개까지 등록 가능합니다"),
     POST_UPDATED_FAIL(HttpStatus.BAD_REQUEST, "POST_401_02", "작성자 불일치, 혹은 이미 삭제된 게시물입니다."),
-    POST_IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "POST_404_02", "삭제요청된 이미지가 존재하지 않습니다.")
+    POST_IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "POST_404_02", "삭제요청된 이미지가 존재하지 않습니다."),
+    TOO_MANY_POST_IDS(HttpStatus.BAD_REQUEST, "POST_401_03", "한번에 조회할 수 있는 게시물은 50개까지입니다."),
+    INVALID_STATS_RANGE(HttpStatus.BAD_REQUEST, "POST_401_04", "조회 기간이 올바르지 않습니다. (최대 90일)")
     ;
     private final HttpStatus httpStatus;
     private final String code;
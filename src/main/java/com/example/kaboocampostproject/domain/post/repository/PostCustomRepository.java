@@ -1,11 +1,17 @@
 package com.example.kaboocampostproject.domain.post.repository;
 
+import com.example.kaboocampostproject.domain.post.document.PostDocument;
 import com.example.kaboocampostproject.domain.post.dto.req.PostUpdateReqDTO;
+import com.example.kaboocampostproject.domain.post.dto.res.PostCursorKey;
 import com.example.kaboocampostproject.domain.post.dto.res.PostSimple;
+import com.mongodb.WriteConcern;
 
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface PostCustomRepository {
 
@@ -15,18 +21,51 @@ public interface PostCustomRepository {
 
     boolean softDelete(String postId, Long memberId);
 
-    // 조회수 증가 (inc)
-    void incrementViews(String postId, long count);
+    // 조회수 일괄 증가 (unordered bulk $inc). viewBatch가 batch 이상인 게시물(이미 반영됐거나 더 최신 배치)은 건너뛴다. 실패한 게시물 id 반환
+    Set<String> incrementViews(Map<String, Long> deltas, WriteConcern writeConcern, long batch);
 
-    // 최신순 첫 페이지
-    List<PostSimple> findFirstByCreatedAt(int sizePlusOne);
+    // 좋아요 수 일괄 증감. likeBatch가 batchId인 게시물(이미 반영된 배치)은 건너뛴다
+    void incrementLikes(Map<String, Long> deltas, String batchId);
 
-    // 최신순 다음 페이지
-    List<PostSimple> findNextByCreatedAt(Instant createdAt, String id, int sizePlusOne);
+    // 좋아요 수 재집계. likeBatch가 읽었을 때 그대로인 게시물만 덮어쓴다 (그 사이 반영된 배치가 있으면 건너뜀). 덮어쓴 수 반환
+    long setLikes(Map<String, Long> likes, Map<String, String> expectedBatches);
 
-    // 인기순 첫 페이지
-    List<PostSimple> findFirstByView(int sizePlusOne);
+    // 재집계용. afterId 다음부터 _id 오름차순 limit개 (id, likeBatch)
+    List<PostDocument> findLikeBatchesAfter(String afterId, int limit);
 
-    // 인기순 다음 페이지
-    List<PostSimple> findNextByView(long view, Instant createdAt, String id, int sizePlusOne);
+    // 댓글 수 증감
+    void incrementComments(String postId, long delta);
+
+    // 댓글 수 일괄 증감 (bulk $inc)
+    void incrementComments(Map<String, Long> deltas);
+
+    // 연쇄 삭제용. afterId 다음부터 _id 오름차순 limit개
+    List<String> findActiveIdsByAuthorIdAfter(Long authorId, String afterId, int limit);
+
+    // 삭제된 수 반환
+    long softDeleteByIds(List<String> postIds, Instant deletedAt);
+
+    // HOT 점수 계산용 (views, likes, comments, createdAt)
+    List<PostDocument> findHotStats(Collection<String> postIds);
+
+    // id 목록으로 조회 (순서 보장 X)
+    List<PostSimple> findSimpleByIds(Collection<String> postIds);
+
+    // 작성자의 게시물 (최신순, limit 개)
+    List<PostSimple> findSimpleByAuthorId(Long authorId, int limit);
+
+    // 최신순 첫 페이지 (idx_post_recent_active 키만)
+    List<PostCursorKey> findFirstByCreatedAt(int sizePlusOne);
+
+    // 최신순 다음 페이지 (idx_post_recent_active 키만)
+    List<PostCursorKey> findNextByCreatedAt(Instant createdAt, String id, int sizePlusOne);
+
+    // 인기순 첫 페이지 (idx_post_popular_active 키만)
+    List<PostCursorKey> findFirstByView(int sizePlusOne);
+
+    // 인기순 상위 id (스냅샷 생성용)
+    List<String> findTopIdsByView(int limit);
+
+    // 인기순 다음 페이지 (idx_post_popular_active 키만)
+    List<PostCursorKey> findNextByView(long view, Instant createdAt, String id, int sizePlusOne);
 }
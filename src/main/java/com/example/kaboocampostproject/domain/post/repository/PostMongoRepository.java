@@ -6,8 +6,12 @@ import org.springdoc.core.converters.models.Pageable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostMongoRepository extends MongoRepository<PostDocument, String> , PostCustomRepository {
     Optional<PostDocument> findByIdAndDeletedAtIsNull(String id);
+
+    List<PostDocument> findByIdInAndDeletedAtIsNull(Collection<String> ids);
 }
@@ -0,0 +1,28 @@
+package com.example.kaboocampostproject.domain.post.repository;
+
+import com.example.kaboocampostproject.domain.post.dto.res.PostViewPoint;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface PostViewStatCustomRepository {
+
+    // 기동 시 호출 (이미 있으면 무시됨)
+    void createIndexes();
+
+    // 시간 버킷에 조회수 누적 (unordered bulk upsert $inc)
+    void incrementHourly(Map<String, Long> deltas, Instant hour);
+
+    // [from, to) 구간의 게시물별 일간 조회수. 시간/일 버킷을 함께 합산 (정렬: postId, day)
+    Map<String, List<PostViewPoint>> findDailyViews(Collection<String> postIds, Instant from, Instant to, ZoneId zone);
+
+    // 가장 오래된 시간 버킷 시각 (롤업 시작점)
+    Optional<Instant> findOldestHourlyBucket();
+
+    // [dayStart, dayEnd) 의 시간 버킷을 일 버킷으로 합친다. 합친 게시물 수 반환
+    int rollupDay(Instant dayStart, Instant dayEnd);
+}
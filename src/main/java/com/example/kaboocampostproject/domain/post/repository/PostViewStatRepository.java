@@ -0,0 +1,7 @@
+package com.example.kaboocampostproject.domain.post.repository;
+
+import com.example.kaboocampostproject.domain.post.document.PostViewStatDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface PostViewStatRepository extends MongoRepository<PostViewStatDocument, String>, PostViewStatCustomRepository {
+}
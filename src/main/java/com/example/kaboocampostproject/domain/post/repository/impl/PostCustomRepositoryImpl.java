@@ -2,11 +2,21 @@ package com.example.kaboocampostproject.domain.post.repository.impl;
 
 import com.example.kaboocampostproject.domain.post.document.PostDocument;
 import com.example.kaboocampostproject.domain.post.dto.req.PostUpdateReqDTO;
+import com.example.kaboocampostproject.domain.post.dto.res.PostCursorKey;
 import com.example.kaboocampostproject.domain.post.dto.res.PostSimple;
 import com.example.kaboocampostproject.domain.post.repository.PostCustomRepository;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
 import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -15,7 +25,11 @@ import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
@@ -59,14 +73,130 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
     }
 
 
-    // 조회수 원자적 증가
+    // 조회수 일괄 증가. 순서 무관하므로 UNORDERED, 쓰기 보장 수준은 호출 측에서 지정
+    // 일부만 실패(write error)하면 실패한 게시물 id만 반환. 그 외 예외는 전체 실패로 전파
     @Override
-    public void incrementViews(String postId, long count) {
-        Query query = new Query(Criteria.where(PostDocument.PostFields.id).is(postId)
-                .and(PostDocument.PostFields.deletedAt).is(null));
-        Update update = new Update().inc(PostDocument.PostFields.views, count);
+    public Set<String> incrementViews(Map<String, Long> deltas, WriteConcern writeConcern, long batch) {
+        List<String> postIds = new ArrayList<>();
+        List<UpdateOneModel<Document>> updates = new ArrayList<>();
+        deltas.forEach((postId, delta) -> {
+            if (!ObjectId.isValid(postId)) return;
+            postIds.add(postId);
+            updates.add(new UpdateOneModel<>(
+                    Filters.and(
+                            Filters.eq("_id", new ObjectId(postId)),
+                            Filters.eq(PostDocument.PostFields.deletedAt, null),
+                            // 필드가 없는 기존 게시물도 매칭
+                            Filters.not(Filters.gte(PostDocument.PostFields.viewBatch, batch))
+                    ),
+                    Updates.combine(
+                            Updates.inc(PostDocument.PostFields.views, delta),
+                            Updates.set(PostDocument.PostFields.viewBatch, batch)
+                    )
+            ));
+        });
+        if (updates.isEmpty()) return Set.of();
+
+        try {
+            mongo.getCollection(COLLECTION)
+                    .withWriteConcern(writeConcern)
+                    .bulkWrite(updates, new BulkWriteOptions().ordered(false));
+            return Set.of();
+        } catch (MongoBulkWriteException e) {
+            Set<String> failed = new HashSet<>();
+            e.getWriteErrors().forEach(error -> failed.add(postIds.get(error.getIndex())));
+            return failed;
+        }
+    }
+
+    // 재시도 시 중복 방지: likeBatch가 같은 게시물은 이미 이 배치가 더해진 것
+    @Override
+    public void incrementLikes(Map<String, Long> deltas, String batchId) {
+        if (deltas.isEmpty()) return;
+
+        BulkOperations bulk = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, PostDocument.class);
+        deltas.forEach((postId, delta) -> bulk.updateOne(
+                new Query(Criteria.where(PostDocument.PostFields.id).is(postId)
+                        .and(PostDocument.PostFields.likeBatch).ne(batchId)),
+                new Update().inc(PostDocument.PostFields.likes, delta)
+                        .set(PostDocument.PostFields.likeBatch, batchId)
+        ));
+        bulk.execute();
+    }
+
+    // likeBatch 비교로 읽은 뒤 반영된 배치를 덮어쓰지 않는다 (null은 필드 없음과 같음)
+    @Override
+    public long setLikes(Map<String, Long> likes, Map<String, String> expectedBatches) {
+        if (likes.isEmpty()) return 0L;
+
+        BulkOperations bulk = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, PostDocument.class);
+        likes.forEach((postId, count) -> bulk.updateOne(
+                new Query(Criteria.where(PostDocument.PostFields.id).is(postId)
+                        .and(PostDocument.PostFields.likeBatch).is(expectedBatches.get(postId))),
+                new Update().set(PostDocument.PostFields.likes, count)
+        ));
+        return bulk.execute().getMatchedCount();
+    }
+
+    @Override
+    public List<PostDocument> findLikeBatchesAfter(String afterId, int limit) {
+        Criteria criteria = Criteria.where(PostDocument.PostFields.deletedAt).is(null);
+        if (afterId != null) criteria = criteria.and("_id").gt(new ObjectId(afterId));
+
+        Query q = new Query(criteria)
+                .with(Sort.by(Sort.Order.asc("_id")))
+                .limit(limit);
+        q.fields().include(PostDocument.PostFields.id).include(PostDocument.PostFields.likeBatch);
+        return mongo.find(q, PostDocument.class);
+    }
+
+    @Override
+    public void incrementComments(String postId, long delta) {
+        Query query = new Query(Criteria.where(PostDocument.PostFields.id).is(postId));
+        Update update = new Update().inc(PostDocument.PostFields.comments, delta);
         mongo.updateFirst(query, update, PostDocument.class);
+    }
+
+    // 댓글 수 일괄 증감. 순서 무관하므로 UNORDERED
+    @Override
+    public void incrementComments(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) return;
+
+        BulkOperations bulk = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, PostDocument.class);
+        deltas.forEach((postId, delta) -> bulk.updateOne(
+                new Query(Criteria.where(PostDocument.PostFields.id).is(postId)),
+                new Update().inc(PostDocument.PostFields.comments, delta)
+        ));
+        bulk.execute();
+    }
+
+    // idx_authorId (authorId 일치 후 _id 정렬)
+    @Override
+    public List<String> findActiveIdsByAuthorIdAfter(Long authorId, String afterId, int limit) {
+        Criteria criteria = Criteria.where(PostDocument.PostFields.authorId).is(authorId)
+                .and(PostDocument.PostFields.deletedAt).is(null);
+        if (afterId != null) criteria = criteria.and("_id").gt(new ObjectId(afterId));
+
+        Query q = new Query(criteria)
+                .with(Sort.by(Sort.Order.asc("_id")))
+                .limit(limit);
+        q.fields().include(PostDocument.PostFields.id);
+        return mongo.find(q, PostDocument.class).stream()
+                .map(PostDocument::getId)
+                .toList();
+    }
 
+    @Override
+    public List<PostDocument> findHotStats(Collection<String> postIds) {
+        Query query = new Query(Criteria.where(PostDocument.PostFields.id).in(postIds)
+                .and(PostDocument.PostFields.deletedAt).is(null));
+        query.fields()
+                .include(PostDocument.PostFields.id)
+                .include(PostDocument.PostFields.views)
+                .include(PostDocument.PostFields.likes)
+                .include(PostDocument.PostFields.comments)
+                .include(PostDocument.PostFields.createdAt);
+        return mongo.find(query, PostDocument.class);
     }
 
     //================== 커서키반 페이징 ====================
@@ -76,13 +206,50 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
             .include(PostDocument.PostFields.id)
             .include(PostDocument.PostFields.title)
             .include(PostDocument.PostFields.views)
+            .include(PostDocument.PostFields.likes)
             .include(PostDocument.PostFields.authorId)
             .include(PostDocument.PostFields.createdAt);
     }
 
+    // 정렬 인덱스에 있는 필드만 읽기 -> 문서 fetch 없이 인덱스만 스캔
+    private void includeRecentKeyFields(Query query) {
+        query.fields()
+            .include(PostDocument.PostFields.id)
+            .include(PostDocument.PostFields.createdAt);
+    }
+
+    private void includePopularKeyFields(Query query) {
+        query.fields()
+            .include(PostDocument.PostFields.id)
+            .include(PostDocument.PostFields.views)
+            .include(PostDocument.PostFields.createdAt);
+    }
+
+
+    @Override
+    public List<PostSimple> findSimpleByIds(Collection<String> postIds) {
+        Query q = new Query(Criteria.where(PostDocument.PostFields.id).in(postIds)
+                .and(PostDocument.PostFields.deletedAt).is(null));
+
+        includePostSimpleFields(q);
+
+        return mongo.find(q, PostSimple.class, COLLECTION);
+    }
+
+    @Override
+    public List<PostSimple> findSimpleByAuthorId(Long authorId, int limit) {
+        Query q = new Query(Criteria.where(PostDocument.PostFields.authorId).is(authorId)
+                .and(PostDocument.PostFields.deletedAt).is(null))
+                .with(Sort.by(Sort.Order.desc(PostDocument.PostFields.createdAt)))
+                .limit(limit);
+
+        includePostSimpleFields(q);
+
+        return mongo.find(q, PostSimple.class, COLLECTION);
+    }
 
     @Override
-    public List<PostSimple> findFirstByCreatedAt(int sizePlusOne) {
+    public List<PostCursorKey> findFirstByCreatedAt(int sizePlusOne) {
         Query q = new Query()
                 .addCriteria(Criteria.where(PostDocument.PostFields.deletedAt).is(null))
                 .with(Sort.by(
@@ -91,13 +258,13 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
                 ))
                 .limit(sizePlusOne);
 
-        includePostSimpleFields(q);
+        includeRecentKeyFields(q);
 
-        return mongo.find(q, PostSimple.class, COLLECTION);
+        return mongo.find(q, PostCursorKey.class, COLLECTION);
     }
 
     @Override
-    public List<PostSimple> findNextByCreatedAt(Instant createdAt, String id, int sizePlusOne) {
+    public List<PostCursorKey> findNextByCreatedAt(Instant createdAt, String id, int sizePlusOne) {
         Criteria cursorCut = new Criteria().orOperator(
                 Criteria.where(PostDocument.PostFields.createdAt).lt(createdAt),
                 new Criteria().andOperator(
@@ -117,13 +284,13 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
                 ))
                 .limit(sizePlusOne);
 
-        includePostSimpleFields(q);
+        includeRecentKeyFields(q);
 
-        return mongo.find(q, PostSimple.class, COLLECTION);
+        return mongo.find(q, PostCursorKey.class, COLLECTION);
     }
 
     @Override
-    public List<PostSimple> findFirstByView(int sizePlusOne) {
+    public List<PostCursorKey> findFirstByView(int sizePlusOne) {
         Query q = new Query()
                 .addCriteria(Criteria.where(PostDocument.PostFields.deletedAt).is(null))
                 .with(Sort.by(
@@ -133,13 +300,30 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
                 ))
                 .limit(sizePlusOne);
 
-        includePostSimpleFields(q);
+        includePopularKeyFields(q);
 
-        return mongo.find(q, PostSimple.class, COLLECTION);
+        return mongo.find(q, PostCursorKey.class, COLLECTION);
+    }
+
+    @Override
+    public List<String> findTopIdsByView(int limit) {
+        Query q = new Query()
+                .addCriteria(Criteria.where(PostDocument.PostFields.deletedAt).is(null))
+                .with(Sort.by(
+                        Sort.Order.desc(PostDocument.PostFields.views),
+                        Sort.Order.desc(PostDocument.PostFields.createdAt),
+                        Sort.Order.desc(PostDocument.PostFields.id)
+                ))
+                .limit(limit);
+        q.fields().include(PostDocument.PostFields.id);
+
+        return mongo.find(q, PostDocument.class).stream()
+                .map(PostDocument::getId)
+                .toList();
     }
 
     @Override
-    public List<PostSimple> findNextByView(long view, Instant createdAt, String id, int sizePlusOne) {
+    public List<PostCursorKey> findNextByView(long view, Instant createdAt, String id, int sizePlusOne) {
         Criteria cursorCut = new Criteria().orOperator(
                 Criteria.where(PostDocument.PostFields.views).lt(view),
                 new Criteria().andOperator(
@@ -165,9 +349,9 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
                 ))
                 .limit(sizePlusOne);
 
-        includePostSimpleFields(q);
+        includePopularKeyFields(q);
 
-        return mongo.find(q, PostSimple.class, COLLECTION);
+        return mongo.find(q, PostCursorKey.class, COLLECTION);
     }
 
     //================== 소프트 딜리트 ====================
@@ -187,4 +371,13 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
         return result.getModifiedCount() > 0;
     }
 
+    @Override
+    public long softDeleteByIds(List<String> postIds, Instant deletedAt) {
+        if (postIds.isEmpty()) return 0L;
+        Query query = new Query(Criteria.where("_id").in(postIds.stream().map(ObjectId::new).toList())
+                .and(PostDocument.PostFields.deletedAt).is(null));
+        Update update = new Update().set(PostDocument.PostFields.deletedAt, deletedAt);
+        return mongo.updateMulti(query, update, PostDocument.class).getModifiedCount();
+    }
+
 }
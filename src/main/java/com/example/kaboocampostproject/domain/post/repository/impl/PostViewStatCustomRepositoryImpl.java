@@ -0,0 +1,175 @@
+package com.example.kaboocampostproject.domain.post.repository.impl;
+
+import com.example.kaboocampostproject.domain.post.document.PostViewStatDocument;
+import com.example.kaboocampostproject.domain.post.document.PostViewStatDocument.Granularity;
+import com.example.kaboocampostproject.domain.post.document.PostViewStatDocument.PostViewStatFields;
+import com.example.kaboocampostproject.domain.post.dto.res.PostViewPoint;
+import com.example.kaboocampostproject.domain.post.repository.PostViewStatCustomRepository;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class PostViewStatCustomRepositoryImpl implements PostViewStatCustomRepository {
+
+    private final MongoTemplate mongo;
+
+    private static final String COLLECTION = "post_view_stats";
+    private static final int ROLLUP_BATCH_SIZE = 1_000;
+
+    private MongoCollection<Document> collection() {
+        return mongo.getCollection(COLLECTION);
+    }
+
+    @Override
+    public void createIndexes() {
+        collection().createIndex(
+                Indexes.ascending(PostViewStatFields.postId, PostViewStatFields.granularity, PostViewStatFields.bucketAt),
+                new IndexOptions().name("idx_postId_granularity_bucketAt"));
+        collection().createIndex(
+                Indexes.ascending(PostViewStatFields.granularity, PostViewStatFields.bucketAt),
+                new IndexOptions().name("idx_granularity_bucketAt"));
+    }
+
+    @Override
+    public void incrementHourly(Map<String, Long> deltas, Instant hour) {
+        if (deltas.isEmpty()) return;
+
+        List<UpdateOneModel<Document>> updates = new ArrayList<>();
+        deltas.forEach((postId, delta) -> updates.add(upsert(postId, Granularity.HOUR, hour,
+                Updates.inc(PostViewStatFields.views, delta))));
+        collection().bulkWrite(updates, new BulkWriteOptions().ordered(false));
+    }
+
+    @Override
+    public Map<String, List<PostViewPoint>> findDailyViews(Collection<String> postIds, Instant from, Instant to, ZoneId zone) {
+        Map<String, List<PostViewPoint>> result = new LinkedHashMap<>();
+        if (postIds.isEmpty()) return result;
+
+        // 롤업 전 시간 버킷과 롤업된 일 버킷을 같은 날짜로 묶어서 합산
+        Document day = new Document("$dateTrunc", new Document("date", "$" + PostViewStatFields.bucketAt)
+                .append("unit", "day")
+                .append("timezone", zone.getId()));
+        List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.and(
+                        Filters.in(PostViewStatFields.postId, postIds),
+                        Filters.gte(PostViewStatFields.bucketAt, Date.from(from)),
+                        Filters.lt(PostViewStatFields.bucketAt, Date.from(to))
+                )),
+                Aggregates.group(new Document("postId", "$" + PostViewStatFields.postId).append("day", day),
+                        Accumulators.sum("views", "$" + PostViewStatFields.views)),
+                Aggregates.sort(Sorts.ascending("_id.postId", "_id.day"))
+        );
+
+        for (Document doc : collection().aggregate(pipeline)) {
+            Document key = doc.get("_id", Document.class);
+            PostViewPoint point = new PostViewPoint(
+                    key.getDate("day").toInstant().atZone(zone).toLocalDate(),
+                    ((Number) doc.get("views")).longValue());
+            result.computeIfAbsent(key.getString("postId"), k -> new ArrayList<>()).add(point);
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Instant> findOldestHourlyBucket() {
+        Document oldest = collection()
+                .find(Filters.eq(PostViewStatFields.granularity, Granularity.HOUR.name()))
+                .sort(Sorts.ascending(PostViewStatFields.bucketAt))
+                .projection(new Document(PostViewStatFields.bucketAt, 1))
+                .first();
+        return Optional.ofNullable(oldest).map(doc -> doc.getDate(PostViewStatFields.bucketAt).toInstant());
+    }
+
+    // 일 버킷에 $inc 하면서 합친 시간 버킷 _id를 rolledFrom에 남기고, rolledFrom에 이미 있으면 건너뛴다
+    // -> 시간 버킷 삭제 전에 중단돼 재실행해도 두 번 더해지지 않고, 합친 _id만 정확히 지운다
+    @Override
+    public int rollupDay(Instant dayStart, Instant dayEnd) {
+        Bson hourly = Filters.and(
+                Filters.eq(PostViewStatFields.granularity, Granularity.HOUR.name()),
+                Filters.gte(PostViewStatFields.bucketAt, Date.from(dayStart)),
+                Filters.lt(PostViewStatFields.bucketAt, Date.from(dayEnd))
+        );
+        List<Bson> pipeline = List.of(
+                Aggregates.match(hourly),
+                Aggregates.group("$" + PostViewStatFields.postId,
+                        Accumulators.sum("views", "$" + PostViewStatFields.views),
+                        Accumulators.push("hourIds", "$_id"))
+        );
+
+        int rolled = 0;
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        List<String> hourIds = new ArrayList<>();
+        for (Document doc : collection().aggregate(pipeline).allowDiskUse(true)) {
+            String postId = doc.getString("_id");
+            long views = ((Number) doc.get("views")).longValue();
+            List<String> ids = doc.getList("hourIds", String.class);
+            String dayId = PostViewStatDocument.idOf(postId, Granularity.DAY, dayStart);
+
+            // 일 버킷을 먼저 만들어두고(있으면 그대로), 아직 합치지 않은 시간 버킷일 때만 더한다
+            updates.add(upsert(postId, Granularity.DAY, dayStart, Updates.setOnInsert(PostViewStatFields.views, 0L)));
+            updates.add(new UpdateOneModel<>(
+                    Filters.and(Filters.eq("_id", dayId), Filters.nin(PostViewStatFields.rolledFrom, ids)),
+                    Updates.combine(
+                            Updates.inc(PostViewStatFields.views, views),
+                            Updates.addEachToSet(PostViewStatFields.rolledFrom, ids)
+                    )
+            ));
+            hourIds.addAll(ids);
+            rolled++;
+            if (hourIds.size() >= ROLLUP_BATCH_SIZE) {
+                flushRollup(updates, hourIds);
+            }
+        }
+        if (!updates.isEmpty()) {
+            flushRollup(updates, hourIds);
+        }
+        return rolled;
+    }
+
+    // 일 버킷 반영이 끝난 뒤에만 해당 시간 버킷 삭제. 순서가 중요해서 ordered bulk
+    private void flushRollup(List<WriteModel<Document>> updates, List<String> hourIds) {
+        collection().bulkWrite(updates, new BulkWriteOptions().ordered(true));
+        collection().deleteMany(Filters.in("_id", hourIds));
+        updates.clear();
+        hourIds.clear();
+    }
+
+    private static UpdateOneModel<Document> upsert(String postId, Granularity granularity, Instant bucketAt, Bson update) {
+        return new UpdateOneModel<>(
+                Filters.eq("_id", PostViewStatDocument.idOf(postId, granularity, bucketAt)),
+                Updates.combine(
+                        update,
+                        Updates.setOnInsert(PostViewStatFields.postId, postId),
+                        Updates.setOnInsert(PostViewStatFields.granularity, granularity.name()),
+                        Updates.setOnInsert(PostViewStatFields.bucketAt, Date.from(bucketAt))
+                ),
+                new UpdateOptions().upsert(true)
+        );
+    }
+}
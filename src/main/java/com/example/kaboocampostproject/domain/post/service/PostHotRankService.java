@@ -0,0 +1,156 @@
+package com.example.kaboocampostproject.domain.post.service;
+
+import com.example.kaboocampostproject.domain.post.document.PostDocument;
+import com.example.kaboocampostproject.domain.post.repository.PostMongoRepository;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// HOT 피드 랭킹 (Redis ZSET)
+/// score = log10(max(1, views + 5*likes + 10*comments)) + (createdAt - EPOCH) / DECAY_SECONDS
+/// - 반응이 10배 많아야 DECAY_SECONDS 만큼 먼저 작성된 글을 이길 수 있다 (시간 감쇠)
+/// - 조회수 flush, 좋아요 flush, 댓글 작성/삭제 시 dirty 표시 -> 주기적으로 해당 게시물만 재계산
+/// - 상위 MAX_SIZE 개만 유지하므로 게시물 수와 무관하게 첫 페이지 조회 비용이 일정하다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostHotRankService {
+
+    private static final long EPOCH_SECONDS = 1735689600L; // 2025-01-01T00:00:00Z
+    private static final double DECAY_SECONDS = 45_000d;   // 12.5시간
+    private static final long LIKE_WEIGHT = 5L;
+    private static final long COMMENT_WEIGHT = 10L;
+    private static final int MAX_SIZE = 10_000;
+    private static final int SEED_SIZE = 1_000;
+
+    private final Set<String> dirtyPostIds = ConcurrentHashMap.newKeySet();
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostMongoRepository postRepository;
+
+    private String key() {
+        return RedisMetadata.POST_HOT_RANK.keyOf();
+    }
+
+    // 랭킹이 비어있으면(레디스 초기화 등) 최근 게시물로 채우기
+    @PostConstruct
+    public void seedIfEmpty() {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(key());
+            if (size == null || size == 0) {
+                postRepository.findFirstByCreatedAt(SEED_SIZE)
+                        .forEach(post -> dirtyPostIds.add(post.postId()));
+            }
+        } catch (Exception e) {
+            log.warn("HOT 랭킹 초기화 실패. 다음 이벤트부터 반영", e);
+        }
+    }
+
+    public void markDirty(String postId) {
+        dirtyPostIds.add(postId);
+    }
+
+    public void markDirty(Iterable<String> postIds) {
+        postIds.forEach(dirtyPostIds::add);
+    }
+
+    public void remove(String postId) {
+        dirtyPostIds.remove(postId);
+        redisTemplate.opsForZSet().remove(key(), postId);
+    }
+
+    @Scheduled(fixedRate = 10_000)
+    public void refreshScores() {
+        if (dirtyPostIds.isEmpty()) return;
+
+        List<String> postIds = new ArrayList<>();
+        for (String postId : dirtyPostIds) {
+            if (dirtyPostIds.remove(postId)) postIds.add(postId);
+        }
+
+        try {
+            List<PostDocument> stats = postRepository.findHotStats(postIds);
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            Set<String> alive = new HashSet<>();
+            for (PostDocument post : stats) {
+                tuples.add(new DefaultTypedTuple<>(post.getId(), score(post)));
+                alive.add(post.getId());
+            }
+
+            if (!tuples.isEmpty()) {
+                redisTemplate.opsForZSet().add(key(), tuples);
+            }
+            // 삭제된 게시물은 랭킹에서 제거
+            Object[] gone = postIds.stream().filter(id -> !alive.contains(id)).toArray();
+            if (gone.length > 0) {
+                redisTemplate.opsForZSet().remove(key(), gone);
+            }
+            // 상위 MAX_SIZE 개만 유지
+            redisTemplate.opsForZSet().removeRange(key(), 0, -(MAX_SIZE + 1));
+        } catch (Exception e) {
+            dirtyPostIds.addAll(postIds);
+            log.error("HOT 랭킹 갱신 실패. 게시물 {}건 재시도 예정", postIds.size(), e);
+        }
+    }
+
+    private double score(PostDocument post) {
+        long engagement = post.getViews()
+                + LIKE_WEIGHT * post.getLikes()
+                + COMMENT_WEIGHT * post.getComments();
+        double order = Math.log10(Math.max(1L, engagement));
+        long createdAt = post.getCreatedAt() != null ? post.getCreatedAt().getEpochSecond() : EPOCH_SECONDS;
+        return order + (createdAt - EPOCH_SECONDS) / DECAY_SECONDS;
+    }
+
+    // =====================피드 조회=====================
+
+    public record RankedId(String postId, double score) {}
+
+    public List<RankedId> findFirst(int sizePlusOne) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key(), 0, sizePlusOne - 1);
+        List<RankedId> result = new ArrayList<>();
+        if (tuples != null) tuples.forEach(tuple -> result.add(toRankedId(tuple)));
+        return result;
+    }
+
+    // (score, id) 커서 다음부터. ZSET 순서와 같이 score 내림차순, 동점은 id 역순
+    // score 이하를 읽되 커서와 동점이면서 id가 커서 이상인 항목(이미 본 것)은 건너뛰고, 건너뛴 만큼 offset을 넘겨 채울 때까지 더 읽는다
+    // -> 동점 항목이 몇 개든 빠지거나 겹치지 않는다
+    public List<RankedId> findNext(double score, String id, int sizePlusOne) {
+        List<RankedId> result = new ArrayList<>();
+        long offset = 0;
+        while (result.size() < sizePlusOne) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(key(), Double.NEGATIVE_INFINITY, score, offset, sizePlusOne);
+            if (tuples == null || tuples.isEmpty()) break;
+
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                RankedId ranked = toRankedId(tuple);
+                if (ranked.score() == score && ranked.postId().compareTo(id) >= 0) continue;
+                result.add(ranked);
+                if (result.size() == sizePlusOne) break;
+            }
+            if (tuples.size() < sizePlusOne) break;
+            offset += tuples.size();
+        }
+        return result;
+    }
+
+    private static RankedId toRankedId(ZSetOperations.TypedTuple<String> tuple) {
+        return new RankedId(tuple.getValue(), tuple.getScore() != null ? tuple.getScore() : 0d);
+    }
+}
@@ -0,0 +1,359 @@
+package com.example.kaboocampostproject.domain.post.service;
+
+import com.example.kaboocampostproject.domain.like.dto.PostLikeChange;
+import com.example.kaboocampostproject.domain.like.repository.PostLikeJdbcRepository;
+import com.example.kaboocampostproject.domain.like.repository.PostLikeRepository;
+import com.example.kaboocampostproject.domain.post.cache.MemberLikedPostCacheService;
+import com.example.kaboocampostproject.global.lock.RedisLease;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.example.kaboocampostproject.domain.like.repository.PostLikeJdbcRepository.keyOf;
+
+/// 좋아요 write-behind
+/// 1. 요청: POST_LIKE:PENDING:{shard} 해시에 {postId}:{memberId} -> 1(좋아요)/0(취소) HSET 한번으로 응답
+///    - shard는 회원 기준으로만 정한다. 같은 (게시물, 회원)은 인기 여부/WAS와 무관하게 항상 같은 해시의 같은 필드
+///      -> 연타한 좋아요/취소는 마지막 상태 하나로 합쳐지고, 두 해시에 나뉘어 순서가 뒤집히는 일이 없다
+/// 2. 읽기: PROCESSING, PENDING 순으로 덮어써서 확인하고 없는 것만 회원별 좋아요 집합에서 확인 (내가 쓴 값을 바로 읽음)
+///    - 한 파이프라인으로 보내므로 페이지 단위 amILike도 Redis 왕복 1번 (집합이 없을 때만 MySql)
+/// 3. 반영: POST_LIKE:LEASE를 가진 WAS 하나가 샤드마다 PENDING -> PROCESSING RENAME 후
+///    활성 좋아요를 한번에 조회해 실제로 바뀌는 것만 JDBC 배치 insert / soft delete, posts.likes 증감
+///    - 이미 반영된 상태는 건너뛰므로 중간에 죽어서 PROCESSING을 다시 처리해도 중복 반영되지 않는다
+///    - 증감량은 청크마다 POST_LIKE:STAGED:{shard}에 먼저 적고 커밋 후 옮기므로 커밋 직후 죽어도 잃지 않는다
+///    - 청크마다 리더를 연장/확인해서 멈췄다 깨어난 이전 리더가 이어받은 리더와 함께 쓰지 않는다
+/// 인기 게시물(PostLikeHotKeyService)은 반영된 증감량만 posts.likes 대신 샤드 카운터로 보낸다
+/// 샤드 없는 POST_LIKE:PENDING / PROCESSING(LEGACY)은 이전 배포가 남긴 값이라 항상 샤드보다 먼저 읽고 먼저 반영한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.like-store", name = "type", havingValue = "mysql", matchIfMissing = true)
+public class PostLikeBufferService {
+
+    private static final String LIKED = "1";
+    private static final String UNLIKED = "0";
+    private static final int CHUNK_SIZE = 500;
+    // 샤드 이전 배포의 공용 해시
+    private static final int LEGACY = -1;
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+
+    // STAGED 해시 필드 접두사: 실제로 바뀌는 변경(복구 판단용), posts.likes 증감량, 샤드 카운터 증감량, 다 쓴 PROCESSING 필드
+    private static final String STAGED_CHANGE = "c:";
+    private static final String STAGED_DELTA = "d:";
+    private static final String STAGED_SHARD = "s:";
+    private static final String STAGED_FIELD = "f:";
+
+    // KEYS[1]: PENDING, KEYS[2]: PROCESSING. 남은 PROCESSING이 있으면 그대로, 없으면 PENDING을 RENAME. 반영할 게 있으면 1
+    static final DefaultRedisScript<Long> TAKE_BATCH = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 1 then return 1 end "
+                    + "if redis.call('exists', KEYS[1]) == 0 then return 0 end "
+                    + "redis.call('rename', KEYS[1], KEYS[2]) "
+                    + "return 1", Long.class);
+
+    // KEYS[1]: STAGED, KEYS[2]: PROCESSING, KEYS[3]: POST_LIKE_DELTA:PENDING
+    // 청크의 증감량 기록과 PROCESSING 필드 삭제를 한번에. STAGED가 이미 없으면(다른 리더가 처리) 아무것도 하지 않는다
+    // 샤드 카운터 키는 STAGED 필드에 담겨 있어 KEYS로 넘기지 않는다 (단일 Redis 기준)
+    static final DefaultRedisScript<Long> COMMIT_CHUNK = new DefaultRedisScript<>(
+            "local entries = redis.call('hgetall', KEYS[1]) "
+                    + "if #entries == 0 then return 0 end "
+                    + "for i = 1, #entries, 2 do "
+                    + "  local kind = string.sub(entries[i], 1, 2) "
+                    + "  local name = string.sub(entries[i], 3) "
+                    + "  if kind == 'd:' then redis.call('hincrby', KEYS[3], name, entries[i + 1]) "
+                    + "  elseif kind == 's:' then redis.call('incrby', name, entries[i + 1]) "
+                    + "  elseif kind == 'f:' then redis.call('hdel', KEYS[2], name) end "
+                    + "end "
+                    + "redis.call('del', KEYS[1]) "
+                    + "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostLikeRepository postLikeRepository;
+    private final PostLikeJdbcRepository postLikeJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberLikedPostCacheService likedPostCache;
+    private final PostLikeHotKeyService hotKeyService;
+
+    private RedisLease lease;
+
+    // slot: LEGACY면 공용 해시, 0 이상이면 회원 기준 샤드 해시
+    static String pendingKey(int slot) {
+        return slot == LEGACY ? RedisMetadata.POST_LIKE.keyOf("PENDING") : RedisMetadata.POST_LIKE.keyOf("PENDING", slot);
+    }
+
+    static String processingKey(int slot) {
+        return slot == LEGACY ? RedisMetadata.POST_LIKE.keyOf("PROCESSING") : RedisMetadata.POST_LIKE.keyOf("PROCESSING", slot);
+    }
+
+    static String stagedKey(int slot) {
+        return slot == LEGACY ? RedisMetadata.POST_LIKE.keyOf("STAGED") : RedisMetadata.POST_LIKE.keyOf("STAGED", slot);
+    }
+
+    @PostConstruct
+    public void init() {
+        lease = new RedisLease(redisTemplate, RedisMetadata.POST_LIKE.keyOf("LEASE"), LEASE_TTL);
+    }
+
+    public void like(Long memberId, String postId) {
+        hotKeyService.record(postId);
+        redisTemplate.opsForHash().put(pendingKey(hotKeyService.shardOf(memberId)), keyOf(postId, memberId), LIKED);
+    }
+
+    public void unlike(Long memberId, String postId) {
+        hotKeyService.record(postId);
+        redisTemplate.opsForHash().put(pendingKey(hotKeyService.shardOf(memberId)), keyOf(postId, memberId), UNLIKED);
+    }
+
+    // =====================읽기 (버퍼 -> 회원별 좋아요 집합)=====================
+
+    public boolean isLiked(Long memberId, String postId) {
+        return findLikedPostIds(memberId, List.of(postId)).contains(postId);
+    }
+
+    // 페이지 전체를 Redis 파이프라인 한번으로 확인. 회원 집합이 없을 때만 MySql에서 채운다
+    public Set<String> findLikedPostIds(Long memberId, List<String> postIds) {
+        if (postIds.isEmpty()) return Set.of();
+
+        byte[][] fields = postIds.stream()
+                .map(postId -> RedisSerializer.string().serialize(keyOf(postId, memberId)))
+                .toArray(byte[][]::new);
+        byte[][] members = new byte[postIds.size() + 1][];
+        members[0] = RedisSerializer.string().serialize(MemberLikedPostCacheService.SENTINEL);
+        for (int i = 0; i < postIds.size(); i++) members[i + 1] = RedisSerializer.string().serialize(postIds.get(i));
+
+        // 이 회원의 좋아요/취소는 항상 같은 샤드 해시에 있다. 오래된 것부터: LEGACY -> 샤드, PROCESSING -> PENDING
+        int shard = hotKeyService.shardOf(memberId);
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hashCommands().hMGet(RedisSerializer.string().serialize(processingKey(LEGACY)), fields);
+                connection.hashCommands().hMGet(RedisSerializer.string().serialize(pendingKey(LEGACY)), fields);
+                connection.hashCommands().hMGet(RedisSerializer.string().serialize(processingKey(shard)), fields);
+                connection.hashCommands().hMGet(RedisSerializer.string().serialize(pendingKey(shard)), fields);
+                connection.setCommands().sMIsMember(
+                        RedisSerializer.string().serialize(MemberLikedPostCacheService.keyOf(memberId)), members);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("좋아요 여부 Redis 조회 실패. MySql 값으로 응답", e);
+            return new HashSet<>(postLikeRepository.findLikedPostIds(memberId, postIds));
+        }
+
+        // 아직 MySql에 반영되지 않은 상태. 오래된 해시부터 읽고 더 최신 값으로 덮어쓴다
+        Map<String, Boolean> buffered = new HashMap<>();
+        for (Object result : results.subList(0, 4)) {
+            List<?> values = (List<?>) result;
+            for (int i = 0; i < postIds.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) buffered.put(postIds.get(i), LIKED.equals(value.toString()));
+            }
+        }
+
+        List<?> membership = (List<?>) results.get(4);
+        boolean warm = Boolean.TRUE.equals(membership.get(0));
+        Set<String> persisted = warm ? null : likedPostCache.warm(memberId);
+
+        Set<String> liked = new HashSet<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            String postId = postIds.get(i);
+            Boolean state = buffered.get(postId);
+            if (state == null) {
+                state = warm ? Boolean.TRUE.equals(membership.get(i + 1)) : persisted.contains(postId);
+            }
+            if (state) liked.add(postId);
+        }
+        return liked;
+    }
+
+    // =====================Redis -> MySql (리더만)=====================
+
+    @Scheduled(fixedRate = 1_000)
+    public void persist() {
+        // 이전 배포가 남긴 공용 해시가 샤드보다 오래된 값이므로 먼저 반영
+        if (!persistSlot(LEGACY)) return;
+        for (int shard = 0; shard < hotKeyService.shards(); shard++) {
+            if (!persistSlot(shard)) return;
+        }
+    }
+
+    // 리더를 잃으면 false -> 남은 샤드도 건너뛴다
+    private boolean persistSlot(int slot) {
+        try {
+            if (!holdsLease(slot)) return false;
+            recoverStaged(slot);
+            if (!takeBatch(slot)) return true;
+
+            // HGETALL 대신 HSCAN으로 CHUNK_SIZE씩 읽어서 반영 -> 밀린 PROCESSING이 커도 한번에 메모리/Redis 응답에 올리지 않는다
+            // HSCAN은 같은 필드를 다시 줄 수 있어 청크 안에서는 필드로 중복 제거. 청크를 넘는 중복은 이미 반영된 상태라 건너뛰어진다
+            int persisted = 0;
+            Map<String, PostLikeChange> chunk = new LinkedHashMap<>();
+            ScanOptions options = ScanOptions.scanOptions().count(CHUNK_SIZE).build();
+            try (Cursor<Map.Entry<String, String>> cursor =
+                         redisTemplate.<String, String>opsForHash().scan(processingKey(slot), options)) {
+                while (cursor.hasNext()) {
+                    Map.Entry<String, String> entry = cursor.next();
+                    PostLikeChange change = toChange(entry.getKey(), entry.getValue());
+                    if (change == null) continue;
+                    chunk.put(entry.getKey(), change);
+                    if (chunk.size() == CHUNK_SIZE) {
+                        if (!holdsLease(slot)) return false;
+                        persistChunk(chunk, slot);
+                        persisted += chunk.size();
+                        chunk.clear();
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                if (!holdsLease(slot)) return false;
+                persistChunk(chunk, slot);
+                persisted += chunk.size();
+            }
+            redisTemplate.delete(processingKey(slot));
+            log.debug("좋아요 반영. slot: {}, {}건", slot, persisted);
+        } catch (Exception e) {
+            log.error("좋아요 반영 실패. slot: {}, 남은 PROCESSING은 다음 주기에 처리", slot, e);
+        }
+        return true;
+    }
+
+    // 청크마다 리더를 연장하고 확인. 멈춰 있던 사이 다른 WAS가 이어받았으면 더 쓰지 않는다
+    private boolean holdsLease(int slot) {
+        try {
+            if (lease.acquire()) return true;
+            log.debug("좋아요 반영 리더가 아님. slot: {}부터 중단", slot);
+        } catch (Exception e) {
+            log.error("좋아요 반영 리더 확인 실패", e);
+        }
+        return false;
+    }
+
+    // 이전 리더가 남긴 PROCESSING이 있으면 그것부터, 없으면 PENDING을 원자적으로 떼어낸다. 반영할 게 없으면 false
+    private boolean takeBatch(int slot) {
+        Long taken = redisTemplate.execute(TAKE_BATCH, List.of(pendingKey(slot), processingKey(slot)));
+        return taken != null && taken == 1L;
+    }
+
+    // 필드 {postId}:{memberId}. ObjectId가 아닌 게시물은 null
+    private static PostLikeChange toChange(String field, String state) {
+        int separator = field.lastIndexOf(':');
+        String postId = field.substring(0, separator);
+        if (!ObjectId.isValid(postId)) return null;
+        return new PostLikeChange(postId, Long.parseLong(field.substring(separator + 1)), LIKED.equals(state));
+    }
+
+    // chunk: PROCESSING 필드 -> 변경
+    // 좋아요 수 증감량은 MySql 차이로만 알 수 있어서 커밋 전에 STAGED에 적어두고, 커밋 후 COMMIT_CHUNK로
+    // 증감량 기록과 PROCESSING 필드 삭제를 한번에 한다 -> 커밋 직후 죽어도 다음 리더가 STAGED로 이어서 기록한다
+    // 탈퇴한 회원의 변경은 버린다 (필드만 지움). 연쇄 삭제가 이미 좋아요를 지우고 카운터를 뺐거나 곧 그렇게 하므로,
+    // 반영하면 지운 좋아요가 되살아나거나 취소가 두 번 빠진다
+    private void persistChunk(Map<String, PostLikeChange> chunk, int slot) {
+        List<PostLikeChange> applied = transactionTemplate.execute(status -> {
+            Set<Long> deletedMembers = postLikeJdbcRepository.findDeletedMemberIds(
+                    chunk.values().stream().map(PostLikeChange::memberId).collect(Collectors.toSet()));
+            List<PostLikeChange> changes = chunk.values().stream()
+                    .filter(change -> !deletedMembers.contains(change.memberId()))
+                    .toList();
+            Set<String> active = postLikeJdbcRepository.findActiveKeys(changes);
+
+            List<PostLikeChange> inserts = new ArrayList<>();
+            List<PostLikeChange> deletes = new ArrayList<>();
+            Map<String, String> staged = new HashMap<>();
+            Map<String, Long> deltas = new HashMap<>();
+            for (PostLikeChange change : changes) {
+                String key = keyOf(change.postId(), change.memberId());
+                boolean exists = active.contains(key);
+                if (change.liked() && !exists) {
+                    inserts.add(change);
+                    staged.put(STAGED_CHANGE + key, LIKED);
+                    deltas.merge(change.postId(), 1L, Long::sum);
+                }
+                if (!change.liked()) {
+                    // 취소는 항상 기록 (행이 없으면 취소 상태로 생성), 카운터는 실제로 취소된 것만
+                    deletes.add(change);
+                    if (exists) {
+                        staged.put(STAGED_CHANGE + key, UNLIKED);
+                        deltas.merge(change.postId(), -1L, Long::sum);
+                    }
+                }
+            }
+            // 인기 게시물은 샤드 카운터, 나머지는 posts.likes 증감량으로 누적
+            deltas.forEach((postId, delta) -> {
+                if (delta == 0L) return;
+                if (hotKeyService.isHot(postId)) {
+                    staged.put(STAGED_SHARD + PostLikeHotKeyService.counterKey(postId, slot == LEGACY ? 0 : slot), delta.toString());
+                } else {
+                    staged.put(STAGED_DELTA + postId, delta.toString());
+                }
+            });
+            chunk.keySet().forEach(field -> staged.put(STAGED_FIELD + field, ""));
+
+            // Redis에 못 적으면 MySql도 롤백
+            redisTemplate.<String, String>opsForHash().putAll(stagedKey(slot), staged);
+            postLikeJdbcRepository.batchInsert(inserts);
+            postLikeJdbcRepository.batchSoftDelete(deletes);
+            return changes;
+        });
+        if (applied != null) likedPostCache.apply(applied);
+        redisTemplate.execute(COMMIT_CHUNK, chunkKeys(slot));
+    }
+
+    // STAGED가 남아 있으면 이전 리더가 청크 도중에 멈춘 것. 실제로 바뀌는 변경이 MySql에 보이는지로 커밋 여부를 가린다
+    // - 커밋됨: 증감량 기록 + 필드 삭제를 마저 한다
+    // - 커밋 안 됨: STAGED만 버린다. 필드는 PROCESSING에 그대로 있어 다시 차이를 계산해 반영된다
+    private void recoverStaged(int slot) {
+        Map<String, String> staged = redisTemplate.<String, String>opsForHash().entries(stagedKey(slot));
+        if (staged.isEmpty()) return;
+
+        List<PostLikeChange> changes = new ArrayList<>();
+        staged.forEach((field, value) -> {
+            if (!field.startsWith(STAGED_CHANGE)) return;
+            PostLikeChange change = toChange(field.substring(STAGED_CHANGE.length()), value);
+            if (change != null) changes.add(change);
+        });
+        Set<String> active = changes.isEmpty() ? Set.of() : postLikeJdbcRepository.findActiveKeys(changes);
+        boolean committed = changes.stream()
+                .allMatch(change -> change.liked() == active.contains(keyOf(change.postId(), change.memberId())));
+
+        if (committed) {
+            redisTemplate.execute(COMMIT_CHUNK, chunkKeys(slot));
+        } else {
+            redisTemplate.delete(stagedKey(slot));
+        }
+        log.info("좋아요 반영 중단된 청크 복구. slot: {}, 커밋 여부: {}", slot, committed);
+    }
+
+    private static List<String> chunkKeys(int slot) {
+        return List.of(stagedKey(slot), processingKey(slot), PostLikeCountService.pendingKey());
+    }
+
+    @PreDestroy
+    public void onShutdown() {
+        try {
+            lease.release();
+        } catch (Exception e) {
+            log.warn("좋아요 반영 리더 반납 실패. TTL 만료 후 다른 WAS가 이어받음", e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.kaboocampostproject.domain.post.service;
+
+import com.example.kaboocampostproject.domain.like.store.LikeStore;
+import com.example.kaboocampostproject.domain.post.document.PostDocument;
+import com.example.kaboocampostproject.domain.post.repository.PostMongoRepository;
+import com.example.kaboocampostproject.global.config.LikeCountReconcileProperties;
+import com.example.kaboocampostproject.global.lock.RedisLease;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/// posts.likes 재집계 (app.like-count-reconcile.enabled, 기본 켜짐)
+/// posts.likes 도입 전 게시물은 0에서 시작하고, 증감량 기록에 실패한 변경은 어디에도 남지 않으므로 좋아요 저장소 원본 기준으로 다시 맞춘다
+/// - 기동 후 별도 스레드에서 게시물 _id 순으로 청크 처리. WAS 하나만 실행 (리더 임대), 진행 위치는 Redis에 기록
+/// - 첫 회차가 기존 게시물 백필. 완료 표시가 없을 때만 실행되어 배포 후 한 번은 반드시 돌고, interval-hours > 0 이면 그 간격으로 다시
+/// - likes = 원본 좋아요 수 - 아직 더해지지 않은 증감량 (PENDING, 미반영 FLUSHING, 인기 게시물 샤드 카운터)
+/// - 읽은 뒤 새 배치가 반영된 게시물은 덮어쓰지 않고 다음 회차로 넘긴다
+/// 증감량 조회와 원본 집계 사이 몇 ms 동안 바뀐 좋아요는 ±1 차이가 날 수 있고, 다음 회차에 맞춰진다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeCountReconcileService {
+
+    private static final String DONE_PREFIX = "DONE:";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(60);
+    private static final long RETRY_DELAY_MS = 30_000;
+
+    private final PostMongoRepository postRepository;
+    private final LikeStore likeStore;
+    private final PostLikeCountService postLikeCountService;
+    // MySql 좋아요 저장소일 때만 등록
+    private final ObjectProvider<PostLikeHotKeyService> hotKeyService;
+    private final PostHotRankService postHotRankService;
+    private final LikeCountReconcileProperties properties;
+    private final StringRedisTemplate redisTemplate;
+
+    private volatile boolean stopped;
+
+    private static String progressKey() {
+        return RedisMetadata.POST_LIKE_DELTA.keyOf("RECONCILE");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) return;
+        Thread worker = new Thread(this::run, "post-like-count-reconcile");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+    }
+
+    private void run() {
+        RedisLease lease = new RedisLease(redisTemplate, RedisMetadata.POST_LIKE_DELTA.keyOf("RECONCILE_LEASE"), LEASE_TTL);
+        while (!stopped) {
+            try {
+                if (!lease.acquire()) {
+                    sleep(RETRY_DELAY_MS);
+                    continue;
+                }
+                String progress = redisTemplate.opsForValue().get(progressKey());
+                if (progress != null && progress.startsWith(DONE_PREFIX)) {
+                    if (properties.getIntervalHours() <= 0) {
+                        lease.release();
+                        break;
+                    }
+                    long nextAt = Long.parseLong(progress.substring(DONE_PREFIX.length()))
+                            + Duration.ofHours(properties.getIntervalHours()).toMillis();
+                    long wait = nextAt - System.currentTimeMillis();
+                    if (wait > 0) {
+                        // 대기 중에도 임대를 연장하도록 나눠서 잔다
+                        sleep(Math.min(wait, RETRY_DELAY_MS));
+                        continue;
+                    }
+                    progress = null;
+                }
+
+                String last = reconcileChunk(progress);
+                if (last == null) {
+                    redisTemplate.opsForValue().set(progressKey(), DONE_PREFIX + System.currentTimeMillis());
+                    log.info("좋아요 수 재집계 회차 완료");
+                    continue;
+                }
+                redisTemplate.opsForValue().set(progressKey(), last);
+                sleep(properties.getPauseMs());
+            } catch (Exception e) {
+                log.warn("좋아요 수 재집계 청크 실패. 재시도 예정", e);
+                sleep(RETRY_DELAY_MS);
+            }
+        }
+    }
+
+    // (afterId, 다음 chunkSize번째 게시물] 재집계. 더 없으면 null
+    private String reconcileChunk(String afterId) {
+        List<PostDocument> posts = postRepository.findLikeBatchesAfter(afterId, properties.getChunkSize());
+        if (posts.isEmpty()) return null;
+
+        List<String> postIds = posts.stream().map(PostDocument::getId).toList();
+        Map<String, String> expectedBatches = new HashMap<>();
+        posts.forEach(post -> expectedBatches.put(post.getId(), post.getLikeBatch()));
+
+        PostLikeCountService.PendingDeltas deltas = postLikeCountService.findPendingDeltas(postIds);
+        Map<String, Long> counts = likeStore.countByPostIds(postIds);
+
+        Map<String, Long> likes = new HashMap<>();
+        for (String postId : postIds) {
+            long unapplied = deltas.pending().getOrDefault(postId, 0L) + unfoldedLikes(postId);
+            // FLUSHING 배치가 이미 더해진 게시물은 빼지 않는다
+            if (deltas.flushingBatch() != null && !deltas.flushingBatch().equals(expectedBatches.get(postId))) {
+                unapplied += deltas.flushing().getOrDefault(postId, 0L);
+            }
+            likes.put(postId, counts.getOrDefault(postId, 0L) - unapplied);
+        }
+
+        long updated = postRepository.setLikes(likes, expectedBatches);
+        postHotRankService.markDirty(postIds);
+
+        String last = postIds.get(postIds.size() - 1);
+        log.debug("좋아요 수 재집계 청크. last: {}, 게시물 {}건, 갱신 {}건", last, postIds.size(), updated);
+        return last;
+    }
+
+    private long unfoldedLikes(String postId) {
+        PostLikeHotKeyService service = hotKeyService.getIfAvailable();
+        return service == null ? 0L : service.unfoldedLikes(postId);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.kaboocampostproject.domain.post.service;
+
+import com.example.kaboocampostproject.domain.post.repository.PostMongoRepository;
+import com.example.kaboocampostproject.global.lock.RedisLease;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/// posts.likes 비정규화 카운터
+/// 좋아요/취소 시 게시물별 증감량을 Redis 해시(POST_LIKE_DELTA:PENDING)에 HINCRBY로 합쳐두고,
+/// POST_LIKE_DELTA:LEASE를 가진 WAS 하나가 주기적으로 Mongo bulk $inc로 반영한다 (WAS가 죽어도 증감량은 Redis에 남는다)
+/// - PENDING -> FLUSHING RENAME 때 배치 id를 같이 기록하고, posts.likeBatch가 같은 게시물은 건너뛴다
+///   -> 반영 도중 죽어서 FLUSHING을 다시 처리해도 같은 배치가 두 번 더해지지 않는다
+/// 기록 실패 등으로 어긋난 값은 PostLikeCountReconcileService가 저장소 원본 기준으로 다시 맞춘다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeCountService {
+
+    static final String BATCH_FIELD = "_batch";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+
+    // 이전 리더가 남긴 FLUSHING이 있으면 그 배치 그대로, 없으면 PENDING을 떼어내 새 배치 id 부여. 반영할 게 없으면 nil
+    private static final DefaultRedisScript<String> TAKE_BATCH = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 0 then "
+                    + "  if redis.call('exists', KEYS[1]) == 0 then return nil end "
+                    + "  redis.call('rename', KEYS[1], KEYS[2]) "
+                    + "end "
+                    + "redis.call('hsetnx', KEYS[2], ARGV[1], ARGV[2]) "
+                    + "return redis.call('hget', KEYS[2], ARGV[1])", String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostMongoRepository postRepository;
+    private final PostHotRankService postHotRankService;
+
+    private RedisLease lease;
+
+    static String pendingKey() {
+        return RedisMetadata.POST_LIKE_DELTA.keyOf("PENDING");
+    }
+
+    static String flushingKey() {
+        return RedisMetadata.POST_LIKE_DELTA.keyOf("FLUSHING");
+    }
+
+    @PostConstruct
+    public void init() {
+        lease = new RedisLease(redisTemplate, RedisMetadata.POST_LIKE_DELTA.keyOf("LEASE"), LEASE_TTL);
+    }
+
+    public void increment(String postId) {
+        add(postId, 1L);
+    }
+
+    public void decrement(String postId) {
+        add(postId, -1L);
+    }
+
+    public void add(String postId, long delta) {
+        if (delta == 0L) return;
+        try {
+            redisTemplate.opsForHash().increment(pendingKey(), postId, delta);
+        } catch (Exception e) {
+            log.warn("좋아요 카운터 증감량 기록 실패. 재집계 때 보정. postId: {}, delta: {}", postId, delta, e);
+        }
+    }
+
+    // 아직 posts.likes에 더해지지 않은 증감량 (재집계용). FLUSHING은 배치 id가 반영되지 않은 게시물만 유효
+    public PendingDeltas findPendingDeltas(List<String> postIds) {
+        List<Object> fields = new ArrayList<>(postIds);
+        fields.add(BATCH_FIELD);
+        List<Object> pending = redisTemplate.opsForHash().multiGet(pendingKey(), fields);
+        List<Object> flushing = redisTemplate.opsForHash().multiGet(flushingKey(), fields);
+
+        Map<String, Long> pendingDeltas = new HashMap<>();
+        Map<String, Long> flushingDeltas = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            if (pending.get(i) != null) pendingDeltas.put(postIds.get(i), Long.parseLong(pending.get(i).toString()));
+            if (flushing.get(i) != null) flushingDeltas.put(postIds.get(i), Long.parseLong(flushing.get(i).toString()));
+        }
+        Object flushingBatch = flushing.get(postIds.size());
+        return new PendingDeltas(pendingDeltas, flushingBatch == null ? null : flushingBatch.toString(), flushingDeltas);
+    }
+
+    @Scheduled(fixedRate = 5_000)
+    public void flushToMongo() {
+        try {
+            if (!lease.acquire()) return;
+        } catch (Exception e) {
+            log.error("좋아요 카운터 반영 리더 확인 실패", e);
+            return;
+        }
+
+        try {
+            String batchId = redisTemplate.execute(TAKE_BATCH, List.of(pendingKey(), flushingKey()),
+                    BATCH_FIELD, UUID.randomUUID().toString());
+            if (batchId == null) return;
+
+            Map<String, Long> deltas = new HashMap<>();
+            redisTemplate.<String, String>opsForHash().entries(flushingKey()).forEach((postId, delta) -> {
+                if (BATCH_FIELD.equals(postId)) return;
+                long value = Long.parseLong(delta);
+                if (value != 0L) deltas.put(postId, value);
+            });
+
+            // 실패하면 FLUSHING이 그대로 남아 다음 주기에 같은 배치 id로 다시 반영 (이미 반영된 게시물은 건너뜀)
+            postRepository.incrementLikes(deltas, batchId);
+            redisTemplate.delete(flushingKey());
+            if (!deltas.isEmpty()) postHotRankService.markDirty(deltas.keySet());
+            log.debug("좋아요 카운터 flush. batch: {}, 게시물 {}건", batchId, deltas.size());
+        } catch (Exception e) {
+            log.error("좋아요 카운터 flush 실패. 다음 주기에 같은 배치로 재시도", e);
+        }
+    }
+
+    @PreDestroy
+    public void onShutdown() {
+        try {
+            lease.release();
+        } catch (Exception e) {
+            log.warn("좋아요 카운터 반영 리더 반납 실패. TTL 만료 후 다른 WAS가 이어받음", e);
+        }
+    }
+
+    // flushingBatch: 현재 FLUSHING 배치 id (없으면 null)
+    public record PendingDeltas(
+            Map<String, Long> pending,
+            String flushingBatch,
+            Map<String, Long> flushing
+    ) {}
+}
@@ -0,0 +1,184 @@
+package com.example.kaboocampostproject.domain.post.service;
+
+import com.example.kaboocampostproject.global.config.LikeHotKeyProperties;
+import com.example.kaboocampostproject.global.lock.RedisLease;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/// 인기 게시물 좋아요 핫키 분산
+/// 1. 감지: WAS별로 1초 동안 게시물별 좋아요/취소 요청 수를 세고, 임계치를 넘으면 POST_LIKE_HOT(ZSET, score=만료 시각)에 등록
+///    - 모든 WAS가 매초 목록을 읽어오므로 한 곳에서 감지되면 전체가 전환된다
+/// 2. 전환: 좋아요 버퍼는 원래 회원 기준 N개 해시로 나뉘어 있고(PostLikeBufferService),
+///    인기 게시물은 반영된 증감량만 posts.likes 대신 N개 샤드 카운터(POST_LIKE_COUNT:{postId}:{shard})에 INCRBY
+/// 3. 읽기: 상세 조회 시 posts.likes + 샤드 합 (MGET 한번)
+/// 4. 접기: 리더가 주기적으로 샤드 합을 GETDEL 하면서 같은 Lua 안에서 POST_LIKE_DELTA:PENDING에 HINCRBY, 만료된 게시물은 목록에서 제거
+///    - posts.likes 반영은 PostLikeCountService의 배치 id flush가 맡아 부분 실패/재시도에도 두 번 더해지지 않는다
+///    - 샤드에서 빠진 뒤 flush 전(최대 5초)까지는 상세의 좋아요 수가 일반 게시물과 같은 만큼 늦게 보인다
+/// 한계: 샤드 카운터는 좋아요 반영 리더 하나만 쓰고, 그 리더는 이미 게시물별로 증감량을 합쳐서 보내므로
+///    Redis 쓰기 경합을 실제로 줄이지는 않는다. 요청 경로의 경합은 회원 기준 버퍼 해시 분산(PostLikeBufferService)이 없앤다
+/// 버퍼를 거치는 MySql 좋아요 저장소에서만 등록된다 (다른 저장소는 증감량을 바로 PostLikeCountService로 보냄)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.like-store", name = "type", havingValue = "mysql", matchIfMissing = true)
+public class PostLikeHotKeyService {
+
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+    private static final Duration REMOVE_GRACE = Duration.ofSeconds(15);
+
+    // KEYS[1]: POST_LIKE_DELTA:PENDING, KEYS[2..]: 게시물마다 ARGV[1]개씩 샤드 카운터, ARGV[2..]: postId
+    // 샤드를 비우는 것과 증감량 기록이 한번에 일어나 중간에 실패해도 빠지거나 두 번 더해지지 않는다. 옮긴 게시물 수 반환
+    private static final DefaultRedisScript<Long> FOLD = new DefaultRedisScript<>(
+            "local shards = tonumber(ARGV[1]) "
+                    + "local moved = 0 "
+                    + "for i = 2, #ARGV do "
+                    + "  local sum = 0 "
+                    + "  for s = 1, shards do "
+                    + "    local v = redis.call('getdel', KEYS[1 + (i - 2) * shards + s]) "
+                    + "    if v then sum = sum + tonumber(v) end "
+                    + "  end "
+                    + "  if sum ~= 0 then redis.call('hincrby', KEYS[1], ARGV[i], sum) moved = moved + 1 end "
+                    + "end "
+                    + "return moved", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LikeHotKeyProperties properties;
+
+    private volatile ConcurrentHashMap<String, LongAdder> window = new ConcurrentHashMap<>();
+    // 증감량을 샤드 카운터로 보내는 게시물 (만료 전)
+    private volatile Set<String> routing = Set.of();
+    // 샤드 카운터가 남아있을 수 있는 게시물 (만료됐지만 아직 접지 않은 것 포함)
+    private volatile Set<String> counting = Set.of();
+
+    private RedisLease lease;
+
+    private static String hotKey() {
+        return RedisMetadata.POST_LIKE_HOT.keyOf();
+    }
+
+    static String counterKey(String postId, int shard) {
+        return RedisMetadata.POST_LIKE_COUNT.keyOf(postId, shard);
+    }
+
+    @PostConstruct
+    public void init() {
+        lease = new RedisLease(redisTemplate, RedisMetadata.POST_LIKE.keyOf("FOLD_LEASE"), LEASE_TTL);
+    }
+
+    // 좋아요/취소 요청마다 호출 (로컬 카운트만)
+    public void record(String postId) {
+        window.computeIfAbsent(postId, k -> new LongAdder()).increment();
+    }
+
+    public boolean isHot(String postId) {
+        return routing.contains(postId);
+    }
+
+    public int shards() {
+        return properties.getShards();
+    }
+
+    public int shardOf(Long memberId) {
+        return (int) Math.floorMod(memberId, (long) properties.getShards());
+    }
+
+    // 아직 posts.likes에 접히지 않은 좋아요 수
+    public long unfoldedLikes(String postId) {
+        return unfoldedLikes(List.of(postId)).getOrDefault(postId, 0L);
+    }
+
+    // 여러 게시물의 아직 접히지 않은 좋아요 수 (샤드 카운터가 있는 게시물만, MGET 한번). 없는 게시물은 결과에 없음
+    public Map<String, Long> unfoldedLikes(Collection<String> postIds) {
+        List<String> counted = postIds.stream().filter(counting::contains).distinct().toList();
+        if (counted.isEmpty()) return Map.of();
+        try {
+            int shards = properties.getShards();
+            List<String> keys = new ArrayList<>();
+            for (String postId : counted) {
+                for (int shard = 0; shard < shards; shard++) keys.add(counterKey(postId, shard));
+            }
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) return Map.of();
+
+            Map<String, Long> result = new HashMap<>();
+            for (int i = 0; i < counted.size(); i++) {
+                long sum = values.subList(i * shards, (i + 1) * shards).stream()
+                        .filter(v -> v != null).mapToLong(Long::parseLong).sum();
+                if (sum != 0L) result.put(counted.get(i), sum);
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("좋아요 샤드 카운터 조회 실패. 게시물 {}건", counted.size(), e);
+            return Map.of();
+        }
+    }
+
+    // 감지 + 인기 게시물 목록 갱신
+    @Scheduled(fixedRate = 1_000)
+    public void tick() {
+        ConcurrentHashMap<String, LongAdder> last = window;
+        window = new ConcurrentHashMap<>();
+
+        try {
+            long now = System.currentTimeMillis();
+            double expireAt = now + Duration.ofSeconds(properties.getHotTtlSeconds()).toMillis();
+            last.forEach((postId, count) -> {
+                if (count.sum() < properties.getThresholdPerSecond()) return;
+                Boolean added = redisTemplate.opsForZSet().add(hotKey(), postId, expireAt);
+                if (Boolean.TRUE.equals(added)) log.info("인기 게시물 좋아요 샤드 전환. postId: {}, 초당 {}건", postId, count.sum());
+            });
+
+            Set<String> all = redisTemplate.opsForZSet().range(hotKey(), 0, -1);
+            Set<String> active = redisTemplate.opsForZSet().rangeByScore(hotKey(), now, Double.POSITIVE_INFINITY);
+            counting = all == null ? Set.of() : Set.copyOf(all);
+            routing = active == null ? Set.of() : Set.copyOf(active);
+        } catch (Exception e) {
+            log.warn("인기 게시물 목록 갱신 실패. 이전 목록 유지", e);
+        }
+    }
+
+    // 샤드 카운터 -> posts.likes 증감량 (리더만)
+    @Scheduled(fixedRate = 5_000)
+    public void fold() {
+        try {
+            if (!lease.acquire()) return;
+            Set<String> postIds = redisTemplate.opsForZSet().range(hotKey(), 0, -1);
+            if (postIds == null || postIds.isEmpty()) return;
+
+            int shards = properties.getShards();
+            List<String> keys = new ArrayList<>();
+            List<String> args = new ArrayList<>();
+            keys.add(PostLikeCountService.pendingKey());
+            args.add(String.valueOf(shards));
+            for (String postId : postIds) {
+                for (int shard = 0; shard < shards; shard++) keys.add(counterKey(postId, shard));
+                args.add(postId);
+            }
+            Long moved = redisTemplate.execute(FOLD, keys, args.toArray());
+            log.debug("좋아요 샤드 카운터 접기. 게시물 {}건", moved);
+
+            // 만료 직후에도 반영 중이던 증감량이 샤드에 남을 수 있어 한 주기 이상 지난 것만 제거
+            redisTemplate.opsForZSet().removeRangeByScore(hotKey(), Double.NEGATIVE_INFINITY,
+                    System.currentTimeMillis() - REMOVE_GRACE.toMillis());
+        } catch (Exception e) {
+            log.error("좋아요 샤드 카운터 접기 실패. 샤드에 그대로 남아 다음 주기에 처리", e);
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package com.example.kaboocampostproject.domain.post.service;
 
 
-import com.example.kaboocampostproject.domain.comment.repository.CommentMongoRepository;
+import com.example.kaboocampostproject.domain.cascade.service.CascadeDeleteService;
+import com.example.kaboocampostproject.domain.comment.cache.CommentFirstPageCacheService;
 import com.example.kaboocampostproject.domain.like.dto.PostLikeStatsDto;
-import com.example.kaboocampostproject.domain.like.entity.PostLike;
-import com.example.kaboocampostproject.domain.like.repository.PostLikeRepository;
+import com.example.kaboocampostproject.domain.like.store.LikeStore;
 import com.example.kaboocampostproject.domain.member.cache.MemberProfileCacheDTO;
 import com.example.kaboocampostproject.domain.member.cache.MemberProfileCacheService;
+import com.example.kaboocampostproject.domain.post.cache.PostDetailCacheDTO;
+import com.example.kaboocampostproject.domain.post.cache.PostDetailCacheService;
+import com.example.kaboocampostproject.domain.post.cache.PostFirstPageCacheService;
+import com.example.kaboocampostproject.domain.post.cache.PostPageCacheDTO;
+import com.example.kaboocampostproject.domain.post.cache.PostSummaryCacheDTO;
+import com.example.kaboocampostproject.domain.post.cache.PostSummaryCacheService;
 import com.example.kaboocampostproject.domain.post.converter.PostConverter;
 import com.example.kaboocampostproject.domain.post.document.PostDocument;
 import com.example.kaboocampostproject.domain.post.dto.req.PostCreatReqDTO;
 import com.example.kaboocampostproject.domain.post.dto.req.PostUpdateReqDTO;
 import com.example.kaboocampostproject.domain.post.dto.res.PostDetailResDTO;
-import com.example.kaboocampostproject.domain.post.dto.res.PostSimple;
+import com.example.kaboocampostproject.domain.post.dto.res.PostCursorKey;
 import com.example.kaboocampostproject.domain.post.dto.res.PostSliceItem;
 import com.example.kaboocampostproject.domain.post.dto.res.PostSliceResDTO;
 import com.example.kaboocampostproject.domain.post.error.PostErrorCode;
@@ -21,15 +27,25 @@ import com.example.kaboocampostproject.domain.post.repository.PostMongoRepositor
 import com.example.kaboocampostproject.domain.s3.service.S3Service;
 import com.example.kaboocampostproject.domain.s3.util.CloudFrontUtil;
 import com.example.kaboocampostproject.domain.s3.util.S3Util;
+import com.example.kaboocampostproject.global.async.EnrichmentFetcher;
+import com.example.kaboocampostproject.global.async.SingleFlight;
 import com.example.kaboocampostproject.global.cursor.Cursor;
 import com.example.kaboocampostproject.global.cursor.CursorCodec;
 import com.example.kaboocampostproject.global.cursor.PageSlice;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 
@@ -38,15 +54,27 @@ import java.util.stream.Collectors;
 public class PostMongoService {
 
     private final PostMongoRepository postRepository;
-    private final PostLikeRepository postLikeRepository;
-    private final CommentMongoRepository commentRepository;
     private final PostViewService postViewService;
+    private final PostUniqueViewService postUniqueViewService;
+    private final LikeStore likeStore;
+    private final CascadeDeleteService cascadeDeleteService;
+    // MySql 좋아요 저장소일 때만 등록
+    private final ObjectProvider<PostLikeHotKeyService> postLikeHotKeyService;
+    private final PostHotRankService postHotRankService;
+    private final PostPopularSnapshotService postPopularSnapshotService;
+    private final PostFirstPageCacheService postFirstPageCacheService;
+    private final PostSummaryCacheService postSummaryCacheService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final CommentFirstPageCacheService commentFirstPageCacheService;
     private final MemberProfileCacheService memberProfileCacheService;
     private final CursorCodec codec;
     private final S3Service s3Service;
     private final S3Util s3Util;
+    private final EnrichmentFetcher enrichmentFetcher;
+    private final SingleFlight singleFlight;
 
     private static final int PAGE_SIZE = 10;
+    private static final int BATCH_MAX_SIZE = 50;
     private final CloudFrontUtil cloudFrontUtil;
 
     public void create(Long authorId, PostCreatReqDTO postCreatReqDTO) {
@@ -56,6 +84,8 @@ public class PostMongoService {
             postCreatReqDTO.imageObjectKeys().forEach(s3Service::verifyS3Upload);
         }
         postRepository.save(post);
+        postHotRankService.markDirty(post.getId());
+        postFirstPageCacheService.evictAll();
     }
 
     private List<String> calculateRemaining(List<String> oldImages, List<String> addedImages, List<String> removedImages) {
@@ -112,19 +142,28 @@ public class PostMongoService {
         // DB 업데이트
         boolean updated = postRepository.updatePostFields(memberId, postId, req, remainingImages);
         if (!updated) throw new PostException(PostErrorCode.POST_UPDATED_FAIL);
+        postSummaryCacheService.evict(postId);
+        postDetailCacheService.evict(postId);
+        postFirstPageCacheService.evictAll();
 
         // 삭제할 이미지 있다면 삭제
         removedImages.forEach(s3Util::delete);/// 이것도 직접 삭제하지 말고, 캐싱해뒀다가 배치 삭제하기 전략 적용 고민 (verifyS3Upload() 내부 삭제로직도 마찬가지 )
-
-        // 댓글도 모두 소프트딜리트
-        commentRepository.softDeleteByPostId(postId);
     }
 
     // 게시물 삭제
     public void deletePost(Long memberId, String postId) {
 
+        // 댓글은 요청만 남기고 워커가 배치로 soft delete (댓글 수와 무관하게 바로 응답)
+        // 요청을 먼저 남겨서, 기록에 실패하면 게시물도 지우지 않는다
+        cascadeDeleteService.requestPostDelete(postId);
+
         boolean idUpdated = postRepository.softDelete(postId, memberId);
         if (!idUpdated) throw new PostException(PostErrorCode.POST_UPDATED_FAIL);
+        postHotRankService.remove(postId);
+        postSummaryCacheService.evict(postId);
+        postDetailCacheService.evict(postId);
+        postFirstPageCacheService.evictAll();
+        commentFirstPageCacheService.evict(postId);
 
         //기존 쿼리. 부하테스트 시 속도비교 예정
         /*PostDocument post = postRepository.findByIdAndDeletedAtIsNull(postId)
@@ -141,93 +180,233 @@ public class PostMongoService {
     // 게시물 상세조회
     public PostDetailResDTO getById(String postId, Long memberId) {
 
-        PostDocument post = postRepository.findByIdAndDeletedAtIsNull(postId)
-                .orElseThrow(() -> new PostException(PostErrorCode.POST_NOT_FOUND));
+        // 내가 좋아요하는지 여부. postId만 있으면 되므로 게시물 조회와 동시에 시작 (개수는 posts.likes + 샤드 카운터)
+        CompletableFuture<Boolean> amILikeFuture = enrichmentFetcher.fetch(
+                () -> likeStore.isLiked(memberId, postId));
+        // Redis에 모인 아직 반영 전 조회수
+        CompletableFuture<Long> pendingViewsFuture = enrichmentFetcher.fetch(
+                () -> postViewService.getPendingViews(postId));
 
-        //like 정보 가져오기 (내가 좋아요하는지 여부도)
-        PostLikeStatsDto postLikeState = postLikeRepository
-                .findPostLikeStatsByPostId(postId, memberId)
-                .orElse(new PostLikeStatsDto(postId, 0L, false));
+        // 로컬 -> 레디스 -> DB 순서로 조회. 동시에 미스난 요청은 DB 조회 한번을 공유
+        PostDetailCacheDTO cached = postDetailCacheService.get(postId, () -> singleFlight.execute("postDetail", postId,
+                () -> postRepository.findByIdAndDeletedAtIsNull(postId)
+                        .map(PostDetailCacheDTO::from)
+                        .orElseThrow(() -> new PostException(PostErrorCode.POST_NOT_FOUND))));
 
-        MemberProfileCacheDTO memberProfileCacheDTO = memberProfileCacheService.getProfile(post.getAuthorId());
+        CompletableFuture<MemberProfileCacheDTO> profileFuture = enrichmentFetcher.fetch(
+                () -> memberProfileCacheService.getProfile(cached.authorId()));
 
-        // view 증가(로컬 map)
-        postViewService.incrementViewCount(postId);
+        PostDetailCacheDTO post = cached.plusViews(enrichmentFetcher.join(pendingViewsFuture, 0L, "pendingViews"))
+                .plusLikes(unfoldedLikes(postId));
 
-        boolean isMine = memberId.equals(post.getAuthorId());
+        boolean amILike = enrichmentFetcher.join(amILikeFuture, false, "amILike");
+        PostLikeStatsDto postLikeState = new PostLikeStatsDto(postId, post.likes(), amILike);
+        MemberProfileCacheDTO memberProfileCacheDTO = enrichmentFetcher.join(profileFuture, null, "authorProfile");
 
-        return PostConverter.toPostDetail(cloudFrontUtil.getDomain(), post, postLikeState, post.getAuthorId(), memberProfileCacheDTO, isMine);
-    }
-
-    // 게시물 좋아요
-    public void likePost(Long memberId, String postId) {
-        boolean isAlreadyLike = postLikeRepository.existsByMemberIdAndPostId(memberId, postId);
-        if(isAlreadyLike) {
-            return;
+        // view 증가(로컬 -> Redis -> Mongo). 순 조회자 모드면 반복 조회 제외
+        if (postUniqueViewService.isCountable(postId, memberId)) {
+            postViewService.incrementViewCount(postId);
         }
-        PostLike postLike = PostLike.of(memberId, postId);
-        postLikeRepository.save(postLike);
+
+        boolean isMine = memberId.equals(post.authorId());
+
+        return PostConverter.toPostDetail(cloudFrontUtil.getDomain(), post, postLikeState, post.authorId(), memberProfileCacheDTO, isMine);
     }
 
-    // 게시물 좋아요
-    public void unLikePost(Long memberId, String postId) {
-        PostLike postLike = postLikeRepository.findByMemberIdAndPostId(memberId, postId);
-        if(postLike == null) {
-            return;
+    // 게시물 여러 건 조회. 게시물($in), 좋아요 여부, 작성자 프로필(MGET)을 각각 한번씩만 조회
+    // 목록성 조회이므로 조회수는 올리지 않는다
+    public List<PostDetailResDTO> getByIds(List<String> postIds, Long memberId) {
+        List<String> distinctIds = postIds.stream().distinct().toList();
+        if (distinctIds.isEmpty()) return List.of();
+        if (distinctIds.size() > BATCH_MAX_SIZE) throw new PostException(PostErrorCode.TOO_MANY_POST_IDS);
+
+        CompletableFuture<Set<String>> likedPostIdsFuture = enrichmentFetcher.fetch(
+                () -> likeStore.findLikedPostIds(memberId, distinctIds));
+
+        Map<String, PostDetailCacheDTO> byId = new HashMap<>();
+        postRepository.findByIdInAndDeletedAtIsNull(distinctIds)
+                .forEach(post -> byId.put(post.getId(), PostDetailCacheDTO.from(post)));
+
+        List<Long> authorIds = byId.values().stream()
+                .map(PostDetailCacheDTO::authorId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        CompletableFuture<Map<Long, MemberProfileCacheDTO>> profilesFuture =
+                enrichmentFetcher.fetch(() -> memberProfileCacheService.getProfiles(authorIds));
+
+        // 좋아요 수는 상세와 같이 posts.likes + 인기 게시물 샤드 카운터
+        Map<String, Long> unfoldedLikes = unfoldedLikes(byId.keySet());
+
+        Set<String> likedPostIds = enrichmentFetcher.join(likedPostIdsFuture, Collections.emptySet(), "likedPostIds");
+        Map<Long, MemberProfileCacheDTO> authorProfiles =
+                enrichmentFetcher.join(profilesFuture, Collections.emptyMap(), "authorProfiles");
+
+        String cdnBaseUrl = cloudFrontUtil.getDomain();
+        List<PostDetailResDTO> result = new ArrayList<>();
+        for (String postId : distinctIds) {
+            PostDetailCacheDTO found = byId.get(postId);
+            if (found == null) continue;
+            PostDetailCacheDTO post = found.plusLikes(unfoldedLikes.getOrDefault(postId, 0L));
+
+            PostLikeStatsDto like = new PostLikeStatsDto(postId, post.likes(), likedPostIds.contains(postId));
+            MemberProfileCacheDTO authorProfile = post.authorId() != null ? authorProfiles.get(post.authorId()) : null;
+            boolean isMine = memberId.equals(post.authorId());
+            result.add(PostConverter.toPostDetail(cdnBaseUrl, post, like, post.authorId(), authorProfile, isMine));
         }
-        postLikeRepository.delete(postLike);
+        return result;
     }
 
+    // 게시물 좋아요 (저장소는 app.like-store.type, 기본은 Redis 버퍼 -> MySql 일괄 반영)
+    public void likePost(Long memberId, String postId) {
+        likeStore.like(memberId, postId);
+    }
 
+    // 게시물 좋아요 취소
+    public void unLikePost(Long memberId, String postId) {
+        likeStore.unlike(memberId, postId);
+    }
 
     // =====================커서로 조회하는 메서드=====================
 
-    // 첫 페이지 조회
+    // 첫 페이지 조회. 회원과 무관한 부분은 전략별로 캐싱
     public PostSliceResDTO findFirst(Long memberId, Cursor.CursorStrategy strategy) {
-        List<PostSimple> posts = switch (strategy) {
+        PostPageCacheDTO page = postFirstPageCacheService.getOrLoad(strategy, () -> loadFirstPage(strategy));
+        return assemblePageSlice(memberId, page);
+    }
+
+    private PostPageCacheDTO loadFirstPage(Cursor.CursorStrategy strategy) {
+        if (strategy == Cursor.CursorStrategy.HOT) {
+            return toHotPage(postHotRankService.findFirst(PAGE_SIZE + 1));
+        }
+        if (strategy == Cursor.CursorStrategy.POPULAR) {
+            Optional<PostPageCacheDTO> snapshotPage = toPopularSnapshotPage(null, 0);
+            if (snapshotPage.isPresent()) return snapshotPage.get();
+        }
+
+        List<PostCursorKey> keys = switch (strategy) {
             case RECENT -> postRepository.findFirstByCreatedAt(PAGE_SIZE + 1);
+            // 스냅샷이 아직 없는 경우
             case POPULAR -> postRepository.findFirstByView(PAGE_SIZE + 1);
+            case HOT -> throw new IllegalStateException("HOT은 랭킹에서 조회");
         };
 
-        return buildPageSlice(memberId, posts, strategy);
+        return toPage(keys, strategy);
     }
 
     // 다음 페이지 조회
     public PostSliceResDTO findNext(Long memberId, String cursorToken) {
         Cursor cursor = codec.decode(cursorToken);
 
-        List<PostSimple> posts = switch (cursor.strategy()) {
+        if (cursor.pos() instanceof Cursor.ScorePos pos) {
+            return assemblePageSlice(memberId, toHotPage(postHotRankService.findNext(pos.score(), pos.id(), PAGE_SIZE + 1)));
+        }
+        if (cursor.pos() instanceof Cursor.SnapshotPos pos) {
+            Optional<PostPageCacheDTO> snapshotPage = toPopularSnapshotPage(pos.epoch(), pos.offset());
+            if (snapshotPage.isPresent()) return assemblePageSlice(memberId, snapshotPage.get());
+            // 스냅샷이 모두 사라졌다면 마지막으로 본 게시물 기준 views 커서로 이어서 조회
+            cursor = viewCursorOf(pos.id()).orElse(null);
+            if (cursor == null) return findFirst(memberId, Cursor.CursorStrategy.POPULAR);
+        }
+
+        Cursor.Pos cursorPos = cursor.pos();
+        List<PostCursorKey> keys = switch (cursor.strategy()) {
             case RECENT -> {
-                Cursor.CreatedAtPos pos = (Cursor.CreatedAtPos) cursor.pos();
+                Cursor.CreatedAtPos pos = (Cursor.CreatedAtPos) cursorPos;
                 yield postRepository.findNextByCreatedAt(pos.createdAt(), pos.id(), PAGE_SIZE + 1);
             }
+            // 스냅샷 범위를 벗어난 깊은 페이지
             case POPULAR -> {
-                Cursor.ViewPos pos = (Cursor.ViewPos) cursor.pos();
+                Cursor.ViewPos pos = (Cursor.ViewPos) cursorPos;
                 yield postRepository.findNextByView(pos.view(), pos.createdAt(), pos.id(), PAGE_SIZE + 1);
             }
+            case HOT -> throw new IllegalStateException("HOT은 랭킹에서 조회");
         };
 
-        return buildPageSlice(memberId, posts, cursor.strategy());
+        return assemblePageSlice(memberId, toPage(keys, cursor.strategy()));
     }
 
-    // 멤버프로필, like 개수 등 부가정보 가져와서 PageSlice 생성하기
-    private PostSliceResDTO buildPageSlice(Long memberId, List<PostSimple> posts, Cursor.CursorStrategy strategy) {
-        boolean hasNext = posts.size() > PAGE_SIZE;
+    // 하나 더 가져온 정렬 키를 자르고 다음 커서 생성. 아이템은 요약 캐시에서 조립
+    private PostPageCacheDTO toPage(List<PostCursorKey> keys, Cursor.CursorStrategy strategy) {
+        boolean hasNext = keys.size() > PAGE_SIZE;
 
         // 마지막 여부 확인위해, 하나 더 가져왔으니 자르기.
-        List<PostSimple> content = hasNext ? posts.subList(0, PAGE_SIZE) : posts;
+        List<PostCursorKey> pageKeys = hasNext ? keys.subList(0, PAGE_SIZE) : keys;
 
-        // 다음 커서 설정
+        // 다음 커서 설정 (캐시된 값이 아닌 인덱스의 정렬 키 기준)
         String nextCursor = null;
         if (hasNext) {
-            PostSimple last = content.get(content.size() - 1);
+            PostCursorKey last = pageKeys.get(pageKeys.size() - 1);
             Cursor.Pos pos = switch (strategy) {
                 case RECENT -> new Cursor.CreatedAtPos(last.postId(), last.createdAt());
                 case POPULAR -> new Cursor.ViewPos(last.postId(), last.createdAt(), last.views());
+                case HOT -> throw new IllegalStateException("HOT 커서는 랭킹 점수로 생성");
             };
             nextCursor = codec.encode(new Cursor(strategy, pos));
         }
 
+        List<PostSummaryCacheDTO> content = postSummaryCacheService.getSummaries(
+                pageKeys.stream().map(PostCursorKey::postId).toList());
+        return new PostPageCacheDTO(content, nextCursor, hasNext);
+    }
+
+    // HOT: 랭킹(ZSET)에서 id, 점수를 가져온 뒤 게시물은 요약 캐시에서 조회
+    private PostPageCacheDTO toHotPage(List<PostHotRankService.RankedId> rankedIds) {
+        boolean hasNext = rankedIds.size() > PAGE_SIZE;
+        List<PostHotRankService.RankedId> pageIds = hasNext ? rankedIds.subList(0, PAGE_SIZE) : rankedIds;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostHotRankService.RankedId last = pageIds.get(pageIds.size() - 1);
+            Cursor.Pos pos = new Cursor.ScorePos(last.postId(), last.score());
+            nextCursor = codec.encode(new Cursor(Cursor.CursorStrategy.HOT, pos));
+        }
+
+        List<PostSummaryCacheDTO> content = postSummaryCacheService.getSummaries(
+                pageIds.stream().map(PostHotRankService.RankedId::postId).toList());
+        return new PostPageCacheDTO(content, nextCursor, hasNext);
+    }
+
+    // POPULAR: 고정된 랭킹 스냅샷의 offset부터 조회. 스냅샷이 없으면 empty
+    private Optional<PostPageCacheDTO> toPopularSnapshotPage(Long epoch, int offset) {
+        Optional<PostPopularSnapshotService.SnapshotSlice> found =
+                postPopularSnapshotService.read(epoch, offset, PAGE_SIZE + 1);
+        if (found.isEmpty()) return Optional.empty();
+
+        PostPopularSnapshotService.SnapshotSlice slice = found.get();
+        boolean hasMoreInSnapshot = slice.postIds().size() > PAGE_SIZE;
+        List<String> pageIds = hasMoreInSnapshot ? slice.postIds().subList(0, PAGE_SIZE) : slice.postIds();
+        List<PostSummaryCacheDTO> content = postSummaryCacheService.getSummaries(pageIds);
+
+        String nextCursor = null;
+        boolean hasNext = false;
+        if (hasMoreInSnapshot) {
+            Cursor.Pos pos = new Cursor.SnapshotPos(pageIds.get(pageIds.size() - 1), slice.epoch(), offset + PAGE_SIZE);
+            nextCursor = codec.encode(new Cursor(Cursor.CursorStrategy.POPULAR, pos));
+            hasNext = true;
+        } else if (slice.truncated() && !content.isEmpty()) {
+            // 스냅샷 끝. 이후는 views 커서로 이어서 조회
+            Optional<Cursor> viewCursor = viewCursorOf(content.get(content.size() - 1).postId());
+            if (viewCursor.isPresent()) {
+                nextCursor = codec.encode(viewCursor.get());
+                hasNext = true;
+            }
+        }
+
+        return Optional.of(new PostPageCacheDTO(content, nextCursor, hasNext));
+    }
+
+    // 게시물의 현재 views 기준 커서 (캐시된 조회수는 지연될 수 있으므로 DB에서 조회)
+    private Optional<Cursor> viewCursorOf(String postId) {
+        return postRepository.findSimpleByIds(List.of(postId)).stream()
+                .findFirst()
+                .map(last -> new Cursor(Cursor.CursorStrategy.POPULAR,
+                        new Cursor.ViewPos(last.postId(), last.createdAt(), last.views())));
+    }
+
+    // 좋아요 여부를 가져와서 PageSlice 생성하기
+    private PostSliceResDTO assemblePageSlice(Long memberId, PostPageCacheDTO page) {
+        List<PostSummaryCacheDTO> content = page.posts();
         if (content.isEmpty()) {
             return PostSliceResDTO.builder()
                     .cdnBaseUrl(cloudFrontUtil.getDomain())
@@ -235,39 +414,30 @@ public class PostMongoService {
                     .build();
         }
 
+        List<String> postIds = content.stream().map(PostSummaryCacheDTO::postId).toList();
 
-        List<String> postIds = content.stream().map(PostSimple::postId).toList();
-        List<Long> authorIds = content.stream().map(PostSimple::authorId).distinct().toList();
-
-        // Redis-> MySql 순서로 작성자 프로필 조회
-        Map<Long, MemberProfileCacheDTO> authorProfiles = memberProfileCacheService.getProfiles(authorIds);
-
-        // MySql에서 좋아요 개수, 내가 좋아요했는지 조회
-        List<PostLikeStatsDto> likeStats = postLikeRepository.findPostLikeStats(postIds, memberId);
-        Map<String, PostLikeStatsDto> likeMap = likeStats.stream()
-                .collect(Collectors.toMap(PostLikeStatsDto::postId, dto -> dto));
-
+        // 작성자 프로필, 좋아요 개수는 요약에 포함. 내가 좋아요한 게시물만 조회 (버퍼 -> MySql)
+        CompletableFuture<Set<String>> likedPostIdsFuture =
+                enrichmentFetcher.fetch(() -> likeStore.findLikedPostIds(memberId, postIds));
 
+        // 지연 시 좋아요 여부는 false로 응답
+        Set<String> likedPostIds =
+                enrichmentFetcher.join(likedPostIdsFuture, Collections.emptySet(), "likedPostIds");
 
         //PostSliceItem로 병합
         List<PostSliceItem> items = content.stream()
                 .map(post -> {
                     // 좋아요 매칭
-                    PostLikeStatsDto like = likeMap.getOrDefault(
+                    PostLikeStatsDto like = new PostLikeStatsDto(
                             post.postId(),
-                            new PostLikeStatsDto(post.postId(), 0L, false)
+                            post.likes(),
+                            likedPostIds.contains(post.postId())
                     );
-                    if (post.authorId()==null){
-                        return PostConverter.toPostSliceItem(post, like, null);
-                    }
-                    // 프로필 매칭
-                    MemberProfileCacheDTO authorProfile = authorProfiles.get(post.authorId());
-                    // 병합
-                    return PostConverter.toPostSliceItem(post, like, authorProfile);
+                    return PostConverter.toPostSliceItem(post, like, post.author());
                 })
                 .toList();
 
-        PageSlice<PostSliceItem> pageSlice = new PageSlice<>(items, nextCursor, hasNext);
+        PageSlice<PostSliceItem> pageSlice = new PageSlice<>(items, page.nextCursor(), page.hasNext());
 
         return PostSliceResDTO.builder()
                 .cdnBaseUrl(cloudFrontUtil.getDomain())
@@ -275,4 +445,15 @@ public class PostMongoService {
                 .build();
     }
 
+    // 인기 게시물 샤드 카운터에 아직 접히지 않은 좋아요 수 (MySql 좋아요 저장소가 아니면 0)
+    private long unfoldedLikes(String postId) {
+        PostLikeHotKeyService hotKeyService = postLikeHotKeyService.getIfAvailable();
+        return hotKeyService == null ? 0L : hotKeyService.unfoldedLikes(postId);
+    }
+
+    private Map<String, Long> unfoldedLikes(Collection<String> postIds) {
+        PostLikeHotKeyService hotKeyService = postLikeHotKeyService.getIfAvailable();
+        return hotKeyService == null ? Map.of() : hotKeyService.unfoldedLikes(postIds);
+    }
+
 }
@@ -0,0 +1,92 @@
+package com.example.kaboocampostproject.domain.post.service;
+
+import com.example.kaboocampostproject.domain.post.repository.PostMongoRepository;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/// 조회수순(POPULAR) 피드 스냅샷
+/// views는 10초마다 바뀌므로 views 기준 커서로 스크롤하면 중복/누락이 생긴다.
+/// 주기적으로 상위 SNAPSHOT_SIZE 개의 id를 고정해두고, 커서에는 (epoch, offset)만 담는다.
+/// - 저장: POST_POPULAR_SNAPSHOT:{epoch} = ObjectId hex(24자) 연결 문자열 -> 페이지는 GETRANGE 한번
+/// - POST_POPULAR_SNAPSHOT:CURRENT = 최신 epoch
+/// - 여러 WAS 중 하나만 재생성하도록 LOCK 키로 선점
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostPopularSnapshotService {
+
+    private static final int ID_LENGTH = 24;
+    private static final int SNAPSHOT_SIZE = 1_000;
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofSeconds(50);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostMongoRepository postRepository;
+
+    /**
+     * @param epoch     실제 읽은 스냅샷 (요청 epoch가 만료됐다면 최신 epoch)
+     * @param postIds   offset부터 최대 count개
+     * @param truncated 스냅샷 끝에 도달했지만 스냅샷 밖에 게시물이 더 있을 수 있음
+     */
+    public record SnapshotSlice(long epoch, List<String> postIds, boolean truncated) {}
+
+    @Scheduled(fixedRate = 60_000)
+    public void rebuild() {
+        RedisMetadata meta = RedisMetadata.POST_POPULAR_SNAPSHOT;
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(meta.keyOf("LOCK"), "1", REBUILD_LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) return;
+
+        try {
+            List<String> postIds = postRepository.findTopIdsByView(SNAPSHOT_SIZE);
+            long epoch = System.currentTimeMillis();
+
+            redisTemplate.opsForValue().set(meta.keyOf(epoch), String.join("", postIds), meta.getTtl());
+            redisTemplate.opsForValue().set(meta.keyOf("CURRENT"), String.valueOf(epoch), meta.getTtl());
+            log.debug("인기순 스냅샷 생성. epoch: {}, size: {}", epoch, postIds.size());
+        } catch (Exception e) {
+            log.error("인기순 스냅샷 생성 실패", e);
+        }
+    }
+
+    // 스냅샷이 아예 없으면(레디스 초기화 직후 등) empty
+    public Optional<SnapshotSlice> read(Long epoch, int offset, int count) {
+        RedisMetadata meta = RedisMetadata.POST_POPULAR_SNAPSHOT;
+
+        if (epoch != null) {
+            Optional<SnapshotSlice> slice = readRange(epoch, offset, count);
+            if (slice.isPresent()) return slice;
+        }
+
+        // 최초 요청이거나 요청한 스냅샷이 만료됨 -> 최신 스냅샷의 같은 위치부터
+        String current = redisTemplate.opsForValue().get(meta.keyOf("CURRENT"));
+        if (current == null) return Optional.empty();
+        return readRange(Long.parseLong(current), offset, count);
+    }
+
+    private Optional<SnapshotSlice> readRange(long epoch, int offset, int count) {
+        String key = RedisMetadata.POST_POPULAR_SNAPSHOT.keyOf(epoch);
+        long start = (long) offset * ID_LENGTH;
+        long end = (long) (offset + count) * ID_LENGTH - 1;
+
+        String range = redisTemplate.opsForValue().get(key, start, end);
+        if (range == null) return Optional.empty();
+        // 키가 없을 때도 GETRANGE는 빈 문자열을 반환하므로 첫 페이지는 존재 여부를 따로 확인
+        if (range.isEmpty() && !Boolean.TRUE.equals(redisTemplate.hasKey(key))) return Optional.empty();
+
+        List<String> postIds = new ArrayList<>(range.length() / ID_LENGTH);
+        for (int i = 0; i + ID_LENGTH <= range.length(); i += ID_LENGTH) {
+            postIds.add(range.substring(i, i + ID_LENGTH));
+        }
+        boolean truncated = postIds.size() < count && offset + postIds.size() >= SNAPSHOT_SIZE;
+        return Optional.of(new SnapshotSlice(epoch, postIds, truncated));
+    }
+}
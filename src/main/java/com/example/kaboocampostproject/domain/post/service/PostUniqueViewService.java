@@ -0,0 +1,129 @@
+package com.example.kaboocampostproject.domain.post.service;
+
+import com.example.kaboocampostproject.domain.post.dto.res.PostUniqueViewerPoint;
+import com.example.kaboocampostproject.global.config.ViewUniqueProperties;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// 순 조회자 기준 조회수 (app.view-unique.enabled=true 일 때만 중복 억제)
+/// - 같은 (게시물, 회원)은 window 동안 한번만 PostViewService로 넘긴다 (SET NX + TTL)
+/// - 게시물별 일간 순 조회자 수는 HyperLogLog로 추정 (키당 최대 12KB, 오차 약 0.81%). 작성자 통계(PostViewStatService)에 최근 날짜만 포함
+/// - 중복 확인과 PFADD는 파이프라인 한번으로 처리. Redis 장애 시에는 그대로 집계(fail-open)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostUniqueViewService {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final byte[] SEEN = RedisSerializer.string().serialize("1");
+
+    private final StringRedisTemplate redisTemplate;
+    private final ViewUniqueProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private Counter suppressedCounter;
+
+    @PostConstruct
+    public void registerMetrics() {
+        suppressedCounter = Counter.builder("post.views.suppressed")
+                .description("중복 조회로 집계하지 않은 조회수")
+                .register(meterRegistry);
+    }
+
+    private static String viewerKey(String postId, Long memberId) {
+        return RedisMetadata.POST_VIEWER.keyOf(postId, memberId);
+    }
+
+    private static String uniqueKey(String postId, LocalDate day) {
+        return RedisMetadata.POST_UNIQUE_VIEWERS.keyOf(day.format(DAY), postId);
+    }
+
+    // 조회수에 반영할 조회인지. 비활성화 상태면 항상 true
+    public boolean isCountable(String postId, Long memberId) {
+        if (!properties.isEnabled()) return true;
+
+        byte[] viewerKey = RedisSerializer.string().serialize(viewerKey(postId, memberId));
+        byte[] uniqueKey = RedisSerializer.string().serialize(uniqueKey(postId, LocalDate.now(ZONE)));
+        byte[] member = RedisSerializer.string().serialize(memberId.toString());
+        long windowSeconds = TimeUnit.MINUTES.toSeconds(properties.getWindowMinutes());
+        long uniqueTtlSeconds = RedisMetadata.POST_UNIQUE_VIEWERS.getTtl().toSeconds();
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().set(viewerKey, SEEN,
+                        Expiration.seconds(windowSeconds), RedisStringCommands.SetOption.ifAbsent());
+                connection.hyperLogLogCommands().pfAdd(uniqueKey, member);
+                connection.keyCommands().expire(uniqueKey, uniqueTtlSeconds);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("중복 조회 확인 실패. 조회수에 그대로 반영. postId: {}", postId, e);
+            return true;
+        }
+
+        if (Boolean.TRUE.equals(results.get(0))) return true;
+        suppressedCounter.increment();
+        return false;
+    }
+
+    // 게시물별 [from, to] 일간 순 조회자 추정치. HyperLogLog가 남아 있는 최근 날짜만, PFCOUNT 파이프라인 한번
+    // 통계는 부가 정보라 Redis 장애 시 빈 결과
+    public Map<String, List<PostUniqueViewerPoint>> getUniqueViewers(List<String> postIds, LocalDate from, LocalDate to) {
+        Map<String, List<PostUniqueViewerPoint>> result = new HashMap<>();
+        if (!properties.isEnabled() || postIds.isEmpty()) return result;
+
+        LocalDate today = LocalDate.now(ZONE);
+        LocalDate oldest = today.minusDays(RedisMetadata.POST_UNIQUE_VIEWERS.getTtl().toDays() - 1);
+        LocalDate start = from.isBefore(oldest) ? oldest : from;
+        LocalDate end = to.isAfter(today) ? today : to;
+        if (start.isAfter(end)) return result;
+        List<LocalDate> days = start.datesUntil(end.plusDays(1)).toList();
+
+        List<Object> counts;
+        try {
+            counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String postId : postIds) {
+                    for (LocalDate day : days) {
+                        connection.hyperLogLogCommands().pfCount(RedisSerializer.string().serialize(uniqueKey(postId, day)));
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("순 조회자 수 조회 실패. 게시물 {}건", postIds.size(), e);
+            return result;
+        }
+
+        int i = 0;
+        for (String postId : postIds) {
+            List<PostUniqueViewerPoint> points = new ArrayList<>();
+            for (LocalDate day : days) {
+                long count = ((Number) counts.get(i++)).longValue();
+                if (count > 0) points.add(new PostUniqueViewerPoint(day, count));
+            }
+            result.put(postId, points);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.kaboocampostproject.domain.post.service;
+
+import com.example.kaboocampostproject.global.config.ViewLogProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/// 조회수 로컬 append 로그 (app.view-log.enabled=true 일 때만)
+/// SIGKILL/OOM으로 @PreDestroy 없이 죽어도 Redis로 보내지 못한 조회수를 재시작 시 복구한다.
+/// - 레코드 16바이트 고정: [ObjectId 12][예약 3][커밋 1]. 커밋 바이트를 마지막에 써서 반쯤 쓴 레코드는 무시
+/// - 메모리 맵 세그먼트에 절대 위치로 기록 -> 요청 경로에서 객체 생성/락 없음 (세그먼트가 가득 찰 때만 교체)
+/// - 페이지 캐시에 남으므로 프로세스가 죽어도 유지된다 (호스트 장애는 대상 아님)
+/// - Redis 전송이 성공하면 그 시점까지의 세그먼트 삭제
+/// - 세그먼트는 만들 때 0으로 채워 디스크 블록을 미리 잡는다. 희소 파일을 매핑하면 디스크가 가득 찼을 때
+///   기록 중 페이지 폴트가 SIGBUS(InternalError)로 요청 스레드에서 터지므로, 공간 부족은 생성 시점의 IOException으로 받는다
+/// - 디스크 오류(가득 참, 권한 등)는 로그만 남기고 기록을 건너뛴다. 조회수 집계는 Redis 경로로 그대로 진행되고, 다음 seal 때 세그먼트를 다시 연다
+/// - 그래도 기록 중 InternalError가 나면 재시작 전까지 로그를 끈다 (로그는 한번만)
+@Slf4j
+@Component
+public class PostViewLog {
+
+    private static final int RECORD_BYTES = 16;
+    private static final int OBJECT_ID_BYTES = 12;
+    private static final int COMMIT_OFFSET = 15;
+    private static final byte COMMITTED = 1;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int PREALLOCATE_CHUNK_BYTES = 64 * 1024;
+
+    private final ViewLogProperties properties;
+    private final Path dir;
+
+    // null이면 세그먼트를 열지 못한 상태 (기록 건너뜀)
+    private volatile Segment current;
+    // 교체되어 더 이상 기록되지 않는 세그먼트 (Redis 전송 후 삭제 대상)
+    private final List<Segment> sealed = new ArrayList<>();
+    private long nextSequence;
+    // 매핑 기록 중 InternalError가 난 뒤로는 세그먼트를 다시 열지 않는다
+    private volatile boolean broken;
+
+    private static final class Segment {
+        final Path path;
+        final MappedByteBuffer buffer;
+        final AtomicInteger position = new AtomicInteger();
+
+        Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+
+    public PostViewLog(ViewLogProperties properties) {
+        this.properties = properties;
+        this.dir = Path.of(properties.getDir());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // 이전 프로세스가 남긴 세그먼트의 조회수. 읽은 세그먼트는 다음 Redis 전송 성공 시 삭제
+    public synchronized Map<String, Long> replay() {
+        Map<String, Long> counts = new HashMap<>();
+        if (!isEnabled()) return counts;
+
+        List<Path> leftovers = List.of();
+        try {
+            Files.createDirectories(dir);
+            try (Stream<Path> files = Files.list(dir)) {
+                leftovers = files.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("조회수 로그 디렉토리 읽기 실패. 복구 없이 진행. dir: {}", dir, e);
+        }
+        for (Path path : leftovers) {
+            nextSequence = Math.max(nextSequence, sequenceOf(path) + 1);
+            // 세그먼트 단위로 다 읽은 것만 합산. 읽지 못한 세그먼트는 지우지 않고 다음 재시작 때 다시 시도
+            Map<String, Long> segmentCounts = new HashMap<>();
+            try {
+                readSegment(path, segmentCounts);
+            } catch (IOException | UncheckedIOException | InternalError e) {
+                log.warn("조회수 로그 세그먼트 읽기 실패. 건너뜀. path: {}", path, e);
+                continue;
+            }
+            segmentCounts.forEach((postId, count) -> counts.merge(postId, count, Long::sum));
+            sealed.add(new Segment(path, null));
+        }
+        current = tryOpenSegment();
+        return counts;
+    }
+
+    // 요청 경로. 커밋 바이트는 마지막에 기록
+    public void append(String postId) {
+        if (!isEnabled() || postId.length() != OBJECT_ID_BYTES * 2) return;
+
+        while (true) {
+            Segment segment = current;
+            if (segment == null) return;
+            int offset = segment.position.getAndAdd(RECORD_BYTES);
+            if (offset + RECORD_BYTES <= segment.buffer.capacity()) {
+                try {
+                    for (int i = 0; i < OBJECT_ID_BYTES; i++) {
+                        int hi = Character.digit(postId.charAt(i * 2), 16);
+                        int lo = Character.digit(postId.charAt(i * 2 + 1), 16);
+                        if (hi < 0 || lo < 0) return; // ObjectId가 아니면 기록하지 않음 (빈 레코드로 남음)
+                        segment.buffer.put(offset + i, (byte) ((hi << 4) | lo));
+                    }
+                    segment.buffer.put(offset + COMMIT_OFFSET, COMMITTED);
+                } catch (InternalError e) {
+                    disable(segment, e);
+                }
+                return;
+            }
+            rollIfCurrent(segment);
+        }
+    }
+
+    // Redis 전송 직전 호출. 지금까지 기록된 세그먼트를 봉인해서 반환
+    public synchronized List<Path> seal() {
+        if (!isEnabled()) return List.of();
+        Segment segment = current;
+        if (segment == null) {
+            if (!broken) current = tryOpenSegment();
+        } else if (segment.position.get() > 0) {
+            // 기록이 없으면 세그먼트를 새로 만들지 않는다
+            rollIfCurrent(segment);
+        }
+
+        List<Path> paths = sealed.stream().map(s -> s.path).toList();
+        sealed.clear();
+        return paths;
+    }
+
+    // Redis 전송 성공: 봉인한 세그먼트 삭제
+    public void delete(List<Path> paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("조회수 로그 삭제 실패. path: {}", path, e);
+            }
+        }
+    }
+
+    // Redis 전송 실패: 다음 전송 때 다시 삭제 대상
+    public synchronized void restore(List<Path> paths) {
+        List<Segment> restored = new ArrayList<>();
+        paths.forEach(path -> restored.add(new Segment(path, null)));
+        sealed.addAll(0, restored);
+    }
+
+    private synchronized void rollIfCurrent(Segment full) {
+        if (current != full) return;
+        sealed.add(full);
+        current = tryOpenSegment();
+    }
+
+    // 매핑 기록 실패(SIGBUS 등). 기록 중이던 세그먼트는 봉인해서 다음 전송 성공 때 지운다 (재시작 시 중복 복구 방지)
+    private synchronized void disable(Segment failed, InternalError e) {
+        if (current == failed) {
+            sealed.add(failed);
+            current = null;
+        }
+        if (broken) return;
+        broken = true;
+        log.error("조회수 로그 기록 실패. 재시작 전까지 로그 기록 중단. path: {}", failed.path, e);
+    }
+
+    // 실패하면 null -> 다음 seal 때까지 기록 건너뜀
+    private Segment tryOpenSegment() {
+        try {
+            return openSegment();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("조회수 로그 세그먼트 생성 실패. 다음 전송 때까지 로그 기록 건너뜀. dir: {}", dir, e);
+            return null;
+        }
+    }
+
+    private Segment openSegment() throws IOException {
+        Path path = dir.resolve(String.format("%019d%s", nextSequence++, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            preallocate(channel, properties.getSegmentBytes());
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, properties.getSegmentBytes());
+            return new Segment(path, buffer);
+        } catch (IOException e) {
+            // 공간 부족으로 채우다 만 파일은 남기지 않는다
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    // 0으로 채워 블록을 실제로 할당 (공간이 없으면 여기서 IOException)
+    private static void preallocate(FileChannel channel, int bytes) throws IOException {
+        ByteBuffer zeros = ByteBuffer.allocate(Math.min(bytes, PREALLOCATE_CHUNK_BYTES));
+        long position = 0;
+        while (position < bytes) {
+            zeros.clear().limit((int) Math.min(zeros.capacity(), bytes - position));
+            position += channel.write(zeros, position);
+        }
+    }
+
+    private static void readSegment(Path path, Map<String, Long> counts) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            StringBuilder hex = new StringBuilder(OBJECT_ID_BYTES * 2);
+            for (int offset = 0; offset + RECORD_BYTES <= buffer.capacity(); offset += RECORD_BYTES) {
+                // 할당만 되고 기록되지 않은 슬롯은 건너뛴다 (동시 기록 중 종료)
+                if (buffer.get(offset + COMMIT_OFFSET) != COMMITTED) continue;
+                hex.setLength(0);
+                for (int i = 0; i < OBJECT_ID_BYTES; i++) {
+                    int b = buffer.get(offset + i) & 0xFF;
+                    hex.append(Character.forDigit(b >> 4, 16)).append(Character.forDigit(b & 0xF, 16));
+                }
+                counts.merge(hex.toString(), 1L, Long::sum);
+            }
+        }
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -1,69 +1,355 @@
 package com.example.kaboocampostproject.domain.post.service;
 
 import com.example.kaboocampostproject.domain.post.repository.PostMongoRepository;
+import com.example.kaboocampostproject.global.config.ViewFlushProperties;
+import com.example.kaboocampostproject.global.lock.RedisLease;
 import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import com.mongodb.WriteConcern;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.*;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
+/// 조회수 집계 (WAS 로컬 -> Redis -> Mongo)
+/// 1. 로컬: 게시물별 LongAdder(스트라이프 셀)로 요청 스레드에서 바로 증가. 큐/소비 스레드 없음
+///    - drain은 sumThenReset()으로 셀 단위 원자적. 증가가 없던 키는 맵에서 빼고(retire) 다음 drain 때 한번 더 확인
+///    - 키 개수는 MAX_KEYS로 제한. 초과 시 새 게시물의 조회수는 버리고 dropped로 집계
+/// 2. Redis: 각 WAS가 2초마다 POST_VIEW:PENDING 해시에 파이프라인 HINCRBY
+/// 3. Mongo: POST_VIEW:LEASE를 가진 WAS 하나만 PENDING -> FLUSHING으로 RENAME 후 unordered bulkWrite
+///    - RENAME 때 배치 번호(단조 증가)를 FLUSHING에 같이 기록하고, posts.viewBatch가 그 이상인 게시물은 건너뛴다
+///    - 실패한 게시물만 backoff 후 재시도, 끝내 실패한 증가분은 FLUSHING 삭제와 함께 원자적으로 PENDING에 되돌린다
+///    - 청크마다 임대를 연장하고, 놓쳤으면 중단. 남은 FLUSHING은 다음 리더가 같은 배치 번호로 처리 (이미 반영된 게시물은 건너뜀)
+///    - 반영된 증가분은 PostViewStatService가 시간 버킷에도 기록
+/// WAS 수와 무관하게 Mongo 쓰기는 리더 하나의 주기적 bulkWrite로 유지된다.
+/// app.view-log.enabled=true 면 1단계 조회수를 PostViewLog에도 기록해 강제 종료 후 재시작 시 복구한다.
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostViewService {
 
-    private final BlockingQueue<String> viewQueue = new LinkedBlockingQueue<>();
-    private final Map<String, Long> viewMap = new ConcurrentHashMap<>();
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private static final int MAX_KEYS = 100_000;
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+    static final String BATCH_FIELD = "_batch";
+
+    // 이전 리더가 남긴 FLUSHING이 있으면 그 배치 번호 그대로, 없으면 PENDING을 떼어내 새 번호 부여. 반영할 게 없으면 nil
+    // 번호는 Redis 시각(ms)과 직전 번호+1 중 큰 값 -> Redis 데이터가 유실돼도 이전 배치보다 작아지지 않는다
+    private static final DefaultRedisScript<Long> TAKE_BATCH = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 0 then "
+                    + "  if redis.call('exists', KEYS[1]) == 0 then return nil end "
+                    + "  redis.call('rename', KEYS[1], KEYS[2]) "
+                    + "end "
+                    + "local batch = redis.call('hget', KEYS[2], ARGV[1]) "
+                    + "if not batch then "
+                    + "  local t = redis.call('time') "
+                    + "  local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) "
+                    + "  batch = string.format('%d', math.max(now, tonumber(redis.call('get', KEYS[3]) or '0') + 1)) "
+                    + "  redis.call('set', KEYS[3], batch) "
+                    + "  redis.call('hset', KEYS[2], ARGV[1], batch) "
+                    + "end "
+                    + "return tonumber(batch)", Long.class);
+
+    // 끝내 실패한 증가분을 PENDING에 되돌리면서 FLUSHING 삭제. 중간에 죽어도 같은 증가분이 두 곳에 남지 않는다
+    private static final DefaultRedisScript<Long> REQUEUE_AND_CLEAR = new DefaultRedisScript<>(
+            "for i = 1, #ARGV, 2 do redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "return redis.call('del', KEYS[2])", Long.class);
+
+    private final ConcurrentHashMap<String, LongAdder> viewCounters = new ConcurrentHashMap<>();
+    private final List<RetiredCounter> retired = new ArrayList<>();
 
     private final PostMongoRepository postRepository;
+    private final PostHotRankService postHotRankService;
+    private final PostViewStatService postViewStatService;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ViewFlushProperties flushProperties;
+    private final PostViewLog viewLog;
+
+    private Counter droppedCounter;
+    private Counter flushedCounter;
+    private Counter requeuedCounter;
+    private Timer flushTimer;
+    private DistributionSummary batchSizeSummary;
+    private RedisLease lease;
+
+    private record RetiredCounter(String postId, LongAdder adder) {}
+
+    private static String pendingKey() {
+        return RedisMetadata.POST_VIEW.keyOf("PENDING");
+    }
+
+    private static String flushingKey() {
+        return RedisMetadata.POST_VIEW.keyOf("FLUSHING");
+    }
+
+    private static String batchKey() {
+        return RedisMetadata.POST_VIEW.keyOf("BATCH");
+    }
 
     @PostConstruct
-    public void initQueueConsumer() {
-        executor.submit(() -> {
-            try {
-                while (true) {
-                    String postId = viewQueue.take(); // 쟉업 빼서 viewMap에 삽입
-                    viewMap.merge(postId, 1L, Long::sum);
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        });
+    public void init() {
+        lease = new RedisLease(redisTemplate, RedisMetadata.POST_VIEW.keyOf("LEASE"), LEASE_TTL);
+
+        // 이전 프로세스가 Redis로 보내지 못한 조회수 복구
+        Map<String, Long> replayed = viewLog.replay();
+        replayed.forEach((postId, count) ->
+                viewCounters.computeIfAbsent(postId, k -> new LongAdder()).add(count));
+        if (!replayed.isEmpty()) log.info("조회수 로그 복구. 게시물 {}건", replayed.size());
+
+        Gauge.builder("post.views.pending.keys", viewCounters, Map::size)
+                .description("Redis 전송 대기 중인 게시물 수")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("post.views.dropped")
+                .description("키 개수 제한으로 버린 조회수")
+                .register(meterRegistry);
+        flushedCounter = Counter.builder("post.views.flushed")
+                .description("Mongo에 반영한 조회수")
+                .register(meterRegistry);
+        requeuedCounter = Counter.builder("post.views.requeued")
+                .description("재시도 후에도 실패해 다음 주기로 넘긴 게시물 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("post.views.flush.duration")
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("post.views.flush.batch.size")
+                .description("bulkWrite 한번에 보낸 게시물 수")
+                .register(meterRegistry);
     }
 
     // 요청 시 호출
     public void incrementViewCount(String postId) {
-        viewQueue.offer(postId); // 큐에 작업 추가
+        LongAdder adder = viewCounters.get(postId);
+        if (adder == null) {
+            if (viewCounters.size() >= MAX_KEYS) {
+                droppedCounter.increment();
+                return;
+            }
+            adder = viewCounters.computeIfAbsent(postId, k -> new LongAdder());
+        }
+        adder.increment();
+        viewLog.append(postId);
+    }
+
+    // 아직 Mongo에 반영되지 않은 클러스터 전체 조회수 (상세 조회 시 더해서 응답)
+    public long getPendingViews(String postId) {
+        byte[] field = RedisSerializer.string().serialize(postId);
+        byte[] pending = RedisSerializer.string().serialize(pendingKey());
+        byte[] flushing = RedisSerializer.string().serialize(flushingKey());
+        List<Object> counts;
+        try {
+            counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hashCommands().hGet(pending, field);
+                connection.hashCommands().hGet(flushing, field);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("미반영 조회수 조회 실패. postId: {}", postId, e);
+            return 0L;
+        }
+
+        long sum = 0L;
+        for (Object count : counts) {
+            if (count != null) sum += Long.parseLong(count.toString());
+        }
+        return sum;
     }
 
+    // =====================로컬 -> Redis=====================
+
+    @Scheduled(fixedRate = 2_000)
+    public synchronized void pushToRedis() {
+        // 지금까지의 로그 세그먼트를 봉인한 뒤 drain -> 전송 성공 시 삭제
+        List<Path> logSegments = viewLog.seal();
+        Map<String, Long> snapshot = drain();
+        if (snapshot.isEmpty()) {
+            viewLog.delete(logSegments);
+            return;
+        }
+
+        try {
+            hIncrBy(pendingKey(), snapshot);
+            viewLog.delete(logSegments);
+        } catch (Exception e) {
+            viewLog.restore(logSegments);
+            // 다음 주기에 다시 전송
+            snapshot.forEach((postId, count) ->
+                    viewCounters.computeIfAbsent(postId, k -> new LongAdder()).add(count));
+            log.warn("조회수 Redis 전송 실패. 게시물 {}건 재시도 예정", snapshot.size(), e);
+        }
+    }
+
+    private void hIncrBy(String key, Map<String, Long> deltas) {
+        byte[] rawKey = RedisSerializer.string().serialize(key);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((postId, count) ->
+                    connection.hashCommands().hIncrBy(rawKey, RedisSerializer.string().serialize(postId), count));
+            return null;
+        });
+    }
+
+    // 게시물별 증가분을 꺼내고 0으로 초기화
+    private Map<String, Long> drain() {
+        Map<String, Long> snapshot = new HashMap<>();
+
+        // 지난 주기에 뺀 키에 늦게 들어온 증가분
+        for (RetiredCounter entry : retired) {
+            long late = entry.adder().sumThenReset();
+            if (late > 0) snapshot.merge(entry.postId(), late, Long::sum);
+        }
+        retired.clear();
+
+        for (Map.Entry<String, LongAdder> entry : viewCounters.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                snapshot.merge(entry.getKey(), count, Long::sum);
+            } else if (viewCounters.remove(entry.getKey(), entry.getValue())) {
+                // 조회가 끊긴 게시물은 맵에서 제거해 키 개수 유지
+                retired.add(new RetiredCounter(entry.getKey(), entry.getValue()));
+            }
+        }
+        return snapshot;
+    }
+
+    // =====================Redis -> Mongo (리더만)=====================
+
     @Scheduled(fixedRate = 10_000)
     public void flushToMongo() {
-        if (viewMap.isEmpty()) return;
+        try {
+            if (!lease.acquire()) return;
+            Long batch = redisTemplate.execute(TAKE_BATCH, List.of(pendingKey(), flushingKey(), batchKey()), BATCH_FIELD);
+            if (batch == null) return;
 
-        Map<String, Long> snapshot = Map.copyOf(viewMap);
-        viewMap.clear();
+            Map<String, Long> snapshot = new HashMap<>();
+            redisTemplate.<String, String>opsForHash().entries(flushingKey()).forEach((postId, count) -> {
+                if (!BATCH_FIELD.equals(postId)) snapshot.put(postId, Long.parseLong(count));
+            });
+            flushTimer.record(() -> flush(batch, snapshot));
+        } catch (Exception e) {
+            log.error("조회수 flush 실패. 남은 FLUSHING은 다음 주기에 같은 배치 번호로 처리", e);
+        }
+    }
+
+    private void flush(long batch, Map<String, Long> snapshot) {
+        WriteConcern writeConcern = writeConcern();
+        Set<String> applied = new HashSet<>();
+        Map<String, Long> requeue = new HashMap<>();
+        boolean leaseLost = false;
+
+        for (Map<String, Long> chunk : chunks(snapshot, flushProperties.getChunkSize())) {
+            // 멈춰 있던 사이 다른 WAS가 리더가 됐으면 더 쓰지 않는다
+            if (!lease.acquire()) {
+                leaseLost = true;
+                break;
+            }
+            Map<String, Long> failed = flushChunk(chunk, writeConcern, batch);
+            chunk.keySet().stream().filter(postId -> !failed.containsKey(postId)).forEach(applied::add);
+            requeue.putAll(failed);
+        }
+
+        if (leaseLost || !lease.acquire()) {
+            // FLUSHING을 건드리지 않는다. 새 리더가 같은 배치 번호로 이어서 반영
+            log.warn("조회수 flush 중 리더 임대 만료. batch: {}, 반영 {}건에서 중단", batch, applied.size());
+        } else {
+            List<String> args = new ArrayList<>();
+            requeue.forEach((postId, count) -> {
+                args.add(postId);
+                args.add(String.valueOf(count));
+            });
+            redisTemplate.execute(REQUEUE_AND_CLEAR, List.of(pendingKey(), flushingKey()), args.toArray());
+            if (!requeue.isEmpty()) {
+                requeuedCounter.increment(requeue.size());
+                log.error("조회수 flush 실패. 게시물 {}건 다음 주기로 이월", requeue.size());
+            }
+        }
 
-        snapshot.forEach((postId, count) -> {
+        // 이어받은 배치에서 이미 반영돼 건너뛴 게시물도 여기서는 반영으로 센다 (시간 버킷 통계는 그만큼 근사치)
+        Map<String, Long> appliedDeltas = new HashMap<>();
+        applied.forEach(postId -> appliedDeltas.put(postId, snapshot.get(postId)));
+        flushedCounter.increment(appliedDeltas.values().stream().mapToLong(Long::longValue).sum());
+        postHotRankService.markDirty(applied);
+        postViewStatService.recordHourly(appliedDeltas);
+    }
+
+    // 실패한 게시물만 backoff 후 재시도. 끝내 실패한 증가분 반환
+    private Map<String, Long> flushChunk(Map<String, Long> chunk, WriteConcern writeConcern, long batch) {
+        Map<String, Long> pending = chunk;
+        for (int attempt = 0; attempt <= flushProperties.getMaxRetries(); attempt++) {
+            if (attempt > 0 && !sleepBackoff(attempt)) break;
+
+            batchSizeSummary.record(pending.size());
             try {
-                postRepository.incrementViews(postId, count);
-                log.debug("postId :{} flush {}증가", postId, count);
+                Set<String> failedIds = postRepository.incrementViews(pending, writeConcern, batch);
+                if (failedIds.isEmpty()) return Map.of();
+
+                Map<String, Long> retry = new HashMap<>();
+                for (String postId : failedIds) retry.put(postId, pending.get(postId));
+                pending = retry;
             } catch (Exception e) {
-                log.error("\"postId :{} flush 실패. {}증가 실패", postId, count, e);
+                log.warn("조회수 bulkWrite 실패. attempt: {}, size: {}", attempt + 1, pending.size(), e);
             }
-        });
+        }
+        return pending;
+    }
+
+    // 설정값이 잘못되었으면 W1
+    private WriteConcern writeConcern() {
+        WriteConcern writeConcern = WriteConcern.valueOf(flushProperties.getWriteConcern());
+        return writeConcern != null ? writeConcern : WriteConcern.W1;
+    }
+
+    // 스케줄러 풀(spring.task.scheduling.pool.size)에서 도므로 대기 중에도 다른 주기 작업은 계속 실행된다
+    private boolean sleepBackoff(int attempt) {
+        try {
+            Thread.sleep(flushProperties.getRetryBackoffMs() << (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static List<Map<String, Long>> chunks(Map<String, Long> snapshot, int chunkSize) {
+        List<Map<String, Long>> chunks = new ArrayList<>();
+        Map<String, Long> current = new HashMap<>();
+        for (Map.Entry<String, Long> entry : snapshot.entrySet()) {
+            current.put(entry.getKey(), entry.getValue());
+            if (current.size() == chunkSize) {
+                chunks.add(current);
+                current = new HashMap<>();
+            }
+        }
+        if (!current.isEmpty()) chunks.add(current);
+        return chunks;
     }
 
     @PreDestroy
     public void onShutdown() {
-        log.info("어플리케이션 종료 전 조회수 flush");
-        flushToMongo(); // 남은 조회수 저장
-        executor.shutdownNow();
+        log.info("어플리케이션 종료 전 조회수 전송");
+        pushToRedis(); // 남은 조회수는 리더가 반영
+        try {
+            lease.release();
+        } catch (Exception e) {
+            log.warn("조회수 flush 리더 반납 실패. TTL 만료 후 다른 WAS가 이어받음", e);
+        }
     }
 }
@@ -0,0 +1,133 @@
+package com.example.kaboocampostproject.domain.post.service;
+
+import com.example.kaboocampostproject.domain.post.dto.res.PostSimple;
+import com.example.kaboocampostproject.domain.post.dto.res.PostUniqueViewerPoint;
+import com.example.kaboocampostproject.domain.post.dto.res.PostViewPoint;
+import com.example.kaboocampostproject.domain.post.dto.res.PostViewStatsResDTO;
+import com.example.kaboocampostproject.domain.post.error.PostErrorCode;
+import com.example.kaboocampostproject.domain.post.error.PostException;
+import com.example.kaboocampostproject.domain.post.repository.PostMongoRepository;
+import com.example.kaboocampostproject.domain.post.repository.PostViewStatRepository;
+import com.example.kaboocampostproject.global.lock.RedisLease;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.example.kaboocampostproject.domain.post.service.PostUniqueViewService.ZONE;
+
+/// 게시물별 조회수 시계열
+/// - 조회수 flush마다 반영된 증가분을 시간 버킷(post_view_stats)에 bulk upsert
+/// - 매일 새벽, HOURLY_RETENTION_DAYS 지난 시간 버킷을 일 버킷으로 롤업
+/// - 통계 조회는 미리 합산된 버킷만 읽는다 (게시물 수 x 기간 일수 이하)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewStatService {
+
+    private static final long HOURLY_RETENTION_DAYS = 7;
+    private static final long MAX_RANGE_DAYS = 90;
+    private static final int MAX_POSTS = 100;
+    private static final Duration ROLLUP_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final PostViewStatRepository statRepository;
+    private final PostMongoRepository postRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final PostUniqueViewService postUniqueViewService;
+
+    // 인덱스 자동 생성이 꺼져 있어 직접 생성
+    @PostConstruct
+    public void init() {
+        statRepository.createIndexes();
+    }
+
+    // flush 리더가 호출. 통계는 부가 정보라 실패해도 조회수 반영은 그대로 진행
+    public void recordHourly(Map<String, Long> applied) {
+        if (applied.isEmpty()) return;
+        try {
+            statRepository.incrementHourly(applied, Instant.now().truncatedTo(ChronoUnit.HOURS));
+        } catch (Exception e) {
+            log.warn("조회수 시간 버킷 기록 실패. 게시물 {}건", applied.size(), e);
+        }
+    }
+
+    // 내 게시물(최신 MAX_POSTS개)의 [from, to] 일간 조회수 (+ 최근 날짜 순 조회자 추정치)
+    public PostViewStatsResDTO getMyPostStats(Long memberId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new PostException(PostErrorCode.INVALID_STATS_RANGE);
+        }
+
+        List<PostSimple> posts = postRepository.findSimpleByAuthorId(memberId, MAX_POSTS);
+        List<String> postIds = posts.stream().map(PostSimple::postId).toList();
+        Map<String, List<PostViewPoint>> views = statRepository.findDailyViews(
+                postIds,
+                from.atStartOfDay(ZONE).toInstant(),
+                to.plusDays(1).atStartOfDay(ZONE).toInstant(),
+                ZONE);
+        Map<String, List<PostUniqueViewerPoint>> uniqueViewers = postUniqueViewService.getUniqueViewers(postIds, from, to);
+
+        List<PostViewStatsResDTO.PostViewCurve> curves = posts.stream()
+                .map(post -> {
+                    List<PostViewPoint> points = views.getOrDefault(post.postId(), List.of());
+                    long total = points.stream().mapToLong(PostViewPoint::views).sum();
+                    return new PostViewStatsResDTO.PostViewCurve(post.postId(), post.title(), total, points,
+                            uniqueViewers.getOrDefault(post.postId(), List.of()));
+                })
+                .toList();
+
+        return PostViewStatsResDTO.builder()
+                .from(from)
+                .to(to)
+                .posts(curves)
+                .build();
+    }
+
+    // 시간 버킷 -> 일 버킷. 여러 WAS 중 하나만 실행
+    // 날짜마다 임대를 연장하고, 놓쳤으면(TTL 초과 후 다른 WAS가 가져감) 중단한다. 끝나면 소유자일 때만 반납
+    @Scheduled(cron = "0 10 4 * * *", zone = "Asia/Seoul")
+    public void rollupHourly() {
+        RedisLease lease = new RedisLease(redisTemplate, RedisMetadata.POST_VIEW.keyOf("ROLLUP"), ROLLUP_LOCK_TTL);
+        try {
+            if (!lease.acquire()) return;
+        } catch (Exception e) {
+            log.error("조회수 롤업 리더 확인 실패", e);
+            return;
+        }
+
+        try {
+            LocalDate cutoff = LocalDate.now(ZONE).minusDays(HOURLY_RETENTION_DAYS);
+            Optional<Instant> oldest = statRepository.findOldestHourlyBucket();
+            if (oldest.isEmpty()) return;
+
+            for (LocalDate day = oldest.get().atZone(ZONE).toLocalDate(); day.isBefore(cutoff); day = day.plusDays(1)) {
+                if (!lease.acquire()) {
+                    log.warn("조회수 롤업 임대 만료. 다음 실행 때 이어서 처리. day: {}", day);
+                    return;
+                }
+                int rolled = statRepository.rollupDay(
+                        day.atStartOfDay(ZONE).toInstant(),
+                        day.plusDays(1).atStartOfDay(ZONE).toInstant());
+                log.info("조회수 시간 버킷 롤업. day: {}, 게시물 {}건", day, rolled);
+            }
+        } catch (Exception e) {
+            log.error("조회수 롤업 실패. 다음 실행 때 이어서 처리", e);
+        } finally {
+            try {
+                lease.release();
+            } catch (Exception e) {
+                log.warn("조회수 롤업 임대 반납 실패. TTL 만료 후 해제", e);
+            }
+        }
+    }
+}
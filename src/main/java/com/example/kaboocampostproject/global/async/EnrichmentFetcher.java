@@ -0,0 +1,60 @@
+package com.example.kaboocampostproject.global.async;
+
+import com.example.kaboocampostproject.global.config.EnrichmentProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/// 목록/상세 조회 시 프로필(redis -> mysql), 좋아요(mysql) 같은 부가정보를 동시에 조회하기 위한 헬퍼
+/// - parallel=true : 전용 executor에서 비동기 실행, timeoutMs 안에 끝나지 않으면 fallback 반환
+/// - parallel=false: 기존처럼 요청 스레드에서 순차 실행 (k6 비교용)
+@Slf4j
+@Component
+public class EnrichmentFetcher {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final EnrichmentProperties properties;
+
+    public EnrichmentFetcher(@Qualifier("enrichmentExecutor") ThreadPoolTaskExecutor executor,
+                             EnrichmentProperties properties) {
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    public <T> CompletableFuture<T> fetch(Supplier<T> supplier) {
+        if (!properties.isParallel()) {
+            try {
+                return CompletableFuture.completedFuture(supplier.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    // 제한시간 초과 시 fallback, 조회 중 발생한 예외는 그대로 전파
+    public <T> T join(CompletableFuture<T> future, T fallback, String name) {
+        try {
+            return future.get(properties.getTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            log.warn("부가정보 조회 지연으로 fallback 사용. name: {}, timeoutMs: {}", name, properties.getTimeoutMs());
+            return fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback;
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(name + " 조회 실패", cause);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.kaboocampostproject.global.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/// 같은 조회가 동시에 여러 번 들어오면 하나만 실행하고 나머지는 그 결과를 기다린다 (single-flight)
+/// - 캐시 만료/인기 게시물 등장 시 몰리는 캐시 미스를 DB 쿼리 한번으로 합친다
+/// - 결과는 보관하지 않는다. 실행이 끝나면 다음 호출은 다시 실행 (캐시는 호출하는 쪽 책임)
+/// - 메트릭: singleflight.calls{name, result=executed|coalesced}
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    // name: 조회 종류 (메트릭 태그), key: 조회 대상
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> loader) {
+        String flightKey = name + ":" + key;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, mine);
+
+        if (existing != null) {
+            counter(name, "coalesced").increment();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                // 실행한 쪽과 같은 예외로 (게시물 없음 등)
+                if (e.getCause() instanceof RuntimeException re) throw re;
+                throw e;
+            }
+        }
+
+        counter(name, "executed").increment();
+        try {
+            T result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private Counter counter(String name, String result) {
+        return Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
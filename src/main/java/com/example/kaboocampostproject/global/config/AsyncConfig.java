@@ -0,0 +1,30 @@
+package com.example.kaboocampostproject.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(EnrichmentProperties.class)
+public class AsyncConfig {
+
+    private final EnrichmentProperties enrichmentProperties;
+
+    // 프로필, 좋아요 등 부가정보 병렬 조회용 (큐가 가득 차면 요청 스레드에서 직접 실행)
+    @Bean
+    public ThreadPoolTaskExecutor enrichmentExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(enrichmentProperties.getCorePoolSize());
+        executor.setMaxPoolSize(enrichmentProperties.getMaxPoolSize());
+        executor.setQueueCapacity(enrichmentProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("enrichment-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
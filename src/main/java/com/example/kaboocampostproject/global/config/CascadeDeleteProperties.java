@@ -0,0 +1,67 @@
+package com.example.kaboocampostproject.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.cascade-delete")
+public class CascadeDeleteProperties {
+
+    // 한번에 soft delete 할 문서 수 (_id 범위)
+    private int batchSize = 500;
+    // 배치 사이 대기 (운영 중 DB 부하 조절)
+    private long pauseMs = 50;
+    // 처리할 삭제 요청이 없을 때 다시 확인하기까지 대기
+    private long idleMs = 1_000;
+    // 같은 요청이 진행 없이 이만큼 연속 실패하면 보류 (parkedAt)
+    private int maxAttempts = 10;
+    // 실패한 요청 재시도 대기 (retryBaseMs * 2^(실패 횟수-1), 최대 retryMaxMs)
+    private long retryBaseMs = 5_000;
+    private long retryMaxMs = 600_000;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getPauseMs() {
+        return pauseMs;
+    }
+
+    public void setPauseMs(long pauseMs) {
+        this.pauseMs = pauseMs;
+    }
+
+    public long getIdleMs() {
+        return idleMs;
+    }
+
+    public void setIdleMs(long idleMs) {
+        this.idleMs = idleMs;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getRetryBaseMs() {
+        return retryBaseMs;
+    }
+
+    public void setRetryBaseMs(long retryBaseMs) {
+        this.retryBaseMs = retryBaseMs;
+    }
+
+    public long getRetryMaxMs() {
+        return retryMaxMs;
+    }
+
+    public void setRetryMaxMs(long retryMaxMs) {
+        this.retryMaxMs = retryMaxMs;
+    }
+}
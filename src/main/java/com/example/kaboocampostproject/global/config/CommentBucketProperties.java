@@ -0,0 +1,42 @@
+package com.example.kaboocampostproject.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Instant;
+
+@ConfigurationProperties(prefix = "app.comment-bucket")
+public class CommentBucketProperties {
+
+    // 켜면 새 댓글을 comment_buckets에도 쌓고 목록은 버킷부터 읽는다
+    // 끈 동안 쌓이지 않은 댓글이 생기므로, 다시 켤 때는 comment_buckets를 비우고 켠다
+    private boolean enabled = false;
+    // 버킷 하나에 담는 댓글 수 (페이지 크기 이상)
+    private int size = 100;
+    // 이 시각 전에 시작된 버킷은 읽을 때 지우고 comments 컬렉션에서 읽는다 (비어있으면 모두 사용)
+    // 롤링 배포로 켜는 동안 아직 끈 WAS가 쓴 댓글은 버킷에 없으므로, 모든 WAS가 켜진 시각으로 설정
+    private Instant trustedSince;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public Instant getTrustedSince() {
+        return trustedSince;
+    }
+
+    public void setTrustedSince(Instant trustedSince) {
+        this.trustedSince = trustedSince;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.kaboocampostproject.global.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({PostLikeMigrationProperties.class, LikeHotKeyProperties.class,
+        LikeCountReconcileProperties.class})
+public class JpaConfig {
+}
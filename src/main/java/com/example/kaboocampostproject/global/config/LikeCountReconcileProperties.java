@@ -0,0 +1,49 @@
+package com.example.kaboocampostproject.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.like-count-reconcile")
+public class LikeCountReconcileProperties {
+
+    // true면 기동 후 posts.likes를 좋아요 저장소 원본 기준으로 다시 맞춘다 (첫 회차가 백필)
+    // 기본값 true: 완료 표시가 없을 때만 백필하고, 이후 기동에서는 완료 표시를 보고 바로 끝난다
+    private boolean enabled = true;
+    // 한번에 재집계할 게시물 수
+    private int chunkSize = 500;
+    // 청크 사이 대기 (운영 중 DB 부하 조절)
+    private long pauseMs = 50;
+    // 회차 간격. 0이면 한 번만 실행 (백필만)
+    private long intervalHours = 0;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getPauseMs() {
+        return pauseMs;
+    }
+
+    public void setPauseMs(long pauseMs) {
+        this.pauseMs = pauseMs;
+    }
+
+    public long getIntervalHours() {
+        return intervalHours;
+    }
+
+    public void setIntervalHours(long intervalHours) {
+        this.intervalHours = intervalHours;
+    }
+}
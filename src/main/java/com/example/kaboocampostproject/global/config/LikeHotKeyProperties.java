@@ -0,0 +1,38 @@
+package com.example.kaboocampostproject.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.like-hot-key")
+public class LikeHotKeyProperties {
+
+    // WAS 하나에서 1초에 이 이상 좋아요/취소가 들어오면 인기 게시물로 전환
+    private int thresholdPerSecond = 50;
+    // 좋아요 버퍼 해시(회원 기준) / 인기 게시물 카운터 샤드 수
+    private int shards = 8;
+    // 마지막 감지 이후 인기 게시물로 유지하는 시간
+    private long hotTtlSeconds = 60;
+
+    public int getThresholdPerSecond() {
+        return thresholdPerSecond;
+    }
+
+    public void setThresholdPerSecond(int thresholdPerSecond) {
+        this.thresholdPerSecond = thresholdPerSecond;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    public long getHotTtlSeconds() {
+        return hotTtlSeconds;
+    }
+
+    public void setHotTtlSeconds(long hotTtlSeconds) {
+        this.hotTtlSeconds = hotTtlSeconds;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.kaboocampostproject.global.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
@@ -12,6 +13,8 @@ import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties({ViewFlushProperties.class, ViewLogProperties.class, ViewUniqueProperties.class,
+        CascadeDeleteProperties.class, CommentBucketProperties.class})
 public class MongoDBConfig {
 
     @Bean
@@ -0,0 +1,48 @@
+package com.example.kaboocampostproject.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.post-like-migration")
+public class PostLikeMigrationProperties {
+
+    // true면 기동 후 기존 테이블(IDENTITY id)의 좋아요를 복합키 post_likes로 복사
+    private boolean enabled = false;
+    // 기존 post_likes를 rename 해둔 테이블
+    private String legacyTable = "post_likes_legacy";
+    // 한번에 복사할 (post_id, member_id) 수
+    private int chunkSize = 1_000;
+    // 청크 사이 대기 (운영 중 DB 부하 조절)
+    private long pauseMs = 50;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getLegacyTable() {
+        return legacyTable;
+    }
+
+    public void setLegacyTable(String legacyTable) {
+        this.legacyTable = legacyTable;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getPauseMs() {
+        return pauseMs;
+    }
+
+    public void setPauseMs(long pauseMs) {
+        this.pauseMs = pauseMs;
+    }
+}
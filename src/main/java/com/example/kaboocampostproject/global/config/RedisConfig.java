@@ -1,6 +1,12 @@
 package com.example.kaboocampostproject.global.config;
 
+import com.example.kaboocampostproject.domain.comment.cache.CommentPageCacheDTO;
 import com.example.kaboocampostproject.domain.member.cache.MemberProfileCacheDTO;
+import com.example.kaboocampostproject.domain.post.cache.PostDetailCacheDTO;
+import com.example.kaboocampostproject.domain.post.cache.PostDetailCacheService;
+import com.example.kaboocampostproject.domain.post.cache.PostPageCacheDTO;
+import com.example.kaboocampostproject.domain.post.cache.PostSummaryCacheDTO;
+import com.example.kaboocampostproject.global.metadata.RedisMetadata;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -11,6 +17,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -64,7 +72,90 @@ public class RedisConfig {
         return template;
     }
 
+    // 피드 첫 페이지
+    @Bean
+    public RedisTemplate<String, PostPageCacheDTO> postPageRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper redisObjectMapper) {
+
+        RedisTemplate<String, PostPageCacheDTO> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        Jackson2JsonRedisSerializer<PostPageCacheDTO> serializer =
+                new Jackson2JsonRedisSerializer<>(redisObjectMapper, PostPageCacheDTO.class);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(serializer);
+
+        return template;
+    }
+
+    // 피드 아이템
+    @Bean
+    public RedisTemplate<String, PostSummaryCacheDTO> postSummaryRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper redisObjectMapper) {
+
+        RedisTemplate<String, PostSummaryCacheDTO> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        Jackson2JsonRedisSerializer<PostSummaryCacheDTO> serializer =
+                new Jackson2JsonRedisSerializer<>(redisObjectMapper, PostSummaryCacheDTO.class);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(serializer);
+
+        return template;
+    }
 
+    // 게시물별 댓글 첫 페이지
+    @Bean
+    public RedisTemplate<String, CommentPageCacheDTO> commentPageRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper redisObjectMapper) {
+
+        RedisTemplate<String, CommentPageCacheDTO> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        Jackson2JsonRedisSerializer<CommentPageCacheDTO> serializer =
+                new Jackson2JsonRedisSerializer<>(redisObjectMapper, CommentPageCacheDTO.class);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(serializer);
+
+        return template;
+    }
+
+    // 게시물 상세
+    @Bean
+    public RedisTemplate<String, PostDetailCacheDTO> postDetailRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper redisObjectMapper) {
+
+        RedisTemplate<String, PostDetailCacheDTO> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        Jackson2JsonRedisSerializer<PostDetailCacheDTO> serializer =
+                new Jackson2JsonRedisSerializer<>(redisObjectMapper, PostDetailCacheDTO.class);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(serializer);
+
+        return template;
+    }
+
+    // WAS 간 로컬 캐시 무효화 구독
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            PostDetailCacheService postDetailCacheService) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(postDetailCacheService,
+                new ChannelTopic(RedisMetadata.POST_DETAIL_INVALIDATION.keyOf()));
+        return container;
+    }
 
 }
 
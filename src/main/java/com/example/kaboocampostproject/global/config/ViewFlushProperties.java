@@ -0,0 +1,48 @@
+package com.example.kaboocampostproject.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.view-flush")
+public class ViewFlushProperties {
+
+    // bulkWrite 한번에 보내는 게시물 수
+    private int chunkSize = 500;
+    // com.mongodb.WriteConcern 상수명 (W1, MAJORITY, ACKNOWLEDGED ...)
+    private String writeConcern = "W1";
+    // 청크 실패 시 재시도 횟수. 모두 실패하면 다음 주기에 다시 합산
+    private int maxRetries = 3;
+    // 재시도 대기 (attempt마다 2배)
+    private long retryBackoffMs = 100;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public String getWriteConcern() {
+        return writeConcern;
+    }
+
+    public void setWriteConcern(String writeConcern) {
+        this.writeConcern = writeConcern;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public long getRetryBackoffMs() {
+        return retryBackoffMs;
+    }
+
+    public void setRetryBackoffMs(long retryBackoffMs) {
+        this.retryBackoffMs = retryBackoffMs;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.kaboocampostproject.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.view-log")
+public class ViewLogProperties {
+
+    // true면 조회마다 로컬 로그 파일에 기록 (프로세스 강제 종료 시 복구용)
+    private boolean enabled = false;
+    // 세그먼트 파일 디렉토리 (컨테이너 재시작 후에도 남도록 볼륨 경로 지정)
+    private String dir = "./view-log";
+    // 세그먼트 하나의 크기. 레코드 16바이트
+    private int segmentBytes = 16 * 1024 * 1024;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDir() {
+        return dir;
+    }
+
+    public void setDir(String dir) {
+        this.dir = dir;
+    }
+
+    public int getSegmentBytes() {
+        return segmentBytes;
+    }
+
+    public void setSegmentBytes(int segmentBytes) {
+        this.segmentBytes = segmentBytes;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.kaboocampostproject.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.view-unique")
+public class ViewUniqueProperties {
+
+    // true면 같은 회원의 반복 조회는 window 동안 조회수에 반영하지 않음
+    private boolean enabled = false;
+    // 같은 (회원, 게시물)을 한번으로 보는 구간
+    private long windowMinutes = 30;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getWindowMinutes() {
+        return windowMinutes;
+    }
+
+    public void setWindowMinutes(long windowMinutes) {
+        this.windowMinutes = windowMinutes;
+    }
+}
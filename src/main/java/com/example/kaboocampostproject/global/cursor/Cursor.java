@@ -11,7 +11,8 @@ public record Cursor(
 ) {
     public enum CursorStrategy {
         RECENT,
-        POPULAR
+        POPULAR,
+        HOT
     }
 
     @JsonTypeInfo(
@@ -21,12 +22,20 @@ public record Cursor(
     )
     @JsonSubTypes({
             @JsonSubTypes.Type(value = CreatedAtPos.class, name = "createdAtPos"),
-            @JsonSubTypes.Type(value = ViewPos.class, name = "viewPos")
+            @JsonSubTypes.Type(value = ViewPos.class, name = "viewPos"),
+            @JsonSubTypes.Type(value = ScorePos.class, name = "scorePos"),
+            @JsonSubTypes.Type(value = SnapshotPos.class, name = "snapshotPos"),
+            @JsonSubTypes.Type(value = BucketPos.class, name = "bucketPos")
     })
     public interface Pos{
         String id();
     }
     public record CreatedAtPos(String id, Instant createdAt) implements Pos{}
     public record ViewPos(String id, Instant createdAt, Long view) implements Pos{}
+    public record ScorePos(String id, Double score) implements Pos{}
+    // 랭킹 스냅샷(epoch) 내 다음 시작 위치
+    public record SnapshotPos(String id, Long epoch, Integer offset) implements Pos{}
+    // 댓글 버킷(id = postId) 안에서 다음 페이지가 시작하는 위치 (offset부터 앞쪽으로)
+    public record BucketPos(String id, Integer seq, Integer offset) implements Pos{}
 
 }
\ No newline at end of file
@@ -1,23 +1,103 @@
 package com.example.kaboocampostproject.global.cursor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Base64;
 
+/// 커서 <-> 토큰 변환
+/// 바이너리 포맷 (v1): [version 1][strategy 1][posType 1][ObjectId 12][pos 필드][HMAC-SHA256 앞 8바이트]
+/// - CreatedAtPos : createdAt epoch millis(8)
+/// - ViewPos      : createdAt epoch millis(8) + view(varint)
+/// - ScorePos     : score(double 8)
+/// - SnapshotPos  : epoch(varint) + offset(varint)
+/// - BucketPos    : seq(varint) + offset(varint)
+/// 서명이 맞지 않으면 DB 조회 전에 실패한다.
+/// 기존 JSON 토큰('{'로 시작)은 서명이 없어 위조할 수 있으므로 app.cursor.legacy-json-enabled=true인 롤아웃 릴리스(기본값)에만 디코딩한다.
 @Component
-@RequiredArgsConstructor
 public class CursorCodec {
 
     private static final Base64.Encoder ENC = Base64.getUrlEncoder().withoutPadding();
     private static final Base64.Decoder DEC = Base64.getUrlDecoder();
+
+    private static final byte VERSION = 1;
+    private static final byte JSON_PREFIX = '{';
+    private static final int HEADER_LENGTH = 3;
+    private static final int OBJECT_ID_LENGTH = 12;
+    private static final int MAC_LENGTH = 8;
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private static final byte POS_CREATED_AT = 1;
+    private static final byte POS_VIEW = 2;
+    private static final byte POS_SCORE = 3;
+    private static final byte POS_SNAPSHOT = 4;
+    private static final byte POS_BUCKET = 5;
+
+    private static final Cursor.CursorStrategy[] STRATEGIES = Cursor.CursorStrategy.values();
+
     private final ObjectMapper om;
+    private final ThreadLocal<Mac> mac;
+    private final boolean legacyJsonEnabled;
+
+    public CursorCodec(ObjectMapper om,
+                       @Value("${app.cursor.hmac-secret}") String hmacSecret,
+                       @Value("${app.cursor.legacy-json-enabled:true}") boolean legacyJsonEnabled) {
+        this.om = om;
+        this.legacyJsonEnabled = legacyJsonEnabled;
+        SecretKeySpec key = new SecretKeySpec(hmacSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac m = Mac.getInstance("HmacSHA256");
+                m.init(key);
+                return m;
+            } catch (Exception e) {
+                throw new IllegalStateException("커서 서명키 초기화 실패", e);
+            }
+        });
+    }
 
     public String encode(Cursor c) {
         try {
-            byte[] json = om.writeValueAsBytes(c);
-            return ENC.encodeToString(json);
+            ByteBuffer buf = ByteBuffer.allocate(MAX_TOKEN_LENGTH);
+            buf.put(VERSION);
+            buf.put((byte) c.strategy().ordinal());
+
+            Cursor.Pos pos = c.pos();
+            if (pos instanceof Cursor.CreatedAtPos p) {
+                buf.put(POS_CREATED_AT).put(new ObjectId(p.id()).toByteArray());
+                buf.putLong(p.createdAt().toEpochMilli());
+            } else if (pos instanceof Cursor.ViewPos p) {
+                buf.put(POS_VIEW).put(new ObjectId(p.id()).toByteArray());
+                buf.putLong(p.createdAt().toEpochMilli());
+                putVarLong(buf, p.view());
+            } else if (pos instanceof Cursor.ScorePos p) {
+                buf.put(POS_SCORE).put(new ObjectId(p.id()).toByteArray());
+                buf.putDouble(p.score());
+            } else if (pos instanceof Cursor.SnapshotPos p) {
+                buf.put(POS_SNAPSHOT).put(new ObjectId(p.id()).toByteArray());
+                putVarLong(buf, p.epoch());
+                putVarLong(buf, p.offset());
+            } else if (pos instanceof Cursor.BucketPos p) {
+                buf.put(POS_BUCKET).put(new ObjectId(p.id()).toByteArray());
+                putVarLong(buf, p.seq());
+                putVarLong(buf, p.offset());
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 커서 위치: " + pos);
+            }
+
+            int bodyLength = buf.position();
+            byte[] token = Arrays.copyOf(buf.array(), bodyLength + MAC_LENGTH);
+            System.arraycopy(sign(token, bodyLength), 0, token, bodyLength, MAC_LENGTH);
+            return ENC.encodeToString(token);
         } catch (Exception e) {
             throw new IllegalStateException("인코딩 실패", e);
         }
@@ -25,10 +105,78 @@ public class CursorCodec {
 
     public Cursor decode(String token) {
         try {
-            byte[] json = DEC.decode(token);
-            return om.readValue(json, Cursor.class);
+            byte[] bytes = DEC.decode(token);
+            if (bytes.length > 0 && bytes[0] == JSON_PREFIX) {
+                if (!legacyJsonEnabled) throw new IllegalArgumentException("서명 없는 JSON 커서는 허용하지 않음");
+                return om.readValue(bytes, Cursor.class);
+            }
+            return decodeBinary(bytes);
         } catch (Exception e) {
             throw new IllegalArgumentException("디코딩 실패", e);
         }
     }
+
+    private Cursor decodeBinary(byte[] bytes) {
+        int bodyLength = bytes.length - MAC_LENGTH;
+        if (bodyLength < HEADER_LENGTH + OBJECT_ID_LENGTH || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("잘못된 커서 형식");
+        }
+        byte[] expected = sign(bytes, bodyLength);
+        byte[] actual = Arrays.copyOfRange(bytes, bodyLength, bytes.length);
+        if (!MessageDigest.isEqual(Arrays.copyOf(expected, MAC_LENGTH), actual)) {
+            throw new IllegalArgumentException("커서 서명 불일치");
+        }
+
+        ByteBuffer buf = ByteBuffer.wrap(bytes, 1, bodyLength - 1);
+        Cursor.CursorStrategy strategy = STRATEGIES[buf.get()];
+        byte posType = buf.get();
+        byte[] oid = new byte[OBJECT_ID_LENGTH];
+        buf.get(oid);
+        String id = new ObjectId(oid).toHexString();
+
+        Cursor.Pos pos = switch (posType) {
+            case POS_CREATED_AT -> new Cursor.CreatedAtPos(id, Instant.ofEpochMilli(buf.getLong()));
+            case POS_VIEW -> new Cursor.ViewPos(id, Instant.ofEpochMilli(buf.getLong()), getVarLong(buf));
+            case POS_SCORE -> new Cursor.ScorePos(id, buf.getDouble());
+            case POS_SNAPSHOT -> new Cursor.SnapshotPos(id, getVarLong(buf), (int) getVarLong(buf));
+            case POS_BUCKET -> new Cursor.BucketPos(id, (int) getVarLong(buf), (int) getVarLong(buf));
+            default -> throw new IllegalArgumentException("지원하지 않는 커서 위치: " + posType);
+        };
+        return new Cursor(strategy, pos);
+    }
+
+    // 롤아웃 이전 JSON 포맷 (비교 벤치마크용)
+    String encodeJson(Cursor c) {
+        try {
+            return ENC.encodeToString(om.writeValueAsBytes(c));
+        } catch (Exception e) {
+            throw new IllegalStateException("인코딩 실패", e);
+        }
+    }
+
+    private byte[] sign(byte[] data, int length) {
+        Mac m = mac.get();
+        m.update(data, 0, length);
+        return m.doFinal();
+    }
+
+    // 음수가 아닌 값만 사용 (조회수, offset, epoch, seq)
+    private static void putVarLong(ByteBuffer buf, long value) {
+        if (value < 0) throw new IllegalArgumentException("음수는 인코딩할 수 없습니다: " + value);
+        while ((value & ~0x7FL) != 0) {
+            buf.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buf.put((byte) value);
+    }
+
+    private static long getVarLong(ByteBuffer buf) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buf.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("잘못된 varint");
+    }
 }
@@ -0,0 +1,44 @@
+package com.example.kaboocampostproject.global.lock;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/// 여러 WAS 중 하나만 주기 작업을 맡기 위한 리더 임대 (SET NX + TTL)
+/// 리더는 매 주기 acquire()로 TTL을 연장하고, 죽으면 TTL 만료 후 다른 WAS가 이어받는다.
+public class RedisLease {
+
+    // 리더일 때만 TTL 연장 / 반납
+    private static final DefaultRedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final Duration ttl;
+
+    public RedisLease(StringRedisTemplate redisTemplate, String key, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.ttl = ttl;
+    }
+
+    // 새로 얻었거나 이미 리더면 TTL 연장 후 true
+    public boolean acquire() {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, instanceId, ttl);
+        if (Boolean.TRUE.equals(acquired)) return true;
+        Long renewed = redisTemplate.execute(RENEW, List.of(key), instanceId, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    public void release() {
+        redisTemplate.execute(RELEASE, List.of(key), instanceId);
+    }
+}
@@ -13,7 +13,24 @@ import java.util.stream.Collectors;
 public enum RedisMetadata {
 
     MEMBER_PROFILE("PROFILE_CACHE:", DataType.STRING, Duration.ofHours(1)),
-    POST_VIEW("POST_VIEW:", DataType.STRING, Duration.ofHours(1)),
+    POST_VIEW("POST_VIEW:", DataType.HASH, null), // 조회수 집계 (PENDING/FLUSHING 해시, LEASE/ROLLUP 임대, BATCH 마지막 배치 번호)
+    POST_VIEWER("POST_VIEWER:", DataType.STRING, null), // (게시물, 회원) 중복 조회 억제, TTL은 app.view-unique.window-minutes
+    POST_UNIQUE_VIEWERS("POST_UNIQUE_VIEWERS:", DataType.STRING, Duration.ofDays(8)), // 게시물별 일간 순 조회자 (HyperLogLog)
+    POST_LIKE("POST_LIKE:", DataType.HASH, null), // 좋아요 write-behind (PENDING/PROCESSING/STAGED 해시, LEASE 키)
+    POST_LIKE_DELTA("POST_LIKE_DELTA:", DataType.HASH, null), // posts.likes 증감량 (PENDING/FLUSHING 해시, LEASE 키, 재집계 진행 위치)
+    POST_LIKE_HOT("POST_LIKE_HOT", DataType.ZSET, null), // 인기 게시물 (score = 만료 시각)
+    POST_LIKE_COUNT("POST_LIKE_COUNT:", DataType.STRING, null), // 인기 게시물 좋아요 수 샤드 카운터 ({postId}:{shard})
+    POST_LIKERS("POST_LIKERS:", DataType.SET, null), // 게시물별 좋아요한 회원 (app.like-store.type=redis 원본)
+    MEMBER_LIKES("MEMBER_LIKES:", DataType.SET, null), // 회원별 좋아요한 게시물 (app.like-store.type=redis 원본)
+    MEMBER_LIKED_POSTS("MEMBER_LIKED_POSTS:", DataType.SET, Duration.ofHours(1)), // 회원별 좋아요한 게시물 (amILike)
+    POST_HOT_RANK("POST_HOT_RANK", DataType.ZSET, null), // 인기(HOT) 피드 랭킹, 만료 없음
+    POST_POPULAR_SNAPSHOT("POST_POPULAR_SNAPSHOT:", DataType.STRING, Duration.ofMinutes(30)), // 조회수순 스냅샷 (epoch별)
+    POST_DETAIL("POST_DETAIL:", DataType.STRING, Duration.ofSeconds(30)), // 게시물 상세 (L2, {postId}:v 무효화 버전)
+    POST_DETAIL_INVALIDATION("POST_DETAIL_INVALIDATION", DataType.NONE, null), // 상세 L1 무효화 pub/sub 채널
+    POST_SUMMARY("POST_SUMMARY:", DataType.STRING, Duration.ofSeconds(30)), // 게시물별 피드 아이템
+    POST_FIRST_PAGE("POST_FIRST_PAGE:", DataType.STRING, Duration.ofSeconds(10)), // 전략별 피드 첫 페이지 (v: 무효화 버전)
+    COMMENT_FIRST_PAGE("COMMENT_FIRST_PAGE:", DataType.STRING, Duration.ofMinutes(1)), // 게시물별 댓글 첫 페이지 (쓰기 시 무효화, {postId}:v 무효화 버전)
+    CASCADE_DELETE("CASCADE_DELETE:", DataType.STRING, null), // 연쇄 삭제 워커 리더 임대 (LEASE)
 
     // 이메일 인증
     EMAIL_VERIFICATION("EMAIL_VERIFICATION:", DataType.STRING, Duration.ofMinutes(5)),
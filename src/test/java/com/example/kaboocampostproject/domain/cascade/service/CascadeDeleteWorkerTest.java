@@ -0,0 +1,198 @@
+package com.example.kaboocampostproject.domain.cascade.service;
+
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument;
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument.Step;
+import com.example.kaboocampostproject.domain.cascade.document.DeleteIntentDocument.TargetType;
+import com.example.kaboocampostproject.domain.cascade.repository.DeleteIntentRepository;
+import com.example.kaboocampostproject.domain.comment.cache.CommentFirstPageCacheService;
+import com.example.kaboocampostproject.domain.comment.document.CommentDocument;
+import com.example.kaboocampostproject.domain.comment.repository.CommentMongoRepository;
+import com.example.kaboocampostproject.domain.comment.service.CommentBucketService;
+import com.example.kaboocampostproject.domain.like.store.LikeStore;
+import com.example.kaboocampostproject.domain.member.repository.MemberRepository;
+import com.example.kaboocampostproject.domain.post.cache.PostDetailCacheService;
+import com.example.kaboocampostproject.domain.post.cache.PostFirstPageCacheService;
+import com.example.kaboocampostproject.domain.post.cache.PostSummaryCacheService;
+import com.example.kaboocampostproject.domain.post.document.PostDocument;
+import com.example.kaboocampostproject.domain.post.repository.PostMongoRepository;
+import com.example.kaboocampostproject.domain.post.service.PostHotRankService;
+import com.example.kaboocampostproject.global.config.CascadeDeleteProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CascadeDeleteWorkerTest {
+
+    private static final String POST_ID = "65a1b2c3d4e5f60718293a4b";
+    private static final String MEMBER_ID = "7";
+    private static final String POST_INTENT_ID = DeleteIntentDocument.idOf(TargetType.POST, POST_ID);
+    private static final String MEMBER_INTENT_ID = DeleteIntentDocument.idOf(TargetType.MEMBER, MEMBER_ID);
+
+    private final DeleteIntentRepository intentRepository = mock(DeleteIntentRepository.class);
+    private final CommentMongoRepository commentRepository = mock(CommentMongoRepository.class);
+    private final CommentBucketService commentBucketService = mock(CommentBucketService.class);
+    private final PostMongoRepository postRepository = mock(PostMongoRepository.class);
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final LikeStore likeStore = mock(LikeStore.class);
+    private final CommentFirstPageCacheService commentFirstPageCacheService = mock(CommentFirstPageCacheService.class);
+    private final CascadeDeleteProperties properties = new CascadeDeleteProperties();
+
+    private CascadeDeleteWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new CascadeDeleteWorker(
+                intentRepository,
+                commentRepository,
+                commentBucketService,
+                postRepository,
+                memberRepository,
+                likeStore,
+                mock(PostHotRankService.class),
+                mock(PostSummaryCacheService.class),
+                mock(PostDetailCacheService.class),
+                mock(PostFirstPageCacheService.class),
+                commentFirstPageCacheService,
+                properties,
+                mock(StringRedisTemplate.class)
+        );
+    }
+
+    private void intent(TargetType targetType, String targetId, Step step, String cursor,
+                        Instant requestedAt, int attempts) {
+        DeleteIntentDocument intent = mock(DeleteIntentDocument.class);
+        when(intent.getId()).thenReturn(DeleteIntentDocument.idOf(targetType, targetId));
+        when(intent.getTargetType()).thenReturn(targetType);
+        when(intent.getTargetId()).thenReturn(targetId);
+        when(intent.getStep()).thenReturn(step);
+        when(intent.getCursor()).thenReturn(cursor);
+        when(intent.getRequestedAt()).thenReturn(requestedAt);
+        when(intent.getAttempts()).thenReturn(attempts);
+        when(intentRepository.findOldestReady(any())).thenReturn(Optional.of(intent));
+    }
+
+    private void deletedPostIntent(String cursor, int attempts) {
+        when(postRepository.findByIdAndDeletedAtIsNull(POST_ID)).thenReturn(Optional.empty());
+        intent(TargetType.POST, POST_ID, Step.POST_COMMENTS, cursor, Instant.now(), attempts);
+    }
+
+    private static CommentDocument comment(String id) {
+        return CommentDocument.restore(id, POST_ID, 1L, null, null, null);
+    }
+
+    @Test
+    void returnsFalseWhenNoIntentIsReady() {
+        when(intentRepository.findOldestReady(any())).thenReturn(Optional.empty());
+
+        assertFalse(worker.processNext());
+    }
+
+    // 재기동 후에도 기록된 cursor 다음부터 이어서 지우고, 마지막 id를 새 cursor로 남긴다
+    @Test
+    void resumesFromSavedCursor() {
+        deletedPostIntent("c5", 0);
+        when(commentRepository.findActiveIdsByPostIdAfter(POST_ID, "c5", 500))
+                .thenReturn(List.of(comment("c6"), comment("c7")));
+        when(commentRepository.softDeleteByIds(eq(List.of("c6", "c7")), any())).thenReturn(2L);
+
+        assertTrue(worker.processNext());
+
+        verify(intentRepository).saveProgress(POST_INTENT_ID, Step.POST_COMMENTS, "c7", 2L);
+        verify(intentRepository, never()).deleteById(anyString());
+    }
+
+    // step을 다 끝내면 cursor 없이 다음 step으로 넘어간다
+    @Test
+    void advancesToNextStepWhenStepIsDone() {
+        when(memberRepository.existsById(7L)).thenReturn(false);
+        intent(TargetType.MEMBER, MEMBER_ID, Step.MEMBER_LIKES, null, Instant.now(), 0);
+
+        worker.processNext();
+
+        verify(likeStore).deleteAllByMember(7L);
+        verify(intentRepository).saveProgress(MEMBER_INTENT_ID, Step.MEMBER_POSTS, null, 0L);
+    }
+
+    // 마지막 step까지 끝나면 댓글 버킷을 지우고 요청을 제거한다
+    @Test
+    void removesIntentAfterLastStep() {
+        deletedPostIntent("c9", 0);
+        when(commentRepository.findActiveIdsByPostIdAfter(POST_ID, "c9", 500)).thenReturn(List.of());
+
+        worker.processNext();
+
+        verify(commentBucketService).deleteByPost(POST_ID);
+        verify(commentFirstPageCacheService).evict(POST_ID);
+        verify(intentRepository).deleteById(POST_INTENT_ID);
+        verify(intentRepository, never()).saveProgress(anyString(), any(), any(), anyLong());
+    }
+
+    // 대상 삭제가 아직 커밋되지 않았으면 아무것도 지우지 않고 실패 횟수 그대로 미룬다
+    @Test
+    void postponesWhileTargetIsAlive() {
+        when(postRepository.findByIdAndDeletedAtIsNull(POST_ID)).thenReturn(Optional.of(mock(PostDocument.class)));
+        intent(TargetType.POST, POST_ID, Step.POST_COMMENTS, null, Instant.now(), 2);
+
+        worker.processNext();
+
+        verify(intentRepository).recordFailure(eq(POST_INTENT_ID), eq(2), any(), eq("대상이 아직 삭제되지 않음"));
+        verify(commentRepository, never()).softDeleteByIds(anyList(), any());
+        verify(intentRepository, never()).deleteById(anyString());
+    }
+
+    // 오래 지나도 대상이 살아있으면 (삭제 롤백/복구) 요청을 버린다
+    @Test
+    void abandonsWhenTargetStaysAlive() {
+        when(memberRepository.existsById(7L)).thenReturn(true);
+        intent(TargetType.MEMBER, MEMBER_ID, Step.MEMBER_LIKES, null,
+                Instant.now().minus(Duration.ofMinutes(11)), 0);
+
+        worker.processNext();
+
+        verify(intentRepository).deleteById(MEMBER_INTENT_ID);
+        verify(likeStore, never()).deleteAllByMember(any());
+        verify(intentRepository, never()).recordFailure(anyString(), anyInt(), any(), anyString());
+    }
+
+    // 실패하면 지수 백오프로 미룬다 (첫 실패는 retryBaseMs 뒤)
+    @Test
+    void backsOffOnFailure() {
+        deletedPostIntent(null, 0);
+        when(commentRepository.findActiveIdsByPostIdAfter(POST_ID, null, 500)).thenThrow(new IllegalStateException("down"));
+
+        Instant before = Instant.now();
+        worker.processNext();
+
+        ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+        verify(intentRepository).recordFailure(eq(POST_INTENT_ID), eq(1), nextAttemptAt.capture(),
+                eq("IllegalStateException: down"));
+        long delay = Duration.between(before, nextAttemptAt.getValue()).toMillis();
+        assertTrue(delay >= properties.getRetryBaseMs() && delay < properties.getRetryBaseMs() * 2);
+        verify(intentRepository, never()).park(anyString(), anyInt(), anyString());
+    }
+
+    // maxAttempts번 연속 실패하면 보류
+    @Test
+    void parksAfterMaxAttempts() {
+        deletedPostIntent(null, properties.getMaxAttempts() - 1);
+        when(commentRepository.findActiveIdsByPostIdAfter(POST_ID, null, 500)).thenThrow(new IllegalStateException("down"));
+
+        worker.processNext();
+
+        verify(intentRepository).park(POST_INTENT_ID, properties.getMaxAttempts(), "IllegalStateException: down");
+        verify(intentRepository, never()).recordFailure(anyString(), anyInt(), any(), anyString());
+    }
+}
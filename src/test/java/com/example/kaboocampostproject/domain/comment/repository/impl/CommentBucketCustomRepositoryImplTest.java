@@ -0,0 +1,78 @@
+package com.example.kaboocampostproject.domain.comment.repository.impl;
+
+import com.example.kaboocampostproject.domain.comment.document.CommentBucketDocument;
+import com.example.kaboocampostproject.domain.comment.document.CommentDocument;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CommentBucketCustomRepositoryImplTest {
+
+    private static final String POST_ID = "65a1b2c3d4e5f60718293a4b";
+
+    private final MongoTemplate mongo = mock(MongoTemplate.class);
+    private final CommentBucketCustomRepositoryImpl repository = new CommentBucketCustomRepositoryImpl(mongo);
+
+    private static CommentBucketDocument.Entry entry() {
+        Instant now = Instant.now();
+        return CommentBucketDocument.Entry.of(CommentDocument.restore("c1", POST_ID, 1L, "content", now, now));
+    }
+
+    private void headAt(int seq) {
+        CommentBucketDocument head = mock(CommentBucketDocument.class);
+        when(head.getSeq()).thenReturn(seq);
+        when(mongo.findOne(any(Query.class), eq(CommentBucketDocument.class))).thenReturn(head);
+    }
+
+    // upsert한 버킷 _id 순서
+    private List<Object> upsertedIds(int times) {
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongo, times(times)).upsert(queries.capture(), any(UpdateDefinition.class), eq(CommentBucketDocument.class));
+        return queries.getAllValues().stream().map(q -> q.getQueryObject().get("id")).toList();
+    }
+
+    // 버킷이 없으면 seq 0 버킷을 만든다
+    @Test
+    void startsAtFirstBucket() {
+        repository.append(POST_ID, entry(), 100);
+
+        assertEquals(List.of(CommentBucketDocument.idOf(POST_ID, 0)), upsertedIds(1));
+    }
+
+    // 최신 버킷이 가득 차 있으면 (같은 _id insert가 중복 키) 다음 seq 버킷으로 넘어간다
+    @Test
+    void rollsOverToNextBucketWhenFull() {
+        headAt(3);
+        when(mongo.upsert(any(Query.class), any(UpdateDefinition.class), eq(CommentBucketDocument.class)))
+                .thenThrow(new DuplicateKeyException("full"))
+                .thenReturn(null);
+
+        repository.append(POST_ID, entry(), 100);
+
+        assertEquals(List.of(CommentBucketDocument.idOf(POST_ID, 3), CommentBucketDocument.idOf(POST_ID, 4)),
+                upsertedIds(2));
+    }
+
+    // 넘어가기를 계속 실패하면 끝없이 돌지 않고 예외
+    @Test
+    void givesUpAfterMaxRollOvers() {
+        headAt(0);
+        when(mongo.upsert(any(Query.class), any(UpdateDefinition.class), eq(CommentBucketDocument.class)))
+                .thenThrow(new DuplicateKeyException("full"));
+
+        assertThrows(DuplicateKeyException.class, () -> repository.append(POST_ID, entry(), 100));
+
+        assertEquals(9, upsertedIds(9).size());
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.kaboocampostproject.domain.comment.service;
+
+import com.example.kaboocampostproject.domain.comment.document.CommentBucketDocument;
+import com.example.kaboocampostproject.domain.comment.document.CommentDocument;
+import com.example.kaboocampostproject.domain.comment.repository.CommentBucketRepository;
+import com.example.kaboocampostproject.global.config.CommentBucketProperties;
+import com.example.kaboocampostproject.global.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CommentBucketServiceTest {
+
+    private static final String POST_ID = "65a1b2c3d4e5f60718293a4b";
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final CommentBucketRepository bucketRepository = mock(CommentBucketRepository.class);
+    private final CommentBucketProperties properties = new CommentBucketProperties();
+
+    private CommentBucketService service;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        service = new CommentBucketService(bucketRepository, properties);
+    }
+
+    private static CommentDocument comment(String id, Instant createdAt) {
+        return CommentDocument.restore(id, POST_ID, 1L, "content " + id, createdAt, createdAt);
+    }
+
+    private static CommentBucketDocument.Entry entry(String id, Instant createdAt) {
+        return CommentBucketDocument.Entry.of(comment(id, createdAt));
+    }
+
+    private static CommentBucketDocument.Entry deletedEntry() {
+        CommentBucketDocument.Entry entry = mock(CommentBucketDocument.Entry.class);
+        when(entry.isDeleted()).thenReturn(true);
+        return entry;
+    }
+
+    private static CommentBucketDocument bucket(int seq, CommentBucketDocument.Entry... entries) {
+        CommentBucketDocument bucket = mock(CommentBucketDocument.class);
+        when(bucket.getSeq()).thenReturn(seq);
+        when(bucket.getStartedAt()).thenReturn(T0);
+        when(bucket.getComments()).thenReturn(List.of(entries));
+        return bucket;
+    }
+
+    private static List<String> ids(List<CommentDocument> comments) {
+        return comments.stream().map(CommentDocument::getId).toList();
+    }
+
+    // 한 번 실패해도 재시도로 반영되면 버킷을 지우지 않는다
+    @Test
+    void appendRetriesOnce() {
+        doThrow(new IllegalStateException("timeout")).doNothing()
+                .when(bucketRepository).append(eq(POST_ID), any(), anyInt());
+
+        service.append(comment("c1", T0));
+
+        verify(bucketRepository, times(2)).append(eq(POST_ID), any(), eq(100));
+        verify(bucketRepository, never()).deleteByPostId(anyString());
+    }
+
+    // 재시도도 실패하면 게시물 버킷을 지워 comments 컬렉션에서 읽게 한다
+    @Test
+    void appendDropsBucketsWhenRetryFails() {
+        doThrow(new IllegalStateException("timeout"))
+                .when(bucketRepository).append(eq(POST_ID), any(), anyInt());
+
+        service.append(comment("c1", T0));
+
+        verify(bucketRepository, times(2)).append(eq(POST_ID), any(), anyInt());
+        verify(bucketRepository).deleteByPostId(POST_ID);
+    }
+
+    // 원본은 이미 바뀌었으므로 버킷 반영 실패는 예외 없이 버킷 삭제로 복구
+    @Test
+    void updateContentFailureRepairsBuckets() {
+        doThrow(new IllegalStateException("timeout"))
+                .when(bucketRepository).updateContent(eq(POST_ID), eq("c1"), anyString(), any());
+
+        assertDoesNotThrow(() -> service.updateContent(POST_ID, "c1", "edited"));
+
+        verify(bucketRepository).deleteByPostId(POST_ID);
+    }
+
+    @Test
+    void markDeletedFailureRepairsBuckets() {
+        doThrow(new IllegalStateException("timeout"))
+                .when(bucketRepository).markDeleted(anyMap(), any());
+
+        assertDoesNotThrow(() -> service.markDeleted(POST_ID, "c1"));
+
+        verify(bucketRepository).deleteByPostId(POST_ID);
+    }
+
+    // trusted-since 전에 시작된 버킷은 빠진 댓글이 있을 수 있어 지우고 comments 컬렉션으로 넘긴다
+    @Test
+    void readDropsBucketsStartedBeforeTrustedSince() {
+        properties.setTrustedSince(T0.plus(Duration.ofDays(1)));
+        CommentBucketDocument latest = bucket(0, entry("c1", T0));
+        when(bucketRepository.findAtOrBefore(POST_ID, null, 2)).thenReturn(List.of(latest));
+
+        Optional<CommentBucketService.BucketRead> read = service.read(POST_ID, null, null, 10);
+
+        assertTrue(read.isEmpty());
+        verify(bucketRepository).deleteByPostId(POST_ID);
+    }
+
+    @Test
+    void readReturnsEmptyWithoutBuckets() {
+        when(bucketRepository.findAtOrBefore(POST_ID, null, 2)).thenReturn(List.of());
+
+        assertTrue(service.read(POST_ID, null, null, 10).isEmpty());
+    }
+
+    // 최신 버킷 끝에서부터 삭제된 댓글을 건너뛰며 읽고, 모자라면 이전 버킷을 더 읽는다
+    // 한 건 더 남아 있으면 그 자리가 다음 페이지 위치
+    @Test
+    void readPagesAcrossBucketsSkippingDeleted() {
+        CommentBucketDocument b2 = bucket(2, entry("c5", T0.plusSeconds(5)));
+        CommentBucketDocument b1 = bucket(1, entry("c3", T0.plusSeconds(3)), deletedEntry());
+        CommentBucketDocument b0 = bucket(0, entry("c1", T0.plusSeconds(1)), entry("c2", T0.plusSeconds(2)));
+        when(bucketRepository.findAtOrBefore(POST_ID, null, 2)).thenReturn(List.of(b2, b1));
+        when(bucketRepository.findAtOrBefore(POST_ID, 0, 2)).thenReturn(List.of(b0));
+
+        CommentBucketService.BucketRead read = service.read(POST_ID, null, null, 3).orElseThrow();
+
+        assertEquals(List.of("c5", "c3", "c2"), ids(read.comments()));
+        assertEquals(new Cursor.BucketPos(POST_ID, 0, 0), read.next());
+        assertNull(read.boundary());
+    }
+
+    // 다음 페이지는 커서 (seq, offset)부터. 버킷을 끝까지 읽으면 next 없이 경계를 돌려준다
+    @Test
+    void readResumesFromCursorAndReturnsBoundaryAtEnd() {
+        CommentBucketDocument b0 = bucket(0, entry("c1", T0.plusSeconds(1)), entry("c2", T0.plusSeconds(2)));
+        when(bucketRepository.findAtOrBefore(POST_ID, 0, 2)).thenReturn(List.of(b0));
+
+        CommentBucketService.BucketRead read = service.read(POST_ID, 0, 0, 3).orElseThrow();
+
+        assertEquals(List.of("c1"), ids(read.comments()));
+        assertNull(read.next());
+        assertEquals("c1", read.boundary().getId());
+    }
+
+    // $push 순서가 createdAt 순서와 달라도 경계는 seq 0 버킷에서 (createdAt, id)가 가장 작은 댓글
+    @Test
+    void boundaryIsOldestEntryOfFirstBucket() {
+        CommentBucketDocument b0 = bucket(0,
+                entry("c3", T0.plusSeconds(2)),
+                entry("c2", T0.plusSeconds(1)),
+                entry("c1", T0.plusSeconds(1)),
+                entry("c4", T0.plusSeconds(3)));
+        when(bucketRepository.findAtOrBefore(POST_ID, null, 2)).thenReturn(List.of(b0));
+
+        CommentBucketService.BucketRead read = service.read(POST_ID, null, null, 10).orElseThrow();
+
+        assertEquals(List.of("c4", "c1", "c2", "c3"), ids(read.comments()));
+        assertEquals("c1", read.boundary().getId());
+        assertEquals(T0.plusSeconds(1), read.boundary().getCreatedAt());
+    }
+}
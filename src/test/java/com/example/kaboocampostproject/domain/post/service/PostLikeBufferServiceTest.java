@@ -0,0 +1,310 @@
+package com.example.kaboocampostproject.domain.post.service;
+
+import com.example.kaboocampostproject.domain.like.dto.PostLikeChange;
+import com.example.kaboocampostproject.domain.like.repository.PostLikeJdbcRepository;
+import com.example.kaboocampostproject.domain.like.repository.PostLikeRepository;
+import com.example.kaboocampostproject.domain.post.cache.MemberLikedPostCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PostLikeBufferServiceTest {
+
+    private static final String POST_ID = "65a1b2c3d4e5f60718293a4b";
+    private static final String OTHER_POST_ID = "65a1b2c3d4e5f60718293a4c";
+    private static final Long MEMBER_ID = 7L;
+    private static final int SHARD = 3;
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hashOps = mock(HashOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+    private final PostLikeHotKeyService hotKeyService = mock(PostLikeHotKeyService.class);
+    private final PostLikeJdbcRepository jdbcRepository = mock(PostLikeJdbcRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final MemberLikedPostCacheService likedPostCache = mock(MemberLikedPostCacheService.class);
+
+    private PostLikeBufferService service;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(hotKeyService.shardOf(MEMBER_ID)).thenReturn(SHARD);
+        service = new PostLikeBufferService(
+                redisTemplate,
+                mock(PostLikeRepository.class),
+                jdbcRepository,
+                transactionTemplate,
+                likedPostCache,
+                hotKeyService
+        );
+        service.init();
+    }
+
+    // 인기일 때 좋아요 -> 식은 뒤 취소: 같은 해시의 같은 필드를 덮어써야 취소가 마지막 상태로 남는다
+    @Test
+    void likeWhileHotThenUnlikeAfterCoolDownHitsSameField() {
+        when(hotKeyService.isHot(POST_ID)).thenReturn(true, false);
+
+        service.like(MEMBER_ID, POST_ID);
+        service.unlike(MEMBER_ID, POST_ID);
+
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object> fields = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> states = ArgumentCaptor.forClass(Object.class);
+        verify(hashOps, times(2)).put(keys.capture(), fields.capture(), states.capture());
+
+        assertEquals(List.of(PostLikeBufferService.pendingKey(SHARD), PostLikeBufferService.pendingKey(SHARD)), keys.getAllValues());
+        assertEquals(fields.getAllValues().get(0), fields.getAllValues().get(1));
+        assertEquals(List.of("1", "0"), states.getAllValues());
+    }
+
+    // 이전 배포의 공용 해시(좋아요)보다 샤드 해시(취소)가 최신이므로 취소가 이긴다
+    @Test
+    void shardOverridesLegacyHashOnRead() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(
+                Arrays.asList((Object) null),   // PROCESSING (LEGACY)
+                List.of("1"),                   // PENDING (LEGACY)
+                Arrays.asList((Object) null),   // PROCESSING:{shard}
+                List.of("0"),                   // PENDING:{shard}
+                List.of(true, true)             // SENTINEL, POST_ID
+        ));
+
+        Set<String> liked = service.findLikedPostIds(MEMBER_ID, List.of(POST_ID));
+
+        assertTrue(liked.isEmpty());
+    }
+
+    // 버퍼에 없으면 회원별 좋아요 집합을 따른다
+    @Test
+    void fallsBackToWarmMembership() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(
+                Arrays.asList((Object) null),
+                Arrays.asList((Object) null),
+                Arrays.asList((Object) null),
+                Arrays.asList((Object) null),
+                List.of(true, true)
+        ));
+
+        Set<String> liked = service.findLikedPostIds(MEMBER_ID, List.of(POST_ID));
+
+        assertEquals(Set.of(POST_ID), liked);
+    }
+
+    // =====================Redis -> MySql=====================
+
+    // 리더가 샤드 0의 PROCESSING만 남은 상태로 persist 한번 실행. scan은 entries 순서대로 돌려준다
+    @SafeVarargs
+    private void givenProcessing(Map.Entry<String, String>... entries) {
+        when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(hotKeyService.shards()).thenReturn(1);
+        when(redisTemplate.execute(PostLikeBufferService.TAKE_BATCH,
+                List.of(PostLikeBufferService.pendingKey(0), PostLikeBufferService.processingKey(0)))).thenReturn(1L);
+
+        @SuppressWarnings("unchecked")
+        Cursor<Map.Entry<Object, Object>> cursor = mock(Cursor.class);
+        Iterator<Map.Entry<String, String>> iterator = Arrays.asList(entries).iterator();
+        when(cursor.hasNext()).thenAnswer(inv -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(inv -> iterator.next());
+        when(hashOps.scan(eq(PostLikeBufferService.processingKey(0)), any(ScanOptions.class))).thenReturn(cursor);
+
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+    }
+
+    private static final List<String> CHUNK_KEYS = List.of(
+            PostLikeBufferService.stagedKey(0), PostLikeBufferService.processingKey(0), PostLikeCountService.pendingKey());
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, String>> stagedChunks(int times) {
+        ArgumentCaptor<Map<String, String>> staged = ArgumentCaptor.forClass(Map.class);
+        verify(hashOps, times(times)).putAll(eq(PostLikeBufferService.stagedKey(0)), staged.capture());
+        return staged.getAllValues();
+    }
+
+    // 실제로 바뀌는 것만 insert / soft delete 하고, 증감량은 커밋 전에 STAGED에 적은 뒤 커밋 후 한번에 옮긴다
+    @Test
+    void persistAppliesOnlyRealChanges() {
+        givenProcessing(
+                Map.entry(POST_ID + ":" + MEMBER_ID, "1"),   // 새 좋아요
+                Map.entry(OTHER_POST_ID + ":" + MEMBER_ID, "0"), // 있던 좋아요 취소
+                Map.entry(OTHER_POST_ID + ":8", "1")             // 이미 좋아요
+        );
+        when(jdbcRepository.findActiveKeys(any())).thenReturn(Set.of(
+                OTHER_POST_ID + ":" + MEMBER_ID, OTHER_POST_ID + ":8"));
+
+        service.persist();
+
+        verify(jdbcRepository).batchInsert(List.of(new PostLikeChange(POST_ID, MEMBER_ID, true)));
+        verify(jdbcRepository).batchSoftDelete(List.of(new PostLikeChange(OTHER_POST_ID, MEMBER_ID, false)));
+        assertEquals(Map.of(
+                "c:" + POST_ID + ":" + MEMBER_ID, "1",
+                "c:" + OTHER_POST_ID + ":" + MEMBER_ID, "0",
+                "d:" + POST_ID, "1",
+                "d:" + OTHER_POST_ID, "-1",
+                "f:" + POST_ID + ":" + MEMBER_ID, "",
+                "f:" + OTHER_POST_ID + ":" + MEMBER_ID, "",
+                "f:" + OTHER_POST_ID + ":8", ""
+        ), stagedChunks(1).get(0));
+        verify(likedPostCache).apply(any());
+        verify(redisTemplate).execute(PostLikeBufferService.COMMIT_CHUNK, CHUNK_KEYS);
+        verify(redisTemplate).delete(PostLikeBufferService.processingKey(0));
+    }
+
+    // 인기 게시물 증감량은 posts.likes 대신 샤드 카운터로 간다
+    @Test
+    void persistRoutesHotPostToShardCounter() {
+        givenProcessing(Map.entry(POST_ID + ":" + MEMBER_ID, "1"));
+        when(jdbcRepository.findActiveKeys(any())).thenReturn(Set.of());
+        when(hotKeyService.isHot(POST_ID)).thenReturn(true);
+
+        service.persist();
+
+        Map<String, String> staged = stagedChunks(1).get(0);
+        assertEquals("1", staged.get("s:" + PostLikeHotKeyService.counterKey(POST_ID, 0)));
+        assertFalse(staged.containsKey("d:" + POST_ID));
+    }
+
+    // 탈퇴한 회원의 버퍼는 반영하지 않고 필드만 지운다 (연쇄 삭제와 두 번 빠지지 않게)
+    @Test
+    void persistSkipsDeletedMembers() {
+        givenProcessing(
+                Map.entry(POST_ID + ":" + MEMBER_ID, "0"),   // 탈퇴 회원의 취소
+                Map.entry(POST_ID + ":8", "1")
+        );
+        when(jdbcRepository.findDeletedMemberIds(Set.of(MEMBER_ID, 8L))).thenReturn(Set.of(MEMBER_ID));
+        when(jdbcRepository.findActiveKeys(any())).thenReturn(Set.of(POST_ID + ":" + MEMBER_ID));
+
+        service.persist();
+
+        verify(jdbcRepository).findActiveKeys(List.of(new PostLikeChange(POST_ID, 8L, true)));
+        verify(jdbcRepository).batchSoftDelete(List.of());
+        Map<String, String> staged = stagedChunks(1).get(0);
+        assertEquals("1", staged.get("d:" + POST_ID));
+        assertTrue(staged.containsKey("f:" + POST_ID + ":" + MEMBER_ID));
+        verify(likedPostCache).apply(List.of(new PostLikeChange(POST_ID, 8L, true)));
+    }
+
+    // HSCAN이 같은 필드를 두 번 줘도 한번만 반영
+    @Test
+    void persistDedupsRepeatedScanEntries() {
+        givenProcessing(
+                Map.entry(POST_ID + ":" + MEMBER_ID, "1"),
+                Map.entry(POST_ID + ":" + MEMBER_ID, "1")
+        );
+        when(jdbcRepository.findActiveKeys(any())).thenReturn(Set.of());
+
+        service.persist();
+
+        verify(jdbcRepository).batchInsert(List.of(new PostLikeChange(POST_ID, MEMBER_ID, true)));
+        assertEquals("1", stagedChunks(1).get(0).get("d:" + POST_ID));
+    }
+
+    // 큰 PROCESSING은 청크 단위로 나눠서 반영하고, 청크마다 커밋 후 증감량을 옮긴다
+    @Test
+    void persistStreamsInChunks() {
+        @SuppressWarnings("unchecked")
+        Map.Entry<String, String>[] entries = new Map.Entry[501];
+        for (int i = 0; i < entries.length; i++) entries[i] = Map.entry(POST_ID + ":" + i, "1");
+        givenProcessing(entries);
+        when(jdbcRepository.findActiveKeys(any())).thenReturn(Set.of());
+
+        service.persist();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostLikeChange>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcRepository, times(2)).batchInsert(inserts.capture());
+        assertEquals(List.of(500, 1), inserts.getAllValues().stream().map(List::size).toList());
+        assertEquals(List.of("500", "1"), stagedChunks(2).stream().map(staged -> staged.get("d:" + POST_ID)).toList());
+        verify(redisTemplate, times(2)).execute(PostLikeBufferService.COMMIT_CHUNK, CHUNK_KEYS);
+        verify(redisTemplate).delete(PostLikeBufferService.processingKey(0));
+    }
+
+    // 청크 사이에 리더를 잃으면 남은 청크를 쓰지 않고 멈춘다
+    @Test
+    void persistStopsWhenLeaseIsLostBetweenChunks() {
+        @SuppressWarnings("unchecked")
+        Map.Entry<String, String>[] entries = new Map.Entry[501];
+        for (int i = 0; i < entries.length; i++) entries[i] = Map.entry(POST_ID + ":" + i, "1");
+        givenProcessing(entries);
+        when(jdbcRepository.findActiveKeys(any())).thenReturn(Set.of());
+        // LEGACY, 샤드 0, 첫 청크까지만 리더
+        when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true, true, true, false);
+
+        service.persist();
+
+        verify(jdbcRepository, times(1)).batchInsert(any());
+        verify(redisTemplate, times(1)).execute(PostLikeBufferService.COMMIT_CHUNK, CHUNK_KEYS);
+        verify(redisTemplate, never()).delete(PostLikeBufferService.processingKey(0));
+    }
+
+    // MySql 반영이 실패하면 증감량을 옮기지 않고 PROCESSING을 남겨 다음 주기에 다시 처리
+    @Test
+    void persistKeepsProcessingOnFailure() {
+        givenProcessing(Map.entry(POST_ID + ":" + MEMBER_ID, "1"));
+        when(jdbcRepository.findActiveKeys(any())).thenReturn(Set.of());
+        doThrow(new RuntimeException("mysql down")).when(jdbcRepository).batchInsert(any());
+
+        service.persist();
+
+        verify(redisTemplate, never()).delete(PostLikeBufferService.processingKey(0));
+        verify(redisTemplate, never()).execute(PostLikeBufferService.COMMIT_CHUNK, CHUNK_KEYS);
+    }
+
+    // 커밋 직후 죽은 청크: 변경이 MySql에 보이면 남은 증감량을 마저 옮긴다
+    @Test
+    void recoversStagedChunkCommittedBeforeCrash() {
+        givenProcessing();
+        when(hashOps.entries(PostLikeBufferService.stagedKey(0))).thenReturn(Map.of(
+                "c:" + POST_ID + ":" + MEMBER_ID, "1",
+                "d:" + POST_ID, "1",
+                "f:" + POST_ID + ":" + MEMBER_ID, ""));
+        when(jdbcRepository.findActiveKeys(List.of(new PostLikeChange(POST_ID, MEMBER_ID, true))))
+                .thenReturn(Set.of(POST_ID + ":" + MEMBER_ID));
+
+        service.persist();
+
+        verify(redisTemplate).execute(PostLikeBufferService.COMMIT_CHUNK, CHUNK_KEYS);
+        verify(redisTemplate, never()).delete(PostLikeBufferService.stagedKey(0));
+    }
+
+    // 커밋 전에 죽은 청크: STAGED만 버리고 PROCESSING에 남은 필드로 다시 계산한다
+    @Test
+    void discardsStagedChunkNotCommitted() {
+        givenProcessing();
+        when(hashOps.entries(PostLikeBufferService.stagedKey(0))).thenReturn(Map.of(
+                "c:" + POST_ID + ":" + MEMBER_ID, "1",
+                "d:" + POST_ID, "1",
+                "f:" + POST_ID + ":" + MEMBER_ID, ""));
+        when(jdbcRepository.findActiveKeys(any())).thenReturn(Set.of());
+
+        service.persist();
+
+        verify(redisTemplate).delete(PostLikeBufferService.stagedKey(0));
+        verify(redisTemplate, never()).execute(PostLikeBufferService.COMMIT_CHUNK, CHUNK_KEYS);
+    }
+}
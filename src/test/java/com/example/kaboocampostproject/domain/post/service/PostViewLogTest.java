@@ -0,0 +1,108 @@
+package com.example.kaboocampostproject.domain.post.service;
+
+import com.example.kaboocampostproject.global.config.ViewLogProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostViewLogTest {
+
+    private static final String POST_A = "65a1b2c3d4e5f60718293a4b";
+    private static final String POST_B = "65a1b2c3d4e5f60718293a4c";
+
+    @TempDir
+    Path dir;
+
+    private PostViewLog open(Path dir, int segmentBytes) {
+        ViewLogProperties properties = new ViewLogProperties();
+        properties.setEnabled(true);
+        properties.setDir(dir.toString());
+        properties.setSegmentBytes(segmentBytes);
+        return new PostViewLog(properties);
+    }
+
+    // 전송 전에 죽으면 재시작 시 기록한 조회수가 그대로 복구된다
+    @Test
+    void replayRecoversAppendedViews() {
+        PostViewLog viewLog = open(dir, 1024);
+        assertTrue(viewLog.replay().isEmpty());
+        viewLog.append(POST_A);
+        viewLog.append(POST_A);
+        viewLog.append(POST_B);
+
+        Map<String, Long> replayed = open(dir, 1024).replay();
+
+        assertEquals(Map.of(POST_A, 2L, POST_B, 1L), replayed);
+    }
+
+    // ObjectId 형식이 아니면 기록하지 않는다
+    @Test
+    void appendIgnoresNonObjectId() {
+        PostViewLog viewLog = open(dir, 1024);
+        viewLog.replay();
+        viewLog.append("not-an-object-id");
+        viewLog.append("zza1b2c3d4e5f60718293a4b");
+
+        assertTrue(open(dir, 1024).replay().isEmpty());
+    }
+
+    // 전송 성공 후 봉인한 세그먼트를 지우면 재시작 때 다시 더하지 않는다
+    @Test
+    void sealThenDeleteDropsSentViews() {
+        PostViewLog viewLog = open(dir, 1024);
+        viewLog.replay();
+        assertTrue(viewLog.seal().isEmpty());
+
+        viewLog.append(POST_A);
+        List<Path> sealed = viewLog.seal();
+        assertEquals(1, sealed.size());
+        viewLog.delete(sealed);
+
+        assertTrue(open(dir, 1024).replay().isEmpty());
+    }
+
+    // 세그먼트가 가득 차면 새 세그먼트로 넘어가고, 넘친 기록도 잃지 않는다
+    @Test
+    void rollsOverFullSegment() {
+        PostViewLog viewLog = open(dir, 32);
+        viewLog.replay();
+        for (int i = 0; i < 5; i++) viewLog.append(POST_A);
+
+        assertEquals(3, viewLog.seal().size());
+        assertEquals(Map.of(POST_A, 5L), open(dir, 32).replay());
+    }
+
+    // 전송 실패로 돌려놓은 세그먼트는 다음 seal에 다시 포함된다
+    @Test
+    void restoredSegmentsAreSealedAgain() {
+        PostViewLog viewLog = open(dir, 1024);
+        viewLog.replay();
+        viewLog.append(POST_A);
+        List<Path> first = viewLog.seal();
+
+        viewLog.restore(first);
+        viewLog.append(POST_B);
+        List<Path> second = viewLog.seal();
+
+        assertEquals(2, second.size());
+        assertEquals(first.get(0), second.get(0));
+    }
+
+    // 로그 디렉토리를 쓸 수 없으면 예외 없이 기록만 건너뛴다
+    @Test
+    void skipsLoggingWhenDirectoryIsUnusable() throws IOException {
+        Path notADir = Files.createFile(dir.resolve("file"));
+        PostViewLog viewLog = open(notADir, 1024);
+
+        assertTrue(viewLog.replay().isEmpty());
+        assertDoesNotThrow(() -> viewLog.append(POST_A));
+        assertTrue(viewLog.seal().isEmpty());
+    }
+}
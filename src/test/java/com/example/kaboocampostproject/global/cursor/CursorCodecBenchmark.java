@@ -0,0 +1,55 @@
+package com.example.kaboocampostproject.global.cursor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// 바이너리 커서 vs 기존 JSON 커서 간단 비교 (JMH 없이). ./gradlew benchmark 로만 실행된다
+@Tag("benchmark")
+class CursorCodecBenchmark {
+
+    private static final int ITERATIONS = 100_000;
+
+    private final ObjectMapper om = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final CursorCodec codec = new CursorCodec(om, "test-secret", true);
+
+    private final Cursor cursor = new Cursor(Cursor.CursorStrategy.POPULAR,
+            new Cursor.ViewPos("65a1b2c3d4e5f60718293a4b", Instant.ofEpochMilli(1_700_000_000_123L), 123_456L));
+
+    @Test
+    void binaryVsJson() {
+        String binary = codec.encode(cursor);
+        String json = codec.encodeJson(cursor);
+
+        // 워밍업
+        for (int i = 0; i < ITERATIONS; i++) {
+            codec.decode(codec.encode(cursor));
+            codec.decode(codec.encodeJson(cursor));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            codec.decode(codec.encode(cursor));
+        }
+        long binaryNs = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            codec.decode(codec.encodeJson(cursor));
+        }
+        long jsonNs = System.nanoTime() - start;
+
+        // benchmark 태스크가 표준 출력을 보여준다
+        System.out.printf("token length - binary: %d, json: %d%n", binary.length(), json.length());
+        System.out.printf("encode+decode avg - binary: %d ns, json: %d ns%n", binaryNs / ITERATIONS, jsonNs / ITERATIONS);
+        assertTrue(binary.length() < json.length());
+    }
+}
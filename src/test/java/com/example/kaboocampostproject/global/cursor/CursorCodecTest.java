@@ -0,0 +1,96 @@
+package com.example.kaboocampostproject.global.cursor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorCodecTest {
+
+    private static final String POST_ID = "65a1b2c3d4e5f60718293a4b";
+    private static final Instant CREATED_AT = Instant.ofEpochMilli(1_700_000_000_123L);
+    private static final int MAC_LENGTH = 8;
+
+    private final ObjectMapper om = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final CursorCodec codec = new CursorCodec(om, "test-secret", false);
+    private final CursorCodec legacyCodec = new CursorCodec(om, "test-secret", true);
+
+    private final List<Cursor> cursors = List.of(
+            new Cursor(Cursor.CursorStrategy.RECENT, new Cursor.CreatedAtPos(POST_ID, CREATED_AT)),
+            new Cursor(Cursor.CursorStrategy.POPULAR, new Cursor.ViewPos(POST_ID, CREATED_AT, 123_456L)),
+            new Cursor(Cursor.CursorStrategy.HOT, new Cursor.ScorePos(POST_ID, 12.3456)),
+            new Cursor(Cursor.CursorStrategy.POPULAR, new Cursor.SnapshotPos(POST_ID, 1_700_000_000_123L, 990)),
+            new Cursor(Cursor.CursorStrategy.RECENT, new Cursor.BucketPos(POST_ID, 0, 0)),
+            new Cursor(Cursor.CursorStrategy.RECENT, new Cursor.BucketPos(POST_ID, 1_234, 199))
+    );
+
+    @Test
+    void roundTrip() {
+        for (Cursor cursor : cursors) {
+            assertEquals(cursor, codec.decode(codec.encode(cursor)));
+        }
+    }
+
+    @Test
+    void decodeLegacyJson() {
+        for (Cursor cursor : cursors) {
+            assertEquals(cursor, legacyCodec.decode(legacyCodec.encodeJson(cursor)));
+        }
+    }
+
+    // 롤아웃 기간이 아니면 서명 없는 JSON 커서는 거부
+    @Test
+    void rejectLegacyJsonWhenDisabled() {
+        for (Cursor cursor : cursors) {
+            String token = codec.encodeJson(cursor);
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(token));
+        }
+    }
+
+    // 본문 한 비트만 바꿔도 서명이 맞지 않는다
+    @Test
+    void rejectTamperedBody() {
+        for (Cursor cursor : cursors) {
+            byte[] token = Base64.getUrlDecoder().decode(codec.encode(cursor));
+            token[token.length - MAC_LENGTH - 1] ^= 1;
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(encode(token)));
+        }
+    }
+
+    // 서명(끝 8바이트) 한 비트만 바꿔도 거부
+    @Test
+    void rejectTamperedMac() {
+        for (Cursor cursor : cursors) {
+            byte[] token = Base64.getUrlDecoder().decode(codec.encode(cursor));
+            token[token.length - 1] ^= 1;
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(encode(token)));
+        }
+    }
+
+    // 서명을 잘라내면 거부
+    @Test
+    void rejectTruncatedToken() {
+        byte[] token = Base64.getUrlDecoder().decode(codec.encode(cursors.get(0)));
+        byte[] truncated = Arrays.copyOf(token, token.length - MAC_LENGTH);
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(encode(truncated)));
+    }
+
+    @Test
+    void rejectOtherSecret() {
+        String token = new CursorCodec(om, "other-secret", false).encode(cursors.get(0));
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(token));
+    }
+
+    private static String encode(byte[] token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * 인기 게시물 좋아요 핫스팟 테스트
+ * - 500 VU가 같은 게시글 하나에 좋아요/취소를 반복
+ * - 인기 게시물 전환(app.like-hot-key) 전후 좋아요 응답 시간과 최종 좋아요 수 정합성 확인
+ */
+
+import http from 'k6/http';
+import { check, group, sleep } from 'k6';
+import { Trend, Rate, Counter } from 'k6/metrics';
+import { textSummary } from 'https://jslib.k6.io/k6-summary/0.0.1/index.js';
+
+// 환경 변수
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TEST_LABEL = __ENV.TEST_LABEL || 'like-hotspot';
+
+// 테스트 사용자 설정 (VU마다 다른 회원이어야 좋아요가 합쳐지지 않는다)
+const TEST_USERS_COUNT = 500;
+const TEST_USER_PREFIX = 'perf_like_hotspot';
+const TEST_USER_PASSWORD = 'Test1234!@#$';
+
+// 커스텀 메트릭
+const likeDuration = new Trend('hotspot_like_duration');
+const unlikeDuration = new Trend('hotspot_unlike_duration');
+const postDetailDuration = new Trend('hotspot_post_detail_duration');
+
+const likeSuccess = new Rate('hotspot_like_success');
+const unlikeSuccess = new Rate('hotspot_unlike_success');
+const postDetailSuccess = new Rate('hotspot_post_detail_success');
+
+const likeRequests = new Counter('hotspot_like_requests');
+
+// 테스트 설정
+export const options = {
+    setupTimeout: '10m',
+    scenarios: {
+        same_post_likes: {
+            executor: 'constant-vus',
+            vus: 500,
+            duration: '3m',
+        },
+    },
+    thresholds: {
+        'hotspot_like_duration': ['p(50)<200', 'p(95)<1000', 'p(99)<2000'],
+        'hotspot_unlike_duration': ['p(50)<200', 'p(95)<1000', 'p(99)<2000'],
+        'hotspot_post_detail_duration': ['p(50)<500', 'p(95)<2000', 'p(99)<3000'],
+        'http_req_failed': ['rate<0.05'],
+    },
+};
+
+function login(email) {
+    const loginRes = http.post(
+        `${BASE_URL}/api/auth`,
+        JSON.stringify({
+            email: email,
+            password: TEST_USER_PASSWORD,
+            deviceId: `device_hotspot_${email}_${Date.now()}`
+        }),
+        { headers: { 'Content-Type': 'application/json' } }
+    );
+    if (loginRes.status !== 200) return null;
+    return JSON.parse(loginRes.body).data?.accessJwt || null;
+}
+
+// Setup: 테스트 사용자 생성/로그인 + 대상 게시글 작성
+export function setup() {
+    console.log('=== 인기 게시물 좋아요 핫스팟 테스트 시작 ===');
+    console.log(`대상 서버: ${BASE_URL}`);
+    console.log(`테스트 레이블: ${TEST_LABEL}`);
+
+    console.log(`\n1. 테스트 사용자 ${TEST_USERS_COUNT}명 생성 중...`);
+    const tokens = [];
+
+    for (let i = 0; i < TEST_USERS_COUNT; i++) {
+        const email = `${TEST_USER_PREFIX}_${i}@test.com`;
+
+        http.post(
+            `${BASE_URL}/api/members`,
+            JSON.stringify({
+                email: email,
+                password: TEST_USER_PASSWORD,
+                name: `핫스팟${i}`,
+                imageObjectKey: null,
+                emailVerifiedToken: 'dummy_token'
+            }),
+            { headers: { 'Content-Type': 'application/json' } }
+        );
+
+        const accessToken = login(email);
+        if (accessToken) {
+            tokens.push(accessToken);
+        } else {
+            console.error(`  ✗ 사용자 ${i} 로그인 실패`);
+        }
+
+        if (i % 50 === 49) {
+            console.log(`  ✓ ${i + 1}명 생성 및 로그인 완료`);
+        }
+    }
+
+    console.log(`✓ 테스트 사용자 준비 완료: ${tokens.length}명`);
+
+    // 2. 대상 게시글 작성 후 최신 목록에서 ID 확인
+    const headers = {
+        'Content-Type': 'application/json',
+        'Authorization': `Bearer ${tokens[0]}`,
+    };
+    const title = `좋아요 핫스팟 게시글 ${Date.now()}`;
+    http.post(
+        `${BASE_URL}/api/posts`,
+        JSON.stringify({ title: title, content: '인기 게시물 좋아요 핫스팟 테스트용 게시글입니다.', imageObjectKeys: [] }),
+        { headers }
+    );
+
+    const listRes = http.get(`${BASE_URL}/api/posts?strategy=RECENT`, { headers });
+    const items = listRes.status === 200 ? (JSON.parse(listRes.body).data?.posts?.items || []) : [];
+    const target = items.find((item) => item.title === title);
+    if (!target) {
+        throw new Error('대상 게시글을 찾지 못했습니다.');
+    }
+
+    console.log(`✓ 대상 게시글: ${target.postId}`);
+    console.log('\n3. 좋아요 핫스팟 측정 시작\n');
+
+    return { tokens: tokens, postId: target.postId };
+}
+
+// Main: 모든 VU가 같은 게시글에 좋아요 -> 취소 반복
+export default function(data) {
+    const token = data.tokens[(__VU - 1) % data.tokens.length];
+    const headers = {
+        'Content-Type': 'application/json',
+        'Authorization': `Bearer ${token}`,
+    };
+
+    group('좋아요', () => {
+        const res = http.post(`${BASE_URL}/api/posts/${data.postId}/likes`, null, { headers });
+        likeDuration.add(res.timings.duration);
+        likeSuccess.add(check(res, { '좋아요 200': (r) => r.status === 200 }));
+        likeRequests.add(1);
+    });
+
+    sleep(0.1);
+
+    // 가끔 상세 조회로 좋아요 수 합산 경로(posts.likes + 샤드 카운터)도 측정
+    if (Math.random() < 0.1) {
+        group('게시글 상세', () => {
+            const res = http.get(`${BASE_URL}/api/posts/${data.postId}`, { headers });
+            postDetailDuration.add(res.timings.duration);
+            postDetailSuccess.add(check(res, { '상세 200': (r) => r.status === 200 }));
+        });
+    }
+
+    group('좋아요 취소', () => {
+        const res = http.del(`${BASE_URL}/api/posts/${data.postId}/likes`, null, { headers });
+        unlikeDuration.add(res.timings.duration);
+        unlikeSuccess.add(check(res, { '취소 200': (r) => r.status === 200 }));
+        likeRequests.add(1);
+    });
+
+    sleep(0.1);
+}
+
+// 측정 후 좋아요 수 확인. 모든 VU가 취소로 끝나므로 반영(접기)이 끝나면 0이어야 한다
+export function teardown(data) {
+    const headers = { 'Authorization': `Bearer ${data.tokens[0]}` };
+
+    // write-behind 반영(1초) + 샤드 접기(5초) 대기
+    sleep(10);
+    const res = http.get(`${BASE_URL}/api/posts/${data.postId}`, { headers });
+    if (res.status === 200) {
+        const likes = JSON.parse(res.body).data?.likes;
+        console.log(`\n최종 좋아요 수: ${likes} (기대값 0)`);
+    }
+    console.log('\n=== 인기 게시물 좋아요 핫스팟 테스트 완료 ===');
+}
+
+export function handleSummary(data) {
+    const timestamp = new Date().toISOString().replace(/[:.]/g, '-');
+    const filename = `performance-results/${TEST_LABEL}-${timestamp}.json`;
+
+    console.log('\n=== 좋아요 핫스팟 측정 결과 ===\n');
+
+    const metrics = data.metrics;
+
+    console.log('📊 응답 시간 (ms):');
+    console.log(`  좋아요: p50=${metrics.hotspot_like_duration?.values?.['p(50)']?.toFixed(2)}ms, p95=${metrics.hotspot_like_duration?.values?.['p(95)']?.toFixed(2)}ms, p99=${metrics.hotspot_like_duration?.values?.['p(99)']?.toFixed(2)}ms`);
+    console.log(`  좋아요 취소: p50=${metrics.hotspot_unlike_duration?.values?.['p(50)']?.toFixed(2)}ms, p95=${metrics.hotspot_unlike_duration?.values?.['p(95)']?.toFixed(2)}ms, p99=${metrics.hotspot_unlike_duration?.values?.['p(99)']?.toFixed(2)}ms`);
+    console.log(`  게시글 상세: p50=${metrics.hotspot_post_detail_duration?.values?.['p(50)']?.toFixed(2)}ms, p95=${metrics.hotspot_post_detail_duration?.values?.['p(95)']?.toFixed(2)}ms`);
+
+    console.log('\n✅ 성공률:');
+    console.log(`  좋아요: ${(metrics.hotspot_like_success?.values?.rate * 100)?.toFixed(2)}%`);
+    console.log(`  좋아요 취소: ${(metrics.hotspot_unlike_success?.values?.rate * 100)?.toFixed(2)}%`);
+    console.log(`  게시글 상세: ${(metrics.hotspot_post_detail_success?.values?.rate * 100)?.toFixed(2)}%`);
+
+    console.log(`\n🔥 좋아요/취소 요청: ${metrics.hotspot_like_requests?.values?.count} (${metrics.hotspot_like_requests?.values?.rate?.toFixed(2)}/s)`);
+    console.log(`\n📁 결과 저장: ${filename}`);
+
+    return {
+        [filename]: JSON.stringify(data, null, 2),
+        'stdout': textSummary(data, { indent: ' ', enableColors: true }),
+    };
+}
@@ -14,6 +14,12 @@ MYSQL_CPU_LIMIT="${MYSQL_CPU_LIMIT:-2.0}"
 SCALE="${SCALE:-medium}"
 REPEATS=3
 WARMUP_COUNT=1
+# LikeStore 백엔드 (mysql = 아래 A_bin/D2_bin/A_str 케이스)
+BACKENDS="${BACKENDS:-mysql,mongo,redis}"
+MONGO_PORT="${MONGO_PORT:-27018}"
+REDIS_PORT="${REDIS_PORT:-16379}"
+# mongo/redis feed 조회는 1회가 ms 미만이라 서버 안에서 여러 번 돌린 평균
+FEED_LOOPS=20
 
 DIST_MODE="skew"
 ID_PATTERN="objectid"
@@ -27,6 +33,12 @@ META_TXT="${RESULT_DIR}/metadata.txt"
 EXPLAIN_A_BIN="${RESULT_DIR}/explain_A_bin.txt"
 EXPLAIN_D2_BIN="${RESULT_DIR}/explain_D2_bin.txt"
 EXPLAIN_A_STR="${RESULT_DIR}/explain_A_str.txt"
+EXPLAIN_MONGO="${RESULT_DIR}/explain_mongo.txt"
+
+WORK_DIR="$(mktemp -d)"
+SOURCE_TSV="${WORK_DIR}/likes_source.tsv"
+REDIS_RESP="${WORK_DIR}/likes_source.resp"
+trap 'rm -rf "${WORK_DIR}"' EXIT
 
 require_cmd() {
   local cmd="$1"
@@ -422,6 +434,233 @@ run_case() {
   write_explain "${case_id}" "${in_list}" "${explain_file}"
 }
 
+has_backend() {
+  [[ ",${BACKENDS}," == *",$1,"* ]]
+}
+
+compose() {
+  BUFFER_POOL_SIZE="${BUFFER_POOL_MB}M" \
+  MYSQL_MEMORY_LIMIT="${MYSQL_MEMORY_LIMIT}" \
+  MYSQL_CPU_LIMIT="${MYSQL_CPU_LIMIT}" \
+  MYSQL_PORT="${MYSQL_PORT}" \
+  MONGO_PORT="${MONGO_PORT}" \
+  REDIS_PORT="${REDIS_PORT}" \
+  MYSQL_ROOT_PASSWORD="${MYSQL_ROOT_PASSWORD}" \
+  BENCH_DB="${BENCH_DB}" \
+  docker compose -f "${COMPOSE_FILE}" "$@"
+}
+
+now_us() {
+  echo $(( $(date +%s%N) / 1000 ))
+}
+
+# 같은 좋아요 데이터를 mongo/redis에도 넣기 위해 bench_likes_source를 (post_id hex, member_id)로 내보낸다
+export_source() {
+  log "exporting like source for mongo/redis"
+  mysql_query "SELECT LOWER(p.post_id_varchar), s.member_id
+FROM bench_likes_source s
+JOIN bench_posts p ON p.post_seq = s.post_seq
+ORDER BY s.source_id;" > "${SOURCE_TSV}"
+}
+
+# feed IN 목록 (따옴표 없는 hex, 쉼표 구분). mysql 케이스와 같은 50개
+feed_hex_list() {
+  mysql_query "SET SESSION group_concat_max_len=1000000;
+SELECT GROUP_CONCAT(LOWER(p.post_id_varchar) ORDER BY p.post_seq SEPARATOR ',')
+FROM (
+  SELECT post_seq, post_id_varchar
+  FROM bench_posts
+  ORDER BY CRC32(CONCAT('feed-', post_seq))
+  LIMIT ${FEED_IN_SIZE}
+) AS p;" | tail -n1
+}
+
+append_backend_row() {
+  # mongo/redis는 InnoDB 지표가 없어서 NA
+  printf '%s,%s,%s,%.3f,NA,NA,%s,%s\n' "$1" "$2" "${REPEATS}" "$3" "$4" "$5" >> "${SUMMARY_CSV}"
+}
+
+# =====================mongo (MongoLikeStore와 같은 스키마/인덱스)=====================
+
+mongo_eval() {
+  compose exec -T mongo mongosh --quiet "${BENCH_DB}" --eval "$1" | tail -n1
+}
+
+compose_up_mongo() {
+  log "starting mongo container"
+  compose up -d mongo >/dev/null
+  local i=0
+  until compose exec -T mongo mongosh --quiet --eval 'db.runCommand({ ping: 1 }).ok' >/dev/null 2>&1; do
+    i=$((i + 1))
+    if (( i > 120 )); then
+      echo "mongo is not ready" >&2
+      exit 1
+    fi
+    sleep 1
+  done
+}
+
+load_mongo_source() {
+  log "loading like source into mongo"
+  compose exec -T mongo mongoimport --quiet --db "${BENCH_DB}" --collection likes_source --drop \
+    --type tsv --columnsHaveTypes --fields 'post_id.string(),member_id.int64()' < "${SOURCE_TSV}"
+}
+
+# 서버 안에서 likes_source -> post_likes_case ($merge), 인덱스 유지 비용 포함
+run_mongo_insert_once() {
+  mongo_eval "
+db.post_likes_case.drop();
+db.post_likes_case.createIndex({ postId: 1, memberId: 1 }, { name: 'uk_postId_memberId', unique: true });
+db.post_likes_case.createIndex({ memberId: 1, postId: 1 }, { name: 'idx_memberId_postId' });
+const start = Date.now();
+db.likes_source.aggregate([
+  { \$project: { _id: 0, postId: { \$toObjectId: '\$post_id' }, memberId: '\$member_id', createdAt: '\$\$NOW' } },
+  { \$merge: { into: 'post_likes_case', whenNotMatched: 'insert' } }
+]);
+print(Date.now() - start);"
+}
+
+# MongoLikeStore.getStats와 같은 집계
+mongo_feed_pipeline() {
+  local in_list="$1"
+  echo "[
+  { \$match: { postId: { \$in: '${in_list}'.split(',').map((h) => ObjectId(h)) } } },
+  { \$group: { _id: '\$postId', likeCount: { \$sum: 1 }, amILike: { \$max: { \$eq: ['\$memberId', NumberLong(${BENCH_MEMBER_ID})] } } } }
+]"
+}
+
+run_mongo_feed_once() {
+  local pipeline="$1"
+  mongo_eval "
+const pipeline = ${pipeline};
+const start = Date.now();
+for (let i = 0; i < ${FEED_LOOPS}; i++) db.post_likes_case.aggregate(pipeline).toArray();
+print((Date.now() - start) / ${FEED_LOOPS});"
+}
+
+run_mongo() {
+  local in_list pipeline ins1 ins2 ins3 sel1 sel2 sel3 sizes data_mb index_mb
+
+  compose_up_mongo
+  load_mongo_source
+
+  ins1="$(run_mongo_insert_once)"
+  ins2="$(run_mongo_insert_once)"
+  ins3="$(run_mongo_insert_once)"
+
+  in_list="$(feed_hex_list)"
+  pipeline="$(mongo_feed_pipeline "${in_list}")"
+  for _ in $(seq 1 "${WARMUP_COUNT}"); do
+    run_mongo_feed_once "${pipeline}" >/dev/null
+  done
+  sel1="$(run_mongo_feed_once "${pipeline}")"
+  sel2="$(run_mongo_feed_once "${pipeline}")"
+  sel3="$(run_mongo_feed_once "${pipeline}")"
+
+  sizes="$(mongo_eval "const s = db.post_likes_case.stats(); print((s.storageSize / 1048576).toFixed(3) + ',' + (s.totalIndexSize / 1048576).toFixed(3));")"
+  data_mb="${sizes%%,*}"
+  index_mb="${sizes##*,}"
+
+  append_backend_row "mongo" "bulk_insert" "$(average3 "${ins1}" "${ins2}" "${ins3}")" "${data_mb}" "${index_mb}"
+  append_backend_row "mongo" "feed_select_in50" "$(average3 "${sel1}" "${sel2}" "${sel3}")" "${data_mb}" "${index_mb}"
+
+  compose exec -T mongo mongosh --quiet "${BENCH_DB}" --eval "
+const stats = db.post_likes_case.explain('executionStats').aggregate(${pipeline});
+printjson(stats);" > "${EXPLAIN_MONGO}"
+}
+
+# =====================redis (RedisLikeStore와 같은 키 구조)=====================
+
+redis_cli() {
+  compose exec -T redis redis-cli "$@"
+}
+
+compose_up_redis() {
+  log "starting redis container"
+  compose up -d redis >/dev/null
+  local i=0
+  until redis_cli ping >/dev/null 2>&1; do
+    i=$((i + 1))
+    if (( i > 120 )); then
+      echo "redis is not ready" >&2
+      exit 1
+    fi
+    sleep 1
+  done
+}
+
+# 좋아요 1건 = SADD POST_LIKERS:{postId} {memberId} + SADD MEMBER_LIKES:{memberId} {postId}
+build_redis_resp() {
+  log "building redis protocol file"
+  awk -F'\t' '
+    function cmd(key, value) {
+      printf "*3\r\n$4\r\nSADD\r\n$%d\r\n%s\r\n$%d\r\n%s\r\n", length(key), key, length(value), value
+    }
+    {
+      cmd("POST_LIKERS:" $1, $2)
+      cmd("MEMBER_LIKES:" $2, $1)
+    }' "${SOURCE_TSV}" > "${REDIS_RESP}"
+}
+
+used_memory() {
+  redis_cli info memory | awk -F: '$1 == "used_memory" { gsub("\r", "", $2); print $2 }'
+}
+
+# redis-cli --pipe 한번 (컨테이너 exec 왕복 포함 wall clock)
+run_redis_insert_once() {
+  local start_us end_us
+  redis_cli flushall >/dev/null
+  start_us="$(now_us)"
+  compose exec -T redis redis-cli --pipe < "${REDIS_RESP}" >/dev/null
+  end_us="$(now_us)"
+  awk -v u="$((end_us - start_us))" 'BEGIN { printf "%.3f", u / 1000.0 }'
+}
+
+# RedisLikeStore.getStats와 같은 SCARD + SISMEMBER를 Lua 안에서 반복, 서버 TIME으로 측정
+run_redis_feed_once() {
+  local in_list="$1"
+  local keys
+  keys="$(echo "${in_list}" | tr ',' '\n' | sed 's/^/POST_LIKERS:/' | tr '\n' ' ')"
+  # shellcheck disable=SC2086
+  redis_cli --raw eval "
+local t0 = redis.call('TIME')
+for loop = 1, tonumber(ARGV[2]) do
+  for i, key in ipairs(KEYS) do
+    redis.call('SCARD', key)
+    redis.call('SISMEMBER', key, ARGV[1])
+  end
+end
+local t1 = redis.call('TIME')
+return tostring(((t1[1] - t0[1]) * 1000000 + (t1[2] - t0[2])) / tonumber(ARGV[2]))" \
+    "${FEED_IN_SIZE}" ${keys} "${BENCH_MEMBER_ID}" "${FEED_LOOPS}" \
+    | awk '{ printf "%.3f", $1 / 1000.0 }'
+}
+
+run_redis() {
+  local in_list ins1 ins2 ins3 sel1 sel2 sel3 base_mem data_mb
+
+  compose_up_redis
+  build_redis_resp
+
+  redis_cli flushall >/dev/null
+  base_mem="$(used_memory)"
+  ins1="$(run_redis_insert_once)"
+  ins2="$(run_redis_insert_once)"
+  ins3="$(run_redis_insert_once)"
+  data_mb="$(awk -v a="$(used_memory)" -v b="${base_mem}" 'BEGIN { printf "%.3f", (a - b) / 1048576.0 }')"
+
+  in_list="$(feed_hex_list)"
+  for _ in $(seq 1 "${WARMUP_COUNT}"); do
+    run_redis_feed_once "${in_list}" >/dev/null
+  done
+  sel1="$(run_redis_feed_once "${in_list}")"
+  sel2="$(run_redis_feed_once "${in_list}")"
+  sel3="$(run_redis_feed_once "${in_list}")"
+
+  append_backend_row "redis" "bulk_insert" "$(average3 "${ins1}" "${ins2}" "${ins3}")" "${data_mb}" "0.000"
+  append_backend_row "redis" "feed_select_in50" "$(average3 "${sel1}" "${sel2}" "${sel3}")" "${data_mb}" "0.000"
+}
+
 main() {
   mkdir -p "${RESULT_DIR}"
   cat > "${META_TXT}" <<EOF
@@ -433,6 +672,8 @@ feed_in_size=${FEED_IN_SIZE}
 repeats=${REPEATS}
 warmup_count=${WARMUP_COUNT}
 cases=A_bin,D2_bin,A_str
+backends=${BACKENDS}
+feed_loops=${FEED_LOOPS}
 buffer_pool_mb=${BUFFER_POOL_MB}
 mysql_memory_limit=${MYSQL_MEMORY_LIMIT}
 mysql_cpu_limit=${MYSQL_CPU_LIMIT}
@@ -446,12 +687,26 @@ EOF
   : > "${EXPLAIN_D2_BIN}"
   : > "${EXPLAIN_A_STR}"
 
+  # 데이터셋은 항상 mysql에서 만든다 (mongo/redis는 같은 데이터를 내보내서 사용)
   compose_up_mysql
   init_dataset
 
-  run_case "A_bin" "${EXPLAIN_A_BIN}"
-  run_case "D2_bin" "${EXPLAIN_D2_BIN}"
-  run_case "A_str" "${EXPLAIN_A_STR}"
+  if has_backend "mysql"; then
+    run_case "A_bin" "${EXPLAIN_A_BIN}"
+    run_case "D2_bin" "${EXPLAIN_D2_BIN}"
+    run_case "A_str" "${EXPLAIN_A_STR}"
+  fi
+
+  if has_backend "mongo" || has_backend "redis"; then
+    export_source
+  fi
+  if has_backend "mongo"; then
+    : > "${EXPLAIN_MONGO}"
+    run_mongo
+  fi
+  if has_backend "redis"; then
+    run_redis
+  fi
 
   log "benchmark completed"
   log "summary: ${SUMMARY_CSV}"